@@ -0,0 +1,111 @@
+package com.blissy.tournaments;
+
+import com.blissy.tournaments.data.Tournament;
+import com.blissy.tournaments.events.TournamentEvent;
+import com.blissy.tournaments.scheduler.TournamentScheduler;
+import net.minecraftforge.common.MinecraftForge;
+
+import java.time.Instant;
+import java.util.PriorityQueue;
+
+/**
+ * Scheduled tournament starts and the reminders before them, ordered by deadline.
+ * A job checks the head of the queue every tick, so a start fires on the first tick at or
+ * after its time and a tick with nothing due costs one comparison however many tournaments
+ * are scheduled. Rescheduling or cancelling removes the tournament's old entries, so the
+ * queue never holds on to deleted tournaments.
+ * Must only be used from the server thread.
+ */
+public class ScheduledStartQueue {
+    // Minutes before the start that participants are reminded, largest first
+    private static final int[] REMINDER_MINUTES = {5, 1};
+
+    private static final PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+    /**
+     * Register the queue's tick job with the scheduler
+     */
+    public static void registerJobs() {
+        clear();
+        TournamentScheduler.scheduleRepeating("scheduled-starts", 1, ScheduledStartQueue::runDue);
+    }
+
+    /**
+     * Start a tournament at a time, replacing any start scheduled for it before
+     */
+    public static void schedule(Tournament tournament, Instant startTime) {
+        cancel(tournament);
+
+        long start = startTime.toEpochMilli();
+        long now = System.currentTimeMillis();
+        for (int minutes : REMINDER_MINUTES) {
+            long reminder = start - minutes * 60_000L;
+            if (reminder > now) {
+                queue.add(new Entry(reminder, tournament, minutes));
+            }
+        }
+        queue.add(new Entry(start, tournament, 0));
+    }
+
+    /**
+     * Forget a tournament's scheduled start, e.g. when it is deleted or started by hand
+     */
+    public static void cancel(Tournament tournament) {
+        // A handful of entries per scheduled tournament, so a linear scan is cheap
+        queue.removeIf(entry -> entry.tournament == tournament);
+    }
+
+    public static void clear() {
+        queue.clear();
+    }
+
+    private static void runDue() {
+        long now = System.currentTimeMillis();
+        while (!queue.isEmpty() && queue.peek().deadline <= now) {
+            Entry entry = queue.poll();
+            Tournament tournament = entry.tournament;
+
+            // Deleted, or started some other way since it was scheduled
+            if (tournament.getStatus() != Tournament.TournamentStatus.WAITING ||
+                    TournamentManager.getInstance().getTournament(tournament.getName()) != tournament) {
+                cancel(tournament);
+                continue;
+            }
+
+            try {
+                if (entry.minutesBefore > 0) {
+                    remind(tournament, entry.minutesBefore);
+                } else {
+                    Tournaments.LOGGER.info("Starting scheduled tournament: {}", tournament.getName());
+                    tournament.start();
+                }
+            } catch (Exception e) {
+                Tournaments.LOGGER.error("Error in scheduled start of tournament {}", tournament.getName(), e);
+            }
+        }
+    }
+
+    private static void remind(Tournament tournament, int minutes) {
+        MinecraftForge.EVENT_BUS.post(new TournamentEvent.StartingSoon(tournament, minutes));
+        tournament.broadcastNotification("Tournament starts in " + minutes + (minutes == 1 ? " minute" : " minutes"));
+    }
+
+    private static class Entry implements Comparable<Entry> {
+        final long deadline;
+        final Tournament tournament;
+
+        // Minutes before the start for a reminder, 0 for the start itself
+        final int minutesBefore;
+
+        Entry(long deadline, Tournament tournament, int minutesBefore) {
+            this.deadline = deadline;
+            this.tournament = tournament;
+            this.minutesBefore = minutesBefore;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(deadline, other.deadline);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,192 @@
+package com.blissy.tournaments;
+
+import com.blissy.tournaments.util.SnapshotJournal;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.ListNBT;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Tournament state on disk: a compressed NBT snapshot plus a journal of changed tournaments.
+ * Each journal record is the full state of one tournament (or its removal), framed by its
+ * length and a checksum so a record torn by a crash is recognised.
+ * Archived tournaments are appended to an archive file in the same framing and replaced
+ * in the journal by their summary.
+ */
+public class TournamentJournal extends SnapshotJournal<String, CompoundNBT> {
+    // Bumped when the record layout changes in a way older code can't read
+    public static final int VERSION = 1;
+    private static final int COMPACT_EVERY = 200;
+
+    // Largest record accepted on replay; anything bigger is a corrupt length
+    private static final int MAX_RECORD_BYTES = 16 * 1024 * 1024;
+
+    public TournamentJournal(File snapshotFile, File journalFile) {
+        super("tournament", snapshotFile, journalFile, COMPACT_EVERY);
+    }
+
+    /**
+     * Read the last snapshot
+     * @return Records by tournament name, or null if the snapshot was written by a newer version
+     */
+    public Map<String, CompoundNBT> readSnapshot() {
+        Map<String, CompoundNBT> records = new LinkedHashMap<>();
+        File snapshotFile = getSnapshotFile();
+        if (!snapshotFile.exists()) {
+            return records;
+        }
+
+        try (FileInputStream stream = new FileInputStream(snapshotFile)) {
+            CompoundNBT root = CompressedStreamTools.readCompressed(stream);
+            int version = root.getInt("version");
+            if (version > VERSION) {
+                Tournaments.LOGGER.error("Tournament data was saved by a newer version ({}), not loading it", version);
+                return null;
+            }
+
+            for (INBT entry : root.getList("tournaments", 10)) {
+                CompoundNBT record = (CompoundNBT) entry;
+                records.put(record.getString("name"), record);
+            }
+        } catch (IOException e) {
+            Tournaments.LOGGER.error("Failed to read tournament data", e);
+        }
+        return records;
+    }
+
+    /**
+     * Apply the journal to records loaded from the snapshot
+     * @return Number of records replayed
+     */
+    public int replay(Map<String, CompoundNBT> records) {
+        return replay(record -> {
+            if (record.getInt("v") > VERSION) {
+                Tournaments.LOGGER.warn("Skipping tournament journal record from a newer version");
+            } else if (record.getBoolean("removed")) {
+                records.remove(record.getString("name"));
+            } else {
+                if (record.contains("replaces")) {
+                    records.remove(record.getString("replaces"));
+                }
+                records.put(record.getString("name"), record);
+            }
+        });
+    }
+
+    /**
+     * Queue the current state of a tournament to be appended
+     * @param record Built on the server thread; must not be changed afterwards
+     */
+    @Override
+    public void append(String name, CompoundNBT record) {
+        record.putInt("v", VERSION);
+        record.putString("name", name);
+        super.append(name, record);
+    }
+
+    /**
+     * Queue the removal of a tournament
+     */
+    public void appendRemoval(String name) {
+        CompoundNBT record = new CompoundNBT();
+        record.putInt("v", VERSION);
+        record.putString("name", name);
+        record.putBoolean("removed", true);
+        appendRemoval(name, record);
+    }
+
+    /**
+     * Queue a tournament to be moved to the archive
+     * @param archiveFile File the full record is appended to
+     * @param detail Full record of the tournament
+     * @param key Name the summary is kept under in the journal
+     * @param summary Record that replaces the tournament's in the journal
+     */
+    public void archive(File archiveFile, String name, CompoundNBT detail, String key, CompoundNBT summary) {
+        detail.putInt("v", VERSION);
+        detail.putString("name", name);
+        summary.putInt("v", VERSION);
+        summary.putString("name", key);
+        summary.putString("replaces", name);
+        execute(() -> {
+            // The tournament only leaves the journal once the archive holds it
+            try {
+                appendTo(archiveFile, detail);
+            } catch (IOException e) {
+                Tournaments.LOGGER.error("Failed to archive tournament {}, keeping it in the journal", name, e);
+                return;
+            }
+            latest().remove(name);
+            store(key, summary);
+        });
+    }
+
+    @Override
+    protected void writeEntry(DataOutputStream out, CompoundNBT record) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CompressedStreamTools.write(record, new DataOutputStream(bytes));
+        byte[] payload = bytes.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        out.writeInt(payload.length);
+        out.writeInt((int) crc.getValue());
+        out.write(payload);
+    }
+
+    @Override
+    protected CompoundNBT readEntry(DataInputStream in) throws IOException {
+        // Only the end of the file between records is the end of the journal
+        int first = in.read();
+        if (first < 0) {
+            throw new EOFException();
+        }
+
+        int length;
+        int checksum;
+        byte[] payload;
+        try {
+            length = (first << 24) | (in.readUnsignedByte() << 16) | in.readUnsignedShort();
+            if (length < 0 || length > MAX_RECORD_BYTES) {
+                throw new IOException("Bad record length " + length);
+            }
+            checksum = in.readInt();
+            payload = new byte[length];
+            in.readFully(payload);
+        } catch (EOFException e) {
+            throw new IOException("Torn record", e);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Record checksum mismatch");
+        }
+        return CompressedStreamTools.read(new DataInputStream(new ByteArrayInputStream(payload)));
+    }
+
+    @Override
+    protected void writeSnapshot(OutputStream out, Collection<CompoundNBT> records) throws IOException {
+        CompoundNBT root = new CompoundNBT();
+        root.putInt("version", VERSION);
+        ListNBT tournaments = new ListNBT();
+        tournaments.addAll(records);
+        root.put("tournaments", tournaments);
+        CompressedStreamTools.writeCompressed(root, out);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.blissy.tournaments;
+
+import com.blissy.tournaments.data.Tournament;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * One kind of tournament, in creation order, kept up to date by {@link TournamentManager}.
+ * Screens read it a page at a time. A page is addressed by a cursor, the listing position of
+ * its first tournament, so a page stays put while tournaments elsewhere are created or
+ * deleted, and reading one costs the page size rather than the number of tournaments.
+ */
+public class TournamentListing {
+    // Cursor of the first page
+    public static final long FIRST_PAGE = 0;
+
+    static final TournamentListing EMPTY = new TournamentListing();
+
+    private final NavigableMap<Long, Tournament> entries = new TreeMap<>();
+
+    void put(long position, Tournament tournament) {
+        entries.put(position, tournament);
+    }
+
+    void remove(long position) {
+        entries.remove(position);
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * @return All tournaments in the listing, in order, as a read-only view
+     */
+    public Collection<Tournament> getAll() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Get the page starting at a cursor
+     * @param cursor Cursor from {@link #FIRST_PAGE} or a previous page
+     * @param pageSize Maximum number of tournaments on the page
+     */
+    public Page getPage(long cursor, int pageSize) {
+        List<Tournament> tournaments = new ArrayList<>(Math.max(pageSize, 0));
+        long[] positions = new long[Math.max(pageSize, 0)];
+
+        Iterator<Map.Entry<Long, Tournament>> iterator = entries.tailMap(cursor, true).entrySet().iterator();
+        while (tournaments.size() < pageSize && iterator.hasNext()) {
+            Map.Entry<Long, Tournament> entry = iterator.next();
+            positions[tournaments.size()] = entry.getKey();
+            tournaments.add(entry.getValue());
+        }
+
+        if (tournaments.isEmpty() && pageSize > 0 && !entries.isEmpty() && cursor > FIRST_PAGE) {
+            // Everything from the cursor on was deleted; show the last page instead
+            return getPage(startOfPageBefore(entries.lastKey() + 1, pageSize), pageSize);
+        }
+
+        Long previous = null;
+        Long next = null;
+        if (!tournaments.isEmpty()) {
+            long first = positions[0];
+            long last = positions[tournaments.size() - 1];
+            previous = entries.lowerKey(first) != null ? startOfPageBefore(first, pageSize) : null;
+            next = iterator.hasNext() ? entries.higherKey(last) : null;
+        }
+        return new Page(tournaments, positions, previous, next);
+    }
+
+    /**
+     * Find the cursor of the page that ends just before a position
+     */
+    private long startOfPageBefore(long position, int pageSize) {
+        long start = FIRST_PAGE;
+        int count = 0;
+        for (long key : entries.headMap(position, false).descendingKeySet()) {
+            start = key;
+            if (++count == pageSize) break;
+        }
+        return start;
+    }
+
+    /**
+     * A page of a listing, with the cursors of the pages either side of it
+     */
+    public static class Page {
+        private final List<Tournament> tournaments;
+        private final long[] positions;
+        private final Long previousCursor;
+        private final Long nextCursor;
+
+        private Page(List<Tournament> tournaments, long[] positions, Long previousCursor, Long nextCursor) {
+            this.tournaments = Collections.unmodifiableList(tournaments);
+            this.positions = positions;
+            this.previousCursor = previousCursor;
+            this.nextCursor = nextCursor;
+        }
+
+        public List<Tournament> getTournaments() {
+            return tournaments;
+        }
+
+        /**
+         * Get the cursor of a page starting at one of this page's tournaments, for
+         * screens that run out of room before showing the whole page
+         */
+        public long getCursorAt(int index) {
+            return positions[index];
+        }
+
+        /**
+         * @return Cursor of the previous page, or null if this is the first page
+         */
+        @Nullable
+        public Long getPreviousCursor() {
+            return previousCursor;
+        }
+
+        /**
+         * @return Cursor of the next page, or null if this is the last page
+         */
+        @Nullable
+        public Long getNextCursor() {
+            return nextCursor;
+        }
+    }
+}
\ No newline at end of file
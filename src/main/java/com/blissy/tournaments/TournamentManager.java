@@ -1,496 +1,863 @@
-package com.blissy.tournaments;
-
-import com.blissy.tournaments.data.Tournament;
-import com.blissy.tournaments.data.TournamentMatch;
-import com.blissy.tournaments.events.TournamentEvent;
-import com.blissy.tournaments.util.BroadcastUtil;
-import net.minecraft.entity.player.ServerPlayerEntity;
-import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.util.text.TextFormatting;
-import net.minecraftforge.common.MinecraftForge;
-
-import java.time.Instant;
-import java.util.*;
-import java.util.stream.Collectors;
-
-public class TournamentManager {
-    // Singleton instance
-    private static TournamentManager instance;
-
-    // Stores all active tournaments
-    private final Map<String, Tournament> tournaments;
-
-    // Tracks which tournament a player is currently in
-    private final Map<UUID, String> playerTournaments;
-
-    // Stores tournament-specific settings
-    private final Map<String, TournamentSettings> tournamentSettings;
-
-    // Stores additional tournament settings like entry fee
-    private final Map<String, CompoundNBT> tournamentExtraSettings;
-
-    /**
-     * Private constructor for singleton pattern
-     */
-    private TournamentManager() {
-        tournaments = new HashMap<>();
-        playerTournaments = new HashMap<>();
-        tournamentSettings = new HashMap<>();
-        tournamentExtraSettings = new HashMap<>();
-    }
-
-    /**
-     * Get the singleton instance of TournamentManager
-     * @return TournamentManager instance
-     */
-    public static TournamentManager getInstance() {
-        if (instance == null) {
-            instance = new TournamentManager();
-        }
-        return instance;
-    }
-
-    /**
-     * Initialize the tournament manager
-     * Called when the mod is loaded
-     */
-    public void initialize() {
-        // Future: Load saved tournaments from persistent storage
-        Tournaments.LOGGER.info("Initializing Tournament Manager");
-
-        // Start a task to check for scheduled tournament starts
-        startScheduledTournamentChecker();
-    }
-
-    /**
-     * Shutdown and cleanup tournament manager
-     * Called when the mod is unloaded
-     */
-    public void shutdown() {
-        // End all active tournaments
-        tournaments.values().forEach(Tournament::end);
-
-        // Future: Save tournament data to persistent storage
-        tournaments.clear();
-        playerTournaments.clear();
-        tournamentSettings.clear();
-        tournamentExtraSettings.clear();
-
-        Tournaments.LOGGER.info("Tournament Manager shut down");
-    }
-
-    /**
-     * Create a new tournament
-     * @param name Unique tournament name
-     * @param maxParticipants Maximum number of participants
-     * @param host Tournament host
-     * @return True if tournament was created successfully
-     */
-    public boolean createTournament(String name, int maxParticipants, ServerPlayerEntity host) {
-        // Check if tournament name already exists
-        if (tournaments.containsKey(name)) {
-            return false;
-        }
-
-        // Create new tournament
-        Tournament tournament = new Tournament(name, maxParticipants, host);
-        tournaments.put(name, tournament);
-
-        // Fire creation event
-        MinecraftForge.EVENT_BUS.post(new TournamentEvent.Created(tournament));
-
-        Tournaments.LOGGER.info("Tournament created: {} by {}", name, host.getName().getString());
-
-        return true;
-    }
-
-    /**
-     * Join an existing tournament
-     * @param tournamentName Name of the tournament
-     * @param player Player attempting to join
-     * @return True if join was successful
-     */
-    public boolean joinTournament(String tournamentName, ServerPlayerEntity player) {
-        // Check tournament exists
-        Tournament tournament = tournaments.get(tournamentName);
-        if (tournament == null) {
-            BroadcastUtil.sendTitle(player, "Tournament Not Found", TextFormatting.RED, 10, 70, 20);
-            BroadcastUtil.sendSubtitle(player, tournamentName, TextFormatting.RED, 10, 70, 20);
-            return false;
-        }
-
-        // Check if player is already in a tournament
-        if (playerTournaments.containsKey(player.getUUID())) {
-            BroadcastUtil.sendTitle(player, "Already In Tournament", TextFormatting.RED, 10, 70, 20);
-            BroadcastUtil.sendSubtitle(player, "Leave your current tournament first", TextFormatting.RED, 10, 70, 20);
-            return false;
-        }
-
-        // Check if tournament is waiting for players
-        if (tournament.getStatus() != Tournament.TournamentStatus.WAITING) {
-            BroadcastUtil.sendTitle(player, "Tournament Already Started", TextFormatting.RED, 10, 70, 20);
-            BroadcastUtil.sendSubtitle(player, "Cannot join now", TextFormatting.RED, 10, 70, 20);
-            return false;
-        }
-
-        // Get tournament settings to validate Pokémon
-        TournamentSettings settings = getTournamentSettings(tournamentName);
-
-        // Validate player's Pokémon meet level requirements
-        if (!com.blissy.tournaments.compat.PixelmonHandler.validatePlayerPokemon(player, settings)) {
-            // The validation method already sends appropriate messages to the player
-            return false;
-        }
-
-        // Check if tournament has an entry fee
-        CompoundNBT extraSettings = tournamentExtraSettings.get(tournamentName);
-        if (extraSettings != null && extraSettings.contains("entryFee")) {
-            double entryFee = extraSettings.getDouble("entryFee");
-
-            // If there's an entry fee, check if player can afford it
-            if (entryFee > 0) {
-                // Use economy manager to check and withdraw funds
-                try {
-                    Class<?> economyManagerClass = Class.forName("com.blissy.tournaments.economy.EconomyManager");
-                    boolean hasBalance = (boolean) economyManagerClass
-                            .getMethod("hasBalance", ServerPlayerEntity.class, double.class)
-                            .invoke(null, player, entryFee);
-
-                    if (!hasBalance) {
-                        BroadcastUtil.sendTitle(player, "Insufficient Funds", TextFormatting.RED, 10, 70, 20);
-                        BroadcastUtil.sendSubtitle(player, "Entry fee: " + entryFee, TextFormatting.RED, 10, 70, 20);
-                        return false;
-                    }
-
-                    boolean withdrawn = (boolean) economyManagerClass
-                            .getMethod("withdrawBalance", ServerPlayerEntity.class, double.class)
-                            .invoke(null, player, entryFee);
-
-                    if (!withdrawn) {
-                        BroadcastUtil.sendTitle(player, "Payment Error", TextFormatting.RED, 10, 70, 20);
-                        BroadcastUtil.sendSubtitle(player, "Failed to process entry fee", TextFormatting.RED, 10, 70, 20);
-                        return false;
-                    }
-
-                    BroadcastUtil.sendActionBar(player, "Paid " + entryFee + " to enter tournament", TextFormatting.GREEN);
-                } catch (Exception e) {
-                    // If economy plugin is not available, log warning but still allow join
-                    Tournaments.LOGGER.warn("Economy plugin not available. Entry fee not processed.");
-                }
-            }
-        }
-
-        // Attempt to add participant
-        if (tournament.addParticipant(player)) {
-            playerTournaments.put(player.getUUID(), tournamentName);
-
-            // Fire join event
-            MinecraftForge.EVENT_BUS.post(new TournamentEvent.PlayerJoined(tournament, player));
-
-            Tournaments.LOGGER.info("Player {} joined tournament {}",
-                    player.getName().getString(), tournamentName);
-
-            // Show title to player that they've joined (CHANGED FROM CHAT TO TITLE)
-            BroadcastUtil.sendTitle(player, "Joined Tournament", TextFormatting.GREEN, 10, 70, 20);
-            BroadcastUtil.sendSubtitle(player, tournamentName, TextFormatting.GREEN, 10, 70, 20);
-
-            return true;
-        }
-
-        return false;
-    }
-
-    /**
-     * Leave the current tournament
-     * @param player Player leaving the tournament
-     * @return True if leave was successful
-     */
-    public boolean leaveTournament(ServerPlayerEntity player) {
-        UUID playerId = player.getUUID();
-
-        // Check if player is in a tournament
-        if (!playerTournaments.containsKey(playerId)) {
-            return false;
-        }
-
-        String tournamentName = playerTournaments.get(playerId);
-        Tournament tournament = tournaments.get(tournamentName);
-
-        if (tournament != null && tournament.removeParticipant(player)) {
-            playerTournaments.remove(playerId);
-
-            // Fire leave event
-            MinecraftForge.EVENT_BUS.post(new TournamentEvent.PlayerLeft(tournament, player));
-
-            Tournaments.LOGGER.info("Player {} left tournament {}",
-                    player.getName().getString(), tournamentName);
-
-            // CHANGED FROM CHAT TO TITLE
-            BroadcastUtil.sendTitle(player, "Left Tournament", TextFormatting.YELLOW, 10, 70, 20);
-            BroadcastUtil.sendSubtitle(player, tournamentName, TextFormatting.YELLOW, 10, 70, 20);
-
-
-            return true;
-        }
-
-        return false;
-    }
-
-    /**
-     * Delete a tournament by name
-     * @param tournamentName Name of the tournament to delete
-     * @return True if tournament was deleted successfully
-     */
-    public boolean deleteTournament(String tournamentName) {
-        // Check if tournament exists
-        Tournament tournament = tournaments.get(tournamentName);
-        if (tournament == null) {
-            return false;
-        }
-
-        // End the tournament
-        tournament.end();
-
-        // Remove all participants from the tournament
-        List<UUID> playersToRemove = new ArrayList<>();
-        for (UUID playerId : playerTournaments.keySet()) {
-            if (tournamentName.equals(playerTournaments.get(playerId))) {
-                playersToRemove.add(playerId);
-            }
-        }
-
-        // Remove players from the tournament mapping
-        for (UUID playerId : playersToRemove) {
-            playerTournaments.remove(playerId);
-        }
-
-        // Remove tournament data
-        tournaments.remove(tournamentName);
-        tournamentSettings.remove(tournamentName);
-        tournamentExtraSettings.remove(tournamentName);
-
-        Tournaments.LOGGER.info("Tournament deleted: {}", tournamentName);
-
-        return true;
-    }
-
-    /**
-     * Record a match result
-     * @param tournamentName Name of the tournament
-     * @param winnerUUID UUID of the winner
-     * @param loserUUID UUID of the loser
-     * @return True if result was recorded successfully
-     */
-    public boolean recordMatchResult(String tournamentName, UUID winnerUUID, UUID loserUUID) {
-        Tournament tournament = tournaments.get(tournamentName);
-        if (tournament == null) {
-            return false;
-        }
-
-        return tournament.recordMatchResult(winnerUUID, loserUUID);
-    }
-
-    /**
-     * Set tournament-specific settings
-     * @param tournamentName Name of the tournament
-     * @param minLevel Minimum Pokemon level
-     * @param maxLevel Maximum Pokemon level
-     * @param format Tournament format
-     */
-    public void setTournamentSettings(String tournamentName, int minLevel, int maxLevel, String format) {
-        tournamentSettings.put(tournamentName,
-                new TournamentSettings(minLevel, maxLevel, format));
-    }
-
-    /**
-     * Set additional tournament settings
-     * @param tournamentName Name of the tournament
-     * @param extraSettings Additional settings as NBT compound
-     */
-    public void setTournamentExtraSettings(String tournamentName, CompoundNBT extraSettings) {
-        tournamentExtraSettings.put(tournamentName, extraSettings);
-    }
-
-    /**
-     * Get additional tournament settings
-     * @param tournamentName Name of the tournament
-     * @return Extra settings or null if not found
-     */
-    public CompoundNBT getTournamentExtraSettings(String tournamentName) {
-        return tournamentExtraSettings.getOrDefault(tournamentName, new CompoundNBT());
-    }
-
-    /**
-     * Get tournament settings
-     * @param tournamentName Name of the tournament
-     * @return Tournament settings or default settings
-     */
-    public TournamentSettings getTournamentSettings(String tournamentName) {
-        return tournamentSettings.getOrDefault(tournamentName,
-                new TournamentSettings(1, 100, "SINGLE_ELIMINATION"));
-    }
-
-    /**
-     * Get a specific tournament
-     * @param name Tournament name
-     * @return Tournament or null if not found
-     */
-    public Tournament getTournament(String name) {
-        return tournaments.get(name);
-    }
-
-    /**
-     * Get the tournament a player is currently in
-     * @param player Player to check
-     * @return Tournament or null if not in a tournament
-     */
-    public Tournament getPlayerTournament(ServerPlayerEntity player) {
-        if (player == null) return null;
-
-        String tournamentName = playerTournaments.get(player.getUUID());
-        return tournamentName != null ? tournaments.get(tournamentName) : null;
-    }
-
-    /**
-     * Get all active tournaments
-     * @return Map of tournament names to tournaments
-     */
-    public Map<String, Tournament> getAllTournaments() {
-        return new HashMap<>(tournaments);
-    }
-
-    /**
-     * Find tournaments matching specific criteria
-     * @param minPlayers Minimum number of participants
-     * @param maxPlayers Maximum number of participants
-     * @param status Tournament status to filter
-     * @return List of matching tournaments
-     */
-    public List<Tournament> findTournaments(
-            Integer minPlayers,
-            Integer maxPlayers,
-            Tournament.TournamentStatus status
-    ) {
-        return tournaments.values().stream()
-                .filter(tournament ->
-                        (minPlayers == null || tournament.getParticipantCount() >= minPlayers) &&
-                                (maxPlayers == null || tournament.getParticipantCount() <= maxPlayers) &&
-                                (status == null || tournament.getStatus() == status)
-                )
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Find tournaments with matches in progress
-     * @return List of tournaments with active matches
-     */
-    public List<Tournament> findTournamentsWithActiveMatches() {
-        return tournaments.values().stream()
-                .filter(tournament -> tournament.getStatus() == Tournament.TournamentStatus.IN_PROGRESS)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Start the scheduled tournament checker
-     */
-    private void startScheduledTournamentChecker() {
-        // Create scheduled task to run every 30 seconds to check for tournaments that need to start
-        Thread checkerThread = new Thread(() -> {
-            Tournaments.LOGGER.info("Starting scheduled tournament checker thread");
-            while (true) {
-                try {
-                    // Sleep for 30 seconds between checks
-                    Thread.sleep(30000);
-
-                    // Check for tournaments that are scheduled to start
-                    Instant now = Instant.now();
-                    for (Tournament tournament : tournaments.values()) {
-                        if (tournament.getStatus() == Tournament.TournamentStatus.WAITING &&
-                                tournament.getScheduledStartTime() != null &&
-                                !now.isBefore(tournament.getScheduledStartTime())) {
-
-                            // Start the tournament
-                            Tournaments.LOGGER.info("Starting scheduled tournament: {}", tournament.getName());
-                            tournament.start();
-                        }
-                    }
-                } catch (InterruptedException e) {
-                    Tournaments.LOGGER.error("Tournament scheduler interrupted", e);
-                    break;
-                } catch (Exception e) {
-                    Tournaments.LOGGER.error("Error in tournament scheduler", e);
-                    // Continue running despite errors
-                }
-            }
-        });
-
-        // Set as daemon thread so it doesn't prevent server shutdown
-        checkerThread.setDaemon(true);
-        checkerThread.start();
-    }
-
-    /**
-     * Set the scheduled start time for a tournament
-     */
-    public void setTournamentScheduledStart(String tournamentName, double hoursDelay) {
-        Tournament tournament = tournaments.get(tournamentName);
-        if (tournament != null && tournament.getStatus() == Tournament.TournamentStatus.WAITING) {
-            if (hoursDelay <= 0) {
-                // No scheduled start
-                tournament.setScheduledStartTime(null);
-            } else {
-                // Calculate the scheduled start time
-                long millisDelay = (long)(hoursDelay * 60 * 60 * 1000);
-                Instant startTime = Instant.now().plusMillis(millisDelay);
-                tournament.setScheduledStartTime(startTime);
-
-                // Log the scheduled start
-                Tournaments.LOGGER.info("Tournament {} scheduled to start at {}",
-                        tournamentName, startTime);
-
-                // Notify participants
-                tournament.broadcastMessage("Tournament scheduled to start in " +
-                        (hoursDelay < 1 ?
-                                (int)(hoursDelay * 60) + " minutes" :
-                                String.format("%.1f hours", hoursDelay)));
-            }
-        }
-    }
-
-    /**
-     * Tournament settings inner class
-     */
-    public static class TournamentSettings {
-        private final int minLevel;
-        private final int maxLevel;
-        private final String format;
-
-        public TournamentSettings(int minLevel, int maxLevel, String format) {
-            this.minLevel = Math.max(1, Math.min(minLevel, 100));
-            this.maxLevel = Math.max(1, Math.min(maxLevel, 100));
-            this.format = format != null ? format : "SINGLE_ELIMINATION";
-        }
-
-        public int getMinLevel() {
-            return minLevel;
-        }
-
-        public int getMaxLevel() {
-            return maxLevel;
-        }
-
-        public String getFormat() {
-            return format;
-        }
-
-        /**
-         * Check if a Pokemon meets the level requirements
-         * @param pokemonLevel Pokemon's level
-         * @return True if the Pokemon is within the level range
-         */
-        public boolean isValidPokemonLevel(int pokemonLevel) {
-            return pokemonLevel >= minLevel && pokemonLevel <= maxLevel;
-        }
-
-    }
+package com.blissy.tournaments;
+
+import com.blissy.tournaments.data.Tournament;
+import com.blissy.tournaments.data.TournamentMatch;
+import com.blissy.tournaments.config.TournamentsConfig;
+import com.blissy.tournaments.data.TournamentParticipant;
+import com.blissy.tournaments.data.TournamentSummary;
+import com.blissy.tournaments.events.TournamentEvent;
+import com.blissy.tournaments.scheduler.TournamentScheduler;
+import com.blissy.tournaments.util.BroadcastUtil;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.io.File;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Creates, finds and deletes tournaments.
+ * Tournaments are changed on the server thread. Lookups may come from any thread and read
+ * the registry's current snapshot, so they never see a half-made change.
+ * Changed tournaments are written to the journal once per tick, and reloaded on server start.
+ * Ended tournaments are kept for a while, then moved to the archive with only a summary left here.
+ */
+@Mod.EventBusSubscriber(bus = Mod.EventBusSubscriber.Bus.FORGE, modid = "tournaments")
+public class TournamentManager {
+    private static final String SNAPSHOT_FILE = "config/tournaments/tournaments.dat";
+    private static final String JOURNAL_FILE = "config/tournaments/tournaments_journal.dat";
+    private static final String ARCHIVE_DIR = "config/tournaments/archive";
+
+    // How often ended tournaments are checked for archiving (1 minute)
+    private static final int ARCHIVE_INTERVAL = 1200;
+
+    // Journal names of summaries start with this, so they can't clash with a live tournament
+    private static final String SUMMARY_PREFIX = "#archived/";
+
+    // Singleton instance
+    private static final TournamentManager instance = new TournamentManager();
+
+    private final TournamentJournal journal = new TournamentJournal(new File(SNAPSHOT_FILE), new File(JOURNAL_FILE));
+
+    // Names of tournaments changed since the last journal write
+    private final Set<String> changed = ConcurrentHashMap.newKeySet();
+
+    // All tournaments and which one each player is in, with lookup indexes
+    private final TournamentRegistry registry = new TournamentRegistry();
+
+    // Stores tournament-specific settings
+    private final Map<String, TournamentSettings> tournamentSettings;
+
+    // Stores additional tournament settings like entry fee
+    private final Map<String, CompoundNBT> tournamentExtraSettings;
+
+    // Tournaments as the GUI lists them, in creation order
+    private final TournamentListing playerListing = new TournamentListing();
+    private final TournamentListing recurringListing = new TournamentListing();
+    private final Map<String, TournamentListing> recurringInstances = new HashMap<>();
+    private final Map<String, Long> listingPositions = new HashMap<>();
+    private long nextListingPosition = TournamentListing.FIRST_PAGE;
+
+    // Summaries of archived tournaments by journal name, oldest first; guarded by itself
+    private final Map<String, TournamentSummary> archived = new LinkedHashMap<>();
+
+    /**
+     * Private constructor for singleton pattern
+     */
+    private TournamentManager() {
+        // Read by GUI and network code off the server thread
+        tournamentSettings = new ConcurrentHashMap<>();
+        tournamentExtraSettings = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get the singleton instance of TournamentManager
+     * @return TournamentManager instance
+     */
+    public static TournamentManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Initialize the tournament manager
+     * Called when the mod is loaded
+     */
+    public void initialize() {
+        // Saved tournaments are loaded on server start, see load()
+        Tournaments.LOGGER.info("Initializing Tournament Manager");
+    }
+
+    /**
+     * Load saved tournaments, replay the journal on top of them and start the writer.
+     * Running tournaments carry on from their bracket; matches cut short are played again.
+     */
+    public void load() {
+        // Finish writing anything from a previous load before reading the files back
+        journal.close();
+        clearState();
+
+        Map<String, CompoundNBT> records = journal.readSnapshot();
+        if (records == null) {
+            return;
+        }
+
+        int replayed = journal.replay(records);
+        if (replayed > 0) {
+            Tournaments.LOGGER.info("Recovered {} tournament changes from the journal", replayed);
+        }
+
+        List<Tournament> restored = new ArrayList<>();
+        for (Map.Entry<String, CompoundNBT> entry : records.entrySet()) {
+            CompoundNBT record = entry.getValue();
+            try {
+                if (record.contains("summary", 10)) {
+                    addSummary(entry.getKey(), TournamentSummary.load(record.getCompound("summary")));
+                    continue;
+                }
+
+                Tournament tournament = restore(record);
+                if (tournament != null) {
+                    restored.add(tournament);
+                }
+            } catch (RuntimeException e) {
+                Tournaments.LOGGER.error("Failed to restore tournament {}", record.getString("name"), e);
+            }
+        }
+        journal.open(records, replayed > 0);
+        trimSummaries();
+
+        // Restoring isn't a change; resuming below marks what it changes
+        changed.clear();
+        for (Tournament tournament : restored) {
+            if (tournament.getStatus() == Tournament.TournamentStatus.WAITING &&
+                    tournament.getScheduledStartTime() != null) {
+                ScheduledStartQueue.schedule(tournament, tournament.getScheduledStartTime());
+            }
+            tournament.resume();
+        }
+        Tournaments.LOGGER.info("Loaded {} tournaments", restored.size());
+    }
+
+    /**
+     * Write pending changes to disk and stop the writer. Running tournaments are left as
+     * they are so they can resume on the next start.
+     */
+    public void shutdown() {
+        writeChanges();
+        journal.close();
+        clearState();
+
+        Tournaments.LOGGER.info("Tournament Manager shut down");
+    }
+
+    private void clearState() {
+        registry.clear();
+        changed.clear();
+        tournamentSettings.clear();
+        tournamentExtraSettings.clear();
+        playerListing.clear();
+        recurringListing.clear();
+        recurringInstances.clear();
+        listingPositions.clear();
+        nextListingPosition = TournamentListing.FIRST_PAGE;
+        synchronized (archived) {
+            archived.clear();
+        }
+    }
+
+    /**
+     * Register the journal writing and archiving jobs with the scheduler
+     */
+    public static void registerJobs() {
+        // After the tick's other tasks, so the changes they make go out the same tick
+        TournamentScheduler.scheduleEndOfTick("tournament-journal", instance::writeChanges);
+        TournamentScheduler.scheduleRepeating("tournament-archive", ARCHIVE_INTERVAL, instance::archiveEnded);
+    }
+
+    /**
+     * Archive every tournament that ended longer ago than the retention period
+     */
+    private void archiveEnded() {
+        long retention = TournamentsConfig.COMMON.endedRetentionMinutes.get() * 60_000L;
+        long now = System.currentTimeMillis();
+
+        for (Tournament tournament : getTournamentsByStatus(Tournament.TournamentStatus.ENDED)) {
+            Instant endedAt = tournament.getEndedAt();
+            if (endedAt == null || endedAt.toEpochMilli() + retention <= now) {
+                archive(tournament);
+            }
+        }
+    }
+
+    /**
+     * Move an ended tournament to the archive file and keep only its summary.
+     * Its players are free to join another tournament afterwards.
+     */
+    private void archive(Tournament tournament) {
+        String name = tournament.getName();
+        CompoundNBT extraSettings = tournamentExtraSettings.get(name);
+        String recurringId = extraSettings != null && extraSettings.getBoolean("isRecurring") &&
+                extraSettings.contains("recurringId") ? extraSettings.getString("recurringId") : null;
+
+        TournamentSummary summary = TournamentSummary.of(tournament, getTournamentSettings(name).getFormat(), recurringId);
+        CompoundNBT detail = createRecord(tournament);
+
+        Instant endedAt = tournament.getEndedAt() != null ? tournament.getEndedAt() : Instant.now();
+        String key = SUMMARY_PREFIX + name + "@" + endedAt.toEpochMilli();
+        File archiveFile = new File(ARCHIVE_DIR, YearMonth.from(endedAt.atOffset(ZoneOffset.UTC)) + ".dat");
+
+        forget(name);
+        CompoundNBT summaryRecord = new CompoundNBT();
+        summaryRecord.put("summary", summary.save());
+        journal.archive(archiveFile, name, detail, key, summaryRecord);
+
+        addSummary(key, summary);
+        trimSummaries();
+        Tournaments.LOGGER.info("Archived ended tournament {}", name);
+    }
+
+    private void addSummary(String key, TournamentSummary summary) {
+        synchronized (archived) {
+            archived.put(key, summary);
+        }
+    }
+
+    /**
+     * Drop the oldest summaries over the configured limit
+     */
+    private void trimSummaries() {
+        int limit = TournamentsConfig.COMMON.archivedSummaries.get();
+        synchronized (archived) {
+            Iterator<String> keys = archived.keySet().iterator();
+            while (archived.size() > limit && keys.hasNext()) {
+                String key = keys.next();
+                keys.remove();
+                journal.appendRemoval(key);
+            }
+        }
+    }
+
+    /**
+     * Get the summaries of archived tournaments
+     * @return Newest first; a copy unaffected by later changes
+     */
+    public List<TournamentSummary> getArchivedTournaments() {
+        List<TournamentSummary> summaries;
+        synchronized (archived) {
+            summaries = new ArrayList<>(archived.values());
+        }
+        Collections.reverse(summaries);
+        return summaries;
+    }
+
+    /**
+     * Drop everything the manager keeps about a tournament
+     */
+    private void forget(String tournamentName) {
+        removeFromListings(tournamentName);
+        listingPositions.remove(tournamentName);
+        registry.remove(tournamentName);
+        tournamentSettings.remove(tournamentName);
+        tournamentExtraSettings.remove(tournamentName);
+        changed.remove(tournamentName);
+    }
+
+    /**
+     * Note that a tournament changed so it is written to the journal at the end of the tick
+     */
+    public void markChanged(Tournament tournament) {
+        changed.add(tournament.getName());
+    }
+
+    private void writeChanges() {
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        for (String name : new ArrayList<>(changed)) {
+            changed.remove(name);
+            Tournament tournament = getTournament(name);
+            if (tournament != null) {
+                journal.append(name, createRecord(tournament));
+            }
+        }
+    }
+
+    /**
+     * Build the journal record of a tournament: its state plus what the manager keeps about it
+     */
+    private CompoundNBT createRecord(Tournament tournament) {
+        String name = tournament.getName();
+        CompoundNBT record = new CompoundNBT();
+        record.put("tournament", tournament.save());
+
+        TournamentSettings settings = tournamentSettings.get(name);
+        if (settings != null) {
+            CompoundNBT settingsTag = new CompoundNBT();
+            settingsTag.putInt("minLevel", settings.getMinLevel());
+            settingsTag.putInt("maxLevel", settings.getMaxLevel());
+            settingsTag.putString("format", settings.getFormat());
+            record.put("settings", settingsTag);
+        }
+
+        CompoundNBT extraSettings = tournamentExtraSettings.get(name);
+        if (extraSettings != null) {
+            record.put("extra", extraSettings.copy());
+        }
+
+        Long position = listingPositions.get(name);
+        if (position != null) {
+            record.putLong("position", position);
+        }
+        return record;
+    }
+
+    /**
+     * Register a tournament from its journal record
+     * @return The tournament, or null if one with its name already exists
+     */
+    private Tournament restore(CompoundNBT record) {
+        Tournament tournament = Tournament.load(record.getCompound("tournament"));
+        String name = tournament.getName();
+        if (!registry.add(tournament)) {
+            return null;
+        }
+
+        if (record.contains("settings", 10)) {
+            CompoundNBT settings = record.getCompound("settings");
+            setTournamentSettings(name, settings.getInt("minLevel"), settings.getInt("maxLevel"),
+                    settings.getString("format"));
+        }
+        if (record.contains("extra", 10)) {
+            tournamentExtraSettings.put(name, record.getCompound("extra"));
+            updateRecurringId(name, record.getCompound("extra"));
+        }
+
+        long position = record.contains("position", 4) ? record.getLong("position") : nextListingPosition;
+        listingPositions.put(name, position);
+        nextListingPosition = Math.max(nextListingPosition, position + 1);
+        addToListings(name);
+
+        // Hosts take part without joining, so only the other participants are indexed
+        if (tournament.getStatus() != Tournament.TournamentStatus.ENDED) {
+            for (TournamentParticipant participant : tournament.getParticipants()) {
+                if (!participant.getPlayerId().equals(tournament.getHostId())) {
+                    registry.setPlayerTournament(participant.getPlayerId(), name);
+                }
+            }
+        }
+        return tournament;
+    }
+
+    /**
+     * Create a new tournament
+     * @param name Unique tournament name
+     * @param maxParticipants Maximum number of participants
+     * @param host Tournament host
+     * @return True if tournament was created successfully
+     */
+    public boolean createTournament(String name, int maxParticipants, ServerPlayerEntity host) {
+        // Check if tournament name already exists
+        if (registry.get().tournaments.containsKey(name)) {
+            return false;
+        }
+
+        // Create new tournament
+        Tournament tournament = new Tournament(name, maxParticipants, host);
+        if (!registry.add(tournament)) {
+            return false;
+        }
+        listingPositions.put(name, nextListingPosition++);
+        addToListings(name);
+        markChanged(tournament);
+
+        // Fire creation event
+        MinecraftForge.EVENT_BUS.post(new TournamentEvent.Created(tournament));
+
+        Tournaments.LOGGER.info("Tournament created: {} by {}", name, host.getName().getString());
+
+        return true;
+    }
+
+    /**
+     * Join an existing tournament
+     * @param tournamentName Name of the tournament
+     * @param player Player attempting to join
+     * @return True if join was successful
+     */
+    public boolean joinTournament(String tournamentName, ServerPlayerEntity player) {
+        // Check tournament exists
+        Tournament tournament = getTournament(tournamentName);
+        if (tournament == null) {
+            BroadcastUtil.sendTitle(player, "Tournament Not Found", TextFormatting.RED, 10, 70, 20);
+            BroadcastUtil.sendSubtitle(player, tournamentName, TextFormatting.RED, 10, 70, 20);
+            return false;
+        }
+
+        // Check if player is already in a tournament
+        if (registry.isInTournament(player.getUUID())) {
+            BroadcastUtil.sendTitle(player, "Already In Tournament", TextFormatting.RED, 10, 70, 20);
+            BroadcastUtil.sendSubtitle(player, "Leave your current tournament first", TextFormatting.RED, 10, 70, 20);
+            return false;
+        }
+
+        // Check if tournament is waiting for players
+        if (tournament.getStatus() != Tournament.TournamentStatus.WAITING) {
+            BroadcastUtil.sendTitle(player, "Tournament Already Started", TextFormatting.RED, 10, 70, 20);
+            BroadcastUtil.sendSubtitle(player, "Cannot join now", TextFormatting.RED, 10, 70, 20);
+            return false;
+        }
+
+        // Get tournament settings to validate Pokémon
+        TournamentSettings settings = getTournamentSettings(tournamentName);
+
+        // Validate player's Pokémon meet level requirements
+        if (!com.blissy.tournaments.compat.PixelmonHandler.validatePlayerPokemon(player, settings)) {
+            // The validation method already sends appropriate messages to the player
+            return false;
+        }
+
+        // Check if tournament has an entry fee
+        CompoundNBT extraSettings = tournamentExtraSettings.get(tournamentName);
+        if (extraSettings != null && extraSettings.contains("entryFee")) {
+            double entryFee = extraSettings.getDouble("entryFee");
+
+            // If there's an entry fee, check if player can afford it
+            if (entryFee > 0) {
+                // Use economy manager to check and withdraw funds
+                try {
+                    Class<?> economyManagerClass = Class.forName("com.blissy.tournaments.economy.EconomyManager");
+                    boolean hasBalance = (boolean) economyManagerClass
+                            .getMethod("hasBalance", ServerPlayerEntity.class, double.class)
+                            .invoke(null, player, entryFee);
+
+                    if (!hasBalance) {
+                        BroadcastUtil.sendTitle(player, "Insufficient Funds", TextFormatting.RED, 10, 70, 20);
+                        BroadcastUtil.sendSubtitle(player, "Entry fee: " + entryFee, TextFormatting.RED, 10, 70, 20);
+                        return false;
+                    }
+
+                    boolean withdrawn = (boolean) economyManagerClass
+                            .getMethod("withdrawBalance", ServerPlayerEntity.class, double.class)
+                            .invoke(null, player, entryFee);
+
+                    if (!withdrawn) {
+                        BroadcastUtil.sendTitle(player, "Payment Error", TextFormatting.RED, 10, 70, 20);
+                        BroadcastUtil.sendSubtitle(player, "Failed to process entry fee", TextFormatting.RED, 10, 70, 20);
+                        return false;
+                    }
+
+                    BroadcastUtil.sendActionBar(player, "Paid " + entryFee + " to enter tournament", TextFormatting.GREEN);
+                } catch (Exception e) {
+                    // If economy plugin is not available, log warning but still allow join
+                    Tournaments.LOGGER.warn("Economy plugin not available. Entry fee not processed.");
+                }
+            }
+        }
+
+        // Attempt to add participant
+        if (tournament.addParticipant(player)) {
+            registry.setPlayerTournament(player.getUUID(), tournamentName);
+
+            // Fire join event
+            MinecraftForge.EVENT_BUS.post(new TournamentEvent.PlayerJoined(tournament, player));
+
+            Tournaments.LOGGER.info("Player {} joined tournament {}",
+                    player.getName().getString(), tournamentName);
+
+            // Show title to player that they've joined (CHANGED FROM CHAT TO TITLE)
+            BroadcastUtil.sendTitle(player, "Joined Tournament", TextFormatting.GREEN, 10, 70, 20);
+            BroadcastUtil.sendSubtitle(player, tournamentName, TextFormatting.GREEN, 10, 70, 20);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Leave the current tournament
+     * @param player Player leaving the tournament
+     * @return True if leave was successful
+     */
+    public boolean leaveTournament(ServerPlayerEntity player) {
+        UUID playerId = player.getUUID();
+
+        // Check if player is in a tournament
+        Tournament tournament = getPlayerTournament(playerId);
+        if (tournament == null) {
+            return false;
+        }
+
+        String tournamentName = tournament.getName();
+        if (tournament.removeParticipant(player)) {
+            registry.removePlayer(playerId);
+
+            // Fire leave event
+            MinecraftForge.EVENT_BUS.post(new TournamentEvent.PlayerLeft(tournament, player));
+
+            Tournaments.LOGGER.info("Player {} left tournament {}",
+                    player.getName().getString(), tournamentName);
+
+            // CHANGED FROM CHAT TO TITLE
+            BroadcastUtil.sendTitle(player, "Left Tournament", TextFormatting.YELLOW, 10, 70, 20);
+            BroadcastUtil.sendSubtitle(player, tournamentName, TextFormatting.YELLOW, 10, 70, 20);
+
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Delete a tournament by name
+     * @param tournamentName Name of the tournament to delete
+     * @return True if tournament was deleted successfully
+     */
+    public boolean deleteTournament(String tournamentName) {
+        // Check if tournament exists
+        Tournament tournament = getTournament(tournamentName);
+        if (tournament == null) {
+            return false;
+        }
+
+        // End the tournament
+        ScheduledStartQueue.cancel(tournament);
+        tournament.end();
+
+        // Remove tournament data, along with which players were in it
+        forget(tournamentName);
+        journal.appendRemoval(tournamentName);
+
+        Tournaments.LOGGER.info("Tournament deleted: {}", tournamentName);
+
+        return true;
+    }
+
+    /**
+     * Record a match result
+     * @param tournamentName Name of the tournament
+     * @param winnerUUID UUID of the winner
+     * @param loserUUID UUID of the loser
+     * @return True if result was recorded successfully
+     */
+    public boolean recordMatchResult(String tournamentName, UUID winnerUUID, UUID loserUUID) {
+        Tournament tournament = getTournament(tournamentName);
+        if (tournament == null) {
+            return false;
+        }
+
+        return tournament.recordMatchResult(winnerUUID, loserUUID);
+    }
+
+    /**
+     * Set tournament-specific settings
+     * @param tournamentName Name of the tournament
+     * @param minLevel Minimum Pokemon level
+     * @param maxLevel Maximum Pokemon level
+     * @param format Tournament format
+     */
+    public void setTournamentSettings(String tournamentName, int minLevel, int maxLevel, String format) {
+        tournamentSettings.put(tournamentName,
+                new TournamentSettings(minLevel, maxLevel, format));
+        markChanged(tournamentName);
+    }
+
+    /**
+     * Set additional tournament settings
+     * @param tournamentName Name of the tournament
+     * @param extraSettings Additional settings as NBT compound
+     */
+    public void setTournamentExtraSettings(String tournamentName, CompoundNBT extraSettings) {
+        // The settings decide whether the tournament is listed as recurring
+        removeFromListings(tournamentName);
+        tournamentExtraSettings.put(tournamentName, extraSettings);
+        addToListings(tournamentName);
+        updateRecurringId(tournamentName, extraSettings);
+        markChanged(tournamentName);
+    }
+
+    private void updateRecurringId(String tournamentName, CompoundNBT extraSettings) {
+        boolean recurring = extraSettings.getBoolean("isRecurring") && extraSettings.contains("recurringId");
+        registry.setRecurringId(tournamentName, recurring ? extraSettings.getString("recurringId") : null);
+    }
+
+    private void markChanged(String tournamentName) {
+        Tournament tournament = getTournament(tournamentName);
+        if (tournament != null) {
+            markChanged(tournament);
+        }
+    }
+
+    /**
+     * Get additional tournament settings
+     * @param tournamentName Name of the tournament
+     * @return Extra settings or null if not found
+     */
+    public CompoundNBT getTournamentExtraSettings(String tournamentName) {
+        return tournamentExtraSettings.getOrDefault(tournamentName, new CompoundNBT());
+    }
+
+    /**
+     * Get tournament settings
+     * @param tournamentName Name of the tournament
+     * @return Tournament settings or default settings
+     */
+    public TournamentSettings getTournamentSettings(String tournamentName) {
+        return tournamentSettings.getOrDefault(tournamentName,
+                new TournamentSettings(1, 100, "SINGLE_ELIMINATION"));
+    }
+
+    /**
+     * Get a specific tournament
+     * @param name Tournament name
+     * @return Tournament or null if not found
+     */
+    public Tournament getTournament(String name) {
+        return registry.get().tournaments.get(name);
+    }
+
+    /**
+     * Get the tournament a player is currently in
+     * @param player Player to check
+     * @return Tournament or null if not in a tournament
+     */
+    public Tournament getPlayerTournament(ServerPlayerEntity player) {
+        if (player == null) return null;
+
+        return getPlayerTournament(player.getUUID());
+    }
+
+    /**
+     * Get the tournament a player is currently in
+     * @return Tournament or null if not in a tournament
+     */
+    public Tournament getPlayerTournament(UUID playerId) {
+        return registry.getPlayerTournament(playerId);
+    }
+
+    /**
+     * Get all active tournaments
+     * @return Read-only map of tournament names to tournaments, unaffected by later changes
+     */
+    public Map<String, Tournament> getAllTournaments() {
+        return registry.get().tournaments;
+    }
+
+    /**
+     * Get the tournaments with a status
+     * @return Read-only list, unaffected by later changes
+     */
+    public List<Tournament> getTournamentsByStatus(Tournament.TournamentStatus status) {
+        return TournamentRegistry.Snapshot.find(registry.get().byStatus, status);
+    }
+
+    /**
+     * Get the tournaments a player is hosting
+     * @return Read-only list, unaffected by later changes
+     */
+    public List<Tournament> getTournamentsHostedBy(UUID hostId) {
+        return TournamentRegistry.Snapshot.find(registry.get().byHost, hostId);
+    }
+
+    /**
+     * Get the running instances of a recurring tournament
+     * @return Read-only list, unaffected by later changes
+     */
+    public List<Tournament> getTournamentsByRecurringId(String recurringId) {
+        return TournamentRegistry.Snapshot.find(registry.get().byRecurringId, recurringId);
+    }
+
+    /**
+     * Get the tournaments players created themselves, in creation order
+     */
+    public TournamentListing getPlayerTournamentListing() {
+        return playerListing;
+    }
+
+    /**
+     * Get the instances of all recurring tournaments, in creation order
+     */
+    public TournamentListing getRecurringTournamentListing() {
+        return recurringListing;
+    }
+
+    /**
+     * Get the instances of one recurring tournament, in creation order
+     * @param recurringId Name of the recurring tournament
+     */
+    public TournamentListing getRecurringInstances(String recurringId) {
+        return recurringInstances.getOrDefault(recurringId, TournamentListing.EMPTY);
+    }
+
+    private void addToListings(String tournamentName) {
+        Tournament tournament = getTournament(tournamentName);
+        Long position = listingPositions.get(tournamentName);
+        if (tournament == null || position == null) {
+            return;
+        }
+
+        CompoundNBT extraSettings = tournamentExtraSettings.get(tournamentName);
+        if (extraSettings == null || !extraSettings.getBoolean("isRecurring")) {
+            playerListing.put(position, tournament);
+            return;
+        }
+
+        recurringListing.put(position, tournament);
+        if (extraSettings.contains("recurringId")) {
+            recurringInstances.computeIfAbsent(extraSettings.getString("recurringId"),
+                    id -> new TournamentListing()).put(position, tournament);
+        }
+    }
+
+    private void removeFromListings(String tournamentName) {
+        Long position = listingPositions.get(tournamentName);
+        if (position == null) {
+            return;
+        }
+
+        playerListing.remove(position);
+        recurringListing.remove(position);
+
+        // Uses the settings the tournament was listed under, so call before replacing them
+        CompoundNBT extraSettings = tournamentExtraSettings.get(tournamentName);
+        if (extraSettings != null && extraSettings.contains("recurringId")) {
+            String recurringId = extraSettings.getString("recurringId");
+            TournamentListing instances = recurringInstances.get(recurringId);
+            if (instances != null) {
+                instances.remove(position);
+                if (instances.isEmpty()) {
+                    recurringInstances.remove(recurringId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find tournaments matching specific criteria
+     * @param minPlayers Minimum number of participants
+     * @param maxPlayers Maximum number of participants
+     * @param status Tournament status to filter
+     * @return List of matching tournaments
+     */
+    public List<Tournament> findTournaments(
+            Integer minPlayers,
+            Integer maxPlayers,
+            Tournament.TournamentStatus status
+    ) {
+        Collection<Tournament> candidates = status != null ?
+                getTournamentsByStatus(status) : getAllTournaments().values();
+        return candidates.stream()
+                .filter(tournament ->
+                        (minPlayers == null || tournament.getParticipantCount() >= minPlayers) &&
+                                (maxPlayers == null || tournament.getParticipantCount() <= maxPlayers) &&
+                                (status == null || tournament.getStatus() == status)
+                )
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Find tournaments with matches in progress
+     * @return List of tournaments with active matches
+     */
+    public List<Tournament> findTournamentsWithActiveMatches() {
+        return getTournamentsByStatus(Tournament.TournamentStatus.IN_PROGRESS);
+    }
+
+    /**
+     * Set the scheduled start time for a tournament
+     */
+    public void setTournamentScheduledStart(String tournamentName, double hoursDelay) {
+        Tournament tournament = getTournament(tournamentName);
+        if (tournament != null && tournament.getStatus() == Tournament.TournamentStatus.WAITING) {
+            if (hoursDelay <= 0) {
+                // No scheduled start
+                tournament.setScheduledStartTime(null);
+                ScheduledStartQueue.cancel(tournament);
+                markChanged(tournament);
+            } else {
+                // Calculate the scheduled start time
+                long millisDelay = (long)(hoursDelay * 60 * 60 * 1000);
+                Instant startTime = Instant.now().plusMillis(millisDelay);
+                tournament.setScheduledStartTime(startTime);
+                ScheduledStartQueue.schedule(tournament, startTime);
+                markChanged(tournament);
+
+                // Log the scheduled start
+                Tournaments.LOGGER.info("Tournament {} scheduled to start at {}",
+                        tournamentName, startTime);
+
+                // Notify participants
+                tournament.broadcastMessage("Tournament scheduled to start in " +
+                        (hoursDelay < 1 ?
+                                (int)(hoursDelay * 60) + " minutes" :
+                                String.format("%.1f hours", hoursDelay)));
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onTournamentStarted(TournamentEvent.Started event) {
+        // Keep the status index current
+        instance.registry.refresh();
+        ScheduledStartQueue.cancel(event.getTournament());
+    }
+
+    @SubscribeEvent
+    public static void onTournamentEnded(TournamentEvent.Ended event) {
+        instance.registry.refresh();
+        ScheduledStartQueue.cancel(event.getTournament());
+    }
+
+    // Every tournament event follows a change worth saving: joins, leaves, matches and results
+    @SubscribeEvent
+    public static void onTournamentEvent(TournamentEvent event) {
+        instance.markChanged(event.getTournament());
+    }
+
+    /**
+     * Tournament settings inner class
+     */
+    public static class TournamentSettings {
+        private final int minLevel;
+        private final int maxLevel;
+        private final String format;
+
+        public TournamentSettings(int minLevel, int maxLevel, String format) {
+            this.minLevel = Math.max(1, Math.min(minLevel, 100));
+            this.maxLevel = Math.max(1, Math.min(maxLevel, 100));
+            this.format = format != null ? format : "SINGLE_ELIMINATION";
+        }
+
+        public int getMinLevel() {
+            return minLevel;
+        }
+
+        public int getMaxLevel() {
+            return maxLevel;
+        }
+
+        public String getFormat() {
+            return format;
+        }
+
+        /**
+         * Check if a Pokemon meets the level requirements
+         * @param pokemonLevel Pokemon's level
+         * @return True if the Pokemon is within the level range
+         */
+        public boolean isValidPokemonLevel(int pokemonLevel) {
+            return pokemonLevel >= minLevel && pokemonLevel <= maxLevel;
+        }
+
+    }
 }
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.blissy.tournaments;
+
+import com.blissy.tournaments.data.Tournament;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The tournaments {@link TournamentManager} knows about, published as immutable snapshots.
+ * Only the server thread changes the registry; readers on any thread use the current
+ * snapshot without locking or copying. Each snapshot carries indexes by status, host and
+ * recurring id. A change only rebuilds the indexes it affects, and joins and leaves go
+ * straight into a concurrent participant index without publishing at all.
+ */
+class TournamentRegistry {
+    // Server thread only
+    private final Map<String, Tournament> tournaments = new LinkedHashMap<>();
+    private final Map<String, String> recurringIds = new HashMap<>();
+
+    // Player -> tournament they joined; written on the server thread, read anywhere
+    private final Map<UUID, Tournament> byParticipant = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot = new Snapshot();
+
+    Snapshot get() {
+        return snapshot;
+    }
+
+    /**
+     * Get the tournament a player joined
+     * @return Tournament or null if not in one
+     */
+    Tournament getPlayerTournament(UUID playerId) {
+        return byParticipant.get(playerId);
+    }
+
+    boolean isInTournament(UUID playerId) {
+        return byParticipant.containsKey(playerId);
+    }
+
+    boolean add(Tournament tournament) {
+        checkThread();
+        if (tournaments.putIfAbsent(tournament.getName(), tournament) != null) {
+            return false;
+        }
+
+        // A new tournament only lands in its own status and host lists
+        Snapshot current = snapshot;
+        snapshot = new Snapshot(
+                Collections.unmodifiableMap(new LinkedHashMap<>(tournaments)),
+                append(current.byStatus, tournament.getStatus(), tournament,
+                        () -> new EnumMap<>(Tournament.TournamentStatus.class)),
+                append(current.byHost, tournament.getHostId(), tournament, HashMap::new),
+                current.byRecurringId);
+        return true;
+    }
+
+    /**
+     * Remove a tournament and forget which players were in it
+     */
+    Tournament remove(String name) {
+        checkThread();
+        Tournament removed = tournaments.remove(name);
+        if (removed != null) {
+            byParticipant.values().removeIf(tournament -> tournament == removed);
+            recurringIds.remove(name);
+            snapshot = new Snapshot(tournaments, recurringIds);
+        }
+        return removed;
+    }
+
+    void setPlayerTournament(UUID playerId, String name) {
+        checkThread();
+        Tournament tournament = tournaments.get(name);
+        if (tournament != null) {
+            byParticipant.put(playerId, tournament);
+        }
+    }
+
+    void removePlayer(UUID playerId) {
+        checkThread();
+        byParticipant.remove(playerId);
+    }
+
+    void setRecurringId(String name, String recurringId) {
+        checkThread();
+        if (recurringId != null) {
+            recurringIds.put(name, recurringId);
+        } else {
+            recurringIds.remove(name);
+        }
+
+        Snapshot current = snapshot;
+        snapshot = new Snapshot(current.tournaments, current.byStatus, current.byHost,
+                Snapshot.indexRecurringIds(current.tournaments, recurringIds));
+    }
+
+    /**
+     * Rebuild the status index after a tournament changed status
+     */
+    void refresh() {
+        checkThread();
+        Snapshot current = snapshot;
+        snapshot = new Snapshot(current.tournaments, Snapshot.indexStatus(current.tournaments),
+                current.byHost, current.byRecurringId);
+    }
+
+    void clear() {
+        checkThread();
+        tournaments.clear();
+        recurringIds.clear();
+        byParticipant.clear();
+        snapshot = new Snapshot();
+    }
+
+    private static void checkThread() {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server != null && !server.isSameThread()) {
+            throw new IllegalStateException("Tournament registry changed off the server thread");
+        }
+    }
+
+    /**
+     * Copy an index with a tournament added to the end of one list
+     */
+    private static <K> Map<K, List<Tournament>> append(Map<K, List<Tournament>> index, K key,
+                                                       Tournament tournament, Supplier<Map<K, List<Tournament>>> factory) {
+        Map<K, List<Tournament>> copy = factory.get();
+        copy.putAll(index);
+        List<Tournament> list = new ArrayList<>(Snapshot.find(index, key));
+        list.add(tournament);
+        copy.put(key, Collections.unmodifiableList(list));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * The registry at one moment. Nothing in it changes after it is published.
+     */
+    static class Snapshot {
+        final Map<String, Tournament> tournaments;
+        final Map<Tournament.TournamentStatus, List<Tournament>> byStatus;
+        final Map<UUID, List<Tournament>> byHost;
+        final Map<String, List<Tournament>> byRecurringId;
+
+        Snapshot() {
+            this(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+        }
+
+        Snapshot(Map<String, Tournament> tournaments, Map<String, String> recurringIds) {
+            this.tournaments = Collections.unmodifiableMap(new LinkedHashMap<>(tournaments));
+            this.byStatus = indexStatus(this.tournaments);
+
+            Map<UUID, List<Tournament>> byHost = new HashMap<>();
+            for (Tournament tournament : this.tournaments.values()) {
+                byHost.computeIfAbsent(tournament.getHostId(), host -> new ArrayList<>()).add(tournament);
+            }
+            this.byHost = freeze(byHost);
+            this.byRecurringId = indexRecurringIds(this.tournaments, recurringIds);
+        }
+
+        Snapshot(Map<String, Tournament> tournaments, Map<Tournament.TournamentStatus, List<Tournament>> byStatus,
+                 Map<UUID, List<Tournament>> byHost, Map<String, List<Tournament>> byRecurringId) {
+            this.tournaments = tournaments;
+            this.byStatus = byStatus;
+            this.byHost = byHost;
+            this.byRecurringId = byRecurringId;
+        }
+
+        static Map<Tournament.TournamentStatus, List<Tournament>> indexStatus(Map<String, Tournament> tournaments) {
+            Map<Tournament.TournamentStatus, List<Tournament>> byStatus = new EnumMap<>(Tournament.TournamentStatus.class);
+            for (Tournament tournament : tournaments.values()) {
+                byStatus.computeIfAbsent(tournament.getStatus(), status -> new ArrayList<>()).add(tournament);
+            }
+            return freeze(byStatus);
+        }
+
+        static Map<String, List<Tournament>> indexRecurringIds(Map<String, Tournament> tournaments,
+                                                               Map<String, String> recurringIds) {
+            Map<String, List<Tournament>> byRecurringId = new HashMap<>();
+            for (Tournament tournament : tournaments.values()) {
+                String recurringId = recurringIds.get(tournament.getName());
+                if (recurringId != null) {
+                    byRecurringId.computeIfAbsent(recurringId, id -> new ArrayList<>()).add(tournament);
+                }
+            }
+            return freeze(byRecurringId);
+        }
+
+        private static <K> Map<K, List<Tournament>> freeze(Map<K, List<Tournament>> index) {
+            index.replaceAll((key, list) -> Collections.unmodifiableList(list));
+            return Collections.unmodifiableMap(index);
+        }
+
+        static <K> List<Tournament> find(Map<K, List<Tournament>> index, K key) {
+            return index.getOrDefault(key, Collections.emptyList());
+        }
+    }
+}
\ No newline at end of file
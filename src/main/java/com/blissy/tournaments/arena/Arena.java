@@ -0,0 +1,49 @@
+package com.blissy.tournaments.arena;
+
+import net.minecraft.util.math.vector.Vector3d;
+
+/**
+ * A named place where one tournament match is fought: two spawn points in one dimension.
+ * Immutable; changing a spawn registers a new instance under the same name.
+ */
+public class Arena {
+    private final String name;
+    private final String dimension;
+    private final Vector3d spawn1;
+    private final Vector3d spawn2;
+
+    public Arena(String name, String dimension, Vector3d spawn1, Vector3d spawn2) {
+        this.name = name;
+        this.dimension = dimension;
+        this.spawn1 = spawn1;
+        this.spawn2 = spawn2;
+    }
+
+    /**
+     * @return A copy of this arena with one spawn point moved
+     */
+    public Arena withSpawn(int position, Vector3d spawn) {
+        return position == 1
+                ? new Arena(name, dimension, spawn, spawn2)
+                : new Arena(name, dimension, spawn1, spawn);
+    }
+
+    /**
+     * Get the spawn point for a match position
+     * @param position 1 or 2
+     * @return The spawn or null if it has not been set
+     */
+    public Vector3d getSpawn(int position) {
+        return position == 1 ? spawn1 : spawn2;
+    }
+
+    /**
+     * Check if both spawn points are set so the arena can host matches
+     */
+    public boolean isComplete() {
+        return spawn1 != null && spawn2 != null;
+    }
+
+    public String getName() { return name; }
+    public String getDimension() { return dimension; }
+}
\ No newline at end of file
@@ -0,0 +1,366 @@
+package com.blissy.tournaments.arena;
+
+import com.blissy.tournaments.Tournaments;
+import com.blissy.tournaments.data.TournamentMatch;
+import com.blissy.tournaments.util.DataFiles;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Registry of tournament arenas and the allocator that leases them to matches.
+ * Each match gets an arena of its own; when every arena is busy, matches wait in
+ * FIFO order and receive the next arena that is released.
+ * If no arenas are registered, every match uses the shared legacy match positions, and so
+ * do waiting matches once the last usable arena is removed or left incomplete.
+ * Arenas are saved on a background thread via a temp file and rename.
+ */
+public class ArenaManager {
+    private static final String ARENA_FILE = "tournaments_arenas.dat";
+
+    // Arena name -> arena, in registration order
+    private static final Map<String, Arena> arenas = new LinkedHashMap<>();
+
+    // Names of complete arenas not leased to any match
+    private static final Deque<String> freeArenas = new ArrayDeque<>();
+
+    // Match -> arena it is currently using
+    private static final Map<TournamentMatch, Arena> leases = new HashMap<>();
+
+    // Match -> when it was given its arena
+    private static final Map<TournamentMatch, Instant> leasedAt = new HashMap<>();
+
+    // Matches waiting for an arena, oldest first
+    private static final Deque<ArenaRequest> waiting = new ArrayDeque<>();
+
+    private static ExecutorService writer;
+
+    /**
+     * Ask for an arena for a match. The callback runs immediately if an arena is
+     * free, otherwise once one is released. It receives null when no arenas are
+     * registered, meaning the legacy match positions should be used.
+     * @return True if the callback has already run, false if the match is queued
+     */
+    public static boolean requestArena(TournamentMatch match, Consumer<Arena> onLeased) {
+        if (leases.containsKey(match) || isWaitingForArena(match)) {
+            return leases.containsKey(match);
+        }
+
+        if (freeArenas.isEmpty() && !hasUsableLease()) {
+            // No usable arenas at all, fall back to the shared positions
+            onLeased.accept(null);
+            return true;
+        }
+
+        String name = freeArenas.poll();
+        if (name == null) {
+            waiting.add(new ArenaRequest(match, onLeased));
+            Tournaments.LOGGER.debug("All {} arenas busy, queued match {} ({} waiting)",
+                    leases.size(), match.getDescription(), waiting.size());
+            return false;
+        }
+
+        lease(arenas.get(name), match, onLeased);
+        return true;
+    }
+
+    /**
+     * Give back the arena used by a match, or drop the match from the queue.
+     * The arena goes straight to the longest waiting match, if any.
+     */
+    public static void release(TournamentMatch match) {
+        if (waiting.removeIf(request -> request.match == match)) {
+            return;
+        }
+
+        Arena arena = leases.remove(match);
+        leasedAt.remove(match);
+        if (arena == null) {
+            return;
+        }
+
+        // The arena may have been edited or removed while it was in use
+        Arena current = arenas.get(arena.getName());
+        if (current != null && current.isComplete()) {
+            freeArenas.add(current.getName());
+        }
+        serveWaiting();
+    }
+
+    /**
+     * Give free arenas to waiting matches, oldest first. Once no usable arena is left,
+     * nothing would ever be released to the rest, so they use the legacy positions.
+     */
+    private static void serveWaiting() {
+        while (!waiting.isEmpty()) {
+            String name = freeArenas.poll();
+            if (name != null) {
+                ArenaRequest next = waiting.poll();
+                lease(arenas.get(name), next.match, next.onLeased);
+            } else if (hasUsableLease()) {
+                return;
+            } else {
+                ArenaRequest next = waiting.poll();
+                Tournaments.LOGGER.debug("No usable arenas left, match {} uses the shared positions",
+                        next.match.getDescription());
+                try {
+                    next.onLeased.accept(null);
+                } catch (Exception e) {
+                    Tournaments.LOGGER.error("Error sending match {} to the shared positions",
+                            next.match.getDescription(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return True if some leased arena will go back to the free list when released
+     */
+    private static boolean hasUsableLease() {
+        for (Arena arena : leases.values()) {
+            Arena current = arenas.get(arena.getName());
+            if (current != null && current.isComplete()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void lease(Arena arena, TournamentMatch match, Consumer<Arena> onLeased) {
+        leases.put(match, arena);
+        leasedAt.put(match, Instant.now());
+        Tournaments.LOGGER.debug("Leased arena {} to match {}", arena.getName(), match.getDescription());
+        try {
+            onLeased.accept(arena);
+        } catch (Exception e) {
+            Tournaments.LOGGER.error("Error sending match {} to arena {}", match.getDescription(), arena.getName(), e);
+        }
+    }
+
+    /**
+     * Check if a match is still queued for an arena
+     */
+    public static boolean isWaitingForArena(TournamentMatch match) {
+        for (ArenaRequest request : waiting) {
+            if (request.match == match) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the arena a match is using
+     * @return The arena or null if the match has none
+     */
+    public static Arena getLeasedArena(TournamentMatch match) {
+        return leases.get(match);
+    }
+
+    /**
+     * Get when a match was given its arena
+     * @return The time or null if the match has no arena
+     */
+    public static Instant getLeasedAt(TournamentMatch match) {
+        return leasedAt.get(match);
+    }
+
+    /**
+     * Check if an arena is currently leased to a match
+     */
+    public static boolean isBusy(String name) {
+        for (Arena arena : leases.values()) {
+            if (arena.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static Collection<Arena> getArenas() {
+        return Collections.unmodifiableCollection(arenas.values());
+    }
+
+    public static int getWaitingCount() {
+        return waiting.size();
+    }
+
+    /**
+     * Set one spawn point of an arena, creating the arena if needed
+     * @return False if the arena exists in a different dimension
+     */
+    public static boolean setSpawn(String name, int position, Vector3d spawn, String dimension) {
+        Arena existing = arenas.get(name);
+        if (existing != null && !existing.getDimension().equals(dimension)) {
+            return false;
+        }
+
+        Arena arena = existing != null
+                ? existing.withSpawn(position, spawn)
+                : new Arena(name, dimension, null, null).withSpawn(position, spawn);
+        arenas.put(name, arena);
+
+        // A newly completed arena can serve the queue right away
+        if (!arena.isComplete()) {
+            freeArenas.remove(name);
+        } else if (!isBusy(name) && !freeArenas.contains(name)) {
+            freeArenas.add(name);
+        }
+        serveWaiting();
+
+        save();
+        return true;
+    }
+
+    /**
+     * Remove an arena. A match using it keeps its spawn until the match ends.
+     */
+    public static boolean removeArena(String name) {
+        if (arenas.remove(name) == null) {
+            return false;
+        }
+        freeArenas.remove(name);
+        serveWaiting();
+        save();
+        return true;
+    }
+
+    /**
+     * Load arenas from the server data directory and start the background writer
+     */
+    public static void load() {
+        shutdown();
+        writer = DataFiles.newWriter("Tournaments arena writer");
+
+        // Leases and waiting matches belong to the previous server run
+        arenas.clear();
+        freeArenas.clear();
+        leases.clear();
+        leasedAt.clear();
+        waiting.clear();
+
+        File file = getArenaFile();
+        if (file == null || !file.exists()) {
+            return;
+        }
+
+        try (FileInputStream stream = new FileInputStream(file)) {
+            CompoundNBT root = CompressedStreamTools.readCompressed(stream);
+            for (String name : root.getAllKeys()) {
+                CompoundNBT tag = root.getCompound(name);
+                Arena arena = new Arena(name, tag.getString("dimension"),
+                        readSpawn(tag, "pos1"), readSpawn(tag, "pos2"));
+                arenas.put(name, arena);
+                if (arena.isComplete() && !isBusy(name)) {
+                    freeArenas.add(name);
+                }
+            }
+            Tournaments.LOGGER.info("Loaded {} tournament arenas", arenas.size());
+        } catch (Exception e) {
+            Tournaments.LOGGER.error("Failed to load tournament arenas", e);
+        }
+    }
+
+    /**
+     * Finish writing arenas and stop the background writer
+     */
+    public static void shutdown() {
+        if (writer == null) {
+            return;
+        }
+
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                Tournaments.LOGGER.warn("Timed out waiting for tournament arenas to be saved");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    /**
+     * Queue the arenas to be written
+     */
+    private static void save() {
+        File file = getArenaFile();
+        if (file == null || writer == null) {
+            return;
+        }
+
+        CompoundNBT root = new CompoundNBT();
+        for (Arena arena : arenas.values()) {
+            CompoundNBT tag = new CompoundNBT();
+            tag.putString("dimension", arena.getDimension());
+            writeSpawn(tag, "pos1", arena.getSpawn(1));
+            writeSpawn(tag, "pos2", arena.getSpawn(2));
+            root.put(arena.getName(), tag);
+        }
+
+        writer.execute(() -> {
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                CompressedStreamTools.writeCompressed(root, bytes);
+                DataFiles.replace(file, bytes.toByteArray());
+            } catch (Exception e) {
+                Tournaments.LOGGER.error("Failed to save tournament arenas", e);
+            }
+        });
+    }
+
+    private static File getArenaFile() {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) return null;
+        return new File(new File(server.getServerDirectory(), "data"), ARENA_FILE);
+    }
+
+    private static Vector3d readSpawn(CompoundNBT tag, String key) {
+        if (!tag.contains(key)) {
+            return null;
+        }
+        CompoundNBT spawn = tag.getCompound(key);
+        return new Vector3d(spawn.getDouble("x"), spawn.getDouble("y"), spawn.getDouble("z"));
+    }
+
+    private static void writeSpawn(CompoundNBT tag, String key, Vector3d spawn) {
+        if (spawn == null) {
+            return;
+        }
+        CompoundNBT spawnTag = new CompoundNBT();
+        spawnTag.putDouble("x", spawn.x);
+        spawnTag.putDouble("y", spawn.y);
+        spawnTag.putDouble("z", spawn.z);
+        tag.put(key, spawnTag);
+    }
+
+    /**
+     * A match waiting for an arena and what to do once it has one
+     */
+    private static class ArenaRequest {
+        final TournamentMatch match;
+        final Consumer<Arena> onLeased;
+
+        ArenaRequest(TournamentMatch match, Consumer<Arena> onLeased) {
+            this.match = match;
+            this.onLeased = onLeased;
+        }
+    }
+}
\ No newline at end of file
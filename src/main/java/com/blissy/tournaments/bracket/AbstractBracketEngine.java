@@ -0,0 +1,200 @@
+package com.blissy.tournaments.bracket;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Shared slot bookkeeping for bracket engines.
+ * Subclasses build the graph in {@link #build} and decide where players go in {@link #route}.
+ */
+public abstract class AbstractBracketEngine implements BracketEngine {
+    protected final List<BracketSlot> slots = new ArrayList<>();
+    protected final List<UUID> seeding = new ArrayList<>();
+    protected final Set<UUID> eliminated = new HashSet<>();
+    protected final Set<UUID> withdrawn = new HashSet<>();
+    protected UUID champion;
+    protected boolean complete;
+
+    @Override
+    public BracketUpdate seed(List<UUID> players) {
+        if (!slots.isEmpty()) {
+            throw new IllegalStateException("Bracket has already been seeded");
+        }
+        if (players == null || players.size() < 2) {
+            throw new IllegalArgumentException("A bracket needs at least 2 players");
+        }
+        if (new HashSet<>(players).size() != players.size() || players.contains(BracketSlot.BYE)) {
+            throw new IllegalArgumentException("Players must be distinct and not BYE");
+        }
+
+        seeding.addAll(players);
+        BracketUpdate update = new BracketUpdate();
+        build(Collections.unmodifiableList(seeding), update);
+        return update;
+    }
+
+    /**
+     * Create every slot and feed the seeded players into their first slots
+     */
+    protected abstract void build(List<UUID> players, BracketUpdate update);
+
+    /**
+     * Send the players of a completed slot to their next slots
+     * @param winner The winner, or BYE if neither side had a player
+     * @param loser The loser, or BYE if the winner had no opponent
+     */
+    protected abstract void route(BracketSlot slot, UUID winner, UUID loser, BracketUpdate update);
+
+    @Override
+    public BracketUpdate reportResult(int slotId, UUID winnerId) {
+        BracketSlot slot = getSlot(slotId);
+        if (slot.getState() != BracketSlot.State.READY) {
+            throw new IllegalStateException("Slot " + slotId + " is not ready: " + slot.getState());
+        }
+        UUID loserId = slot.getOpponent(winnerId);
+        if (loserId == null) {
+            throw new IllegalArgumentException("Player " + winnerId + " is not in slot " + slotId);
+        }
+
+        BracketUpdate update = new BracketUpdate();
+        complete(slot, winnerId, loserId, update);
+        return update;
+    }
+
+    @Override
+    public BracketUpdate withdraw(UUID playerId) {
+        BracketUpdate update = new BracketUpdate();
+        if (!seeding.contains(playerId) || complete || !withdrawn.add(playerId)) {
+            return update;
+        }
+
+        eliminate(playerId, update);
+
+        // Withdrawals are rare, so a scan for the slot they are waiting to play is fine
+        for (BracketSlot slot : slots) {
+            if (slot.getState() == BracketSlot.State.READY && slot.hasPlayer(playerId)) {
+                update.addForfeit(slot);
+                complete(slot, slot.getOpponent(playerId), playerId, update);
+            }
+        }
+        return update;
+    }
+
+    /**
+     * Create a slot and register it under the next free id
+     */
+    protected BracketSlot newSlot(BracketSlot.Side side, int round) {
+        BracketSlot slot = new BracketSlot(slots.size(), side, round);
+        slots.add(slot);
+        return slot;
+    }
+
+    /**
+     * Place a player into a slot and settle the slot once both sides are known
+     */
+    protected void feed(int slotId, int position, UUID playerId, BracketUpdate update) {
+        BracketSlot slot = slots.get(slotId);
+        if (slot.fill(position, playerId)) {
+            settle(slot, update);
+        }
+    }
+
+    /**
+     * Decide what happens to a slot whose two sides are filled.
+     * Empty or withdrawn sides are walkovers; otherwise the slot becomes playable.
+     */
+    private void settle(BracketSlot slot, BracketUpdate update) {
+        UUID p1 = slot.getPlayer1();
+        UUID p2 = slot.getPlayer2();
+        boolean p1Missing = isUnavailable(p1);
+        boolean p2Missing = isUnavailable(p2);
+
+        if (p1Missing && p2Missing) {
+            complete(slot, BracketSlot.BYE, BracketSlot.BYE, update);
+        } else if (p1Missing) {
+            if (p1.equals(BracketSlot.BYE)) update.addBye(p2);
+            complete(slot, p2, p1, update);
+        } else if (p2Missing) {
+            if (p2.equals(BracketSlot.BYE)) update.addBye(p1);
+            complete(slot, p1, p2, update);
+        } else {
+            slot.markReady();
+            update.addReady(slot);
+        }
+    }
+
+    private void complete(BracketSlot slot, UUID winner, UUID loser, BracketUpdate update) {
+        slot.complete(winner);
+        route(slot, winner, loser, update);
+    }
+
+    /**
+     * Knock a player out of the bracket. Byes are ignored.
+     */
+    protected void eliminate(UUID playerId, BracketUpdate update) {
+        if (!playerId.equals(BracketSlot.BYE) && eliminated.add(playerId)) {
+            update.addEliminated(playerId);
+        }
+    }
+
+    /**
+     * Finish the bracket with a champion (null if nobody was left to win)
+     */
+    protected void crown(UUID playerId, BracketUpdate update) {
+        champion = isUnavailable(playerId) ? null : playerId;
+        complete = true;
+        update.setChampion(champion);
+    }
+
+    protected boolean isUnavailable(UUID playerId) {
+        return playerId.equals(BracketSlot.BYE) || withdrawn.contains(playerId);
+    }
+
+    /**
+     * Smallest power of two that is at least n
+     */
+    protected static int bracketSize(int n) {
+        int size = 1;
+        while (size < n) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    @Override
+    public BracketSlot getSlot(int slotId) {
+        if (slotId < 0 || slotId >= slots.size()) {
+            throw new IllegalArgumentException("Unknown slot " + slotId);
+        }
+        return slots.get(slotId);
+    }
+
+    @Override
+    public List<BracketSlot> getSlots() {
+        return Collections.unmodifiableList(slots);
+    }
+
+    @Override
+    public List<UUID> getSeeding() {
+        return Collections.unmodifiableList(seeding);
+    }
+
+    @Override
+    public boolean isEliminated(UUID playerId) {
+        return eliminated.contains(playerId);
+    }
+
+    @Override
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public UUID getChampion() {
+        return champion;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.blissy.tournaments.bracket;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A tournament format. Implementations build the whole bracket graph when seeded,
+ * so reporting a result only follows the edges leaving the finished slot.
+ * Engines are plain Java and hold no Minecraft types.
+ */
+public interface BracketEngine {
+
+    /**
+     * @return The format name, e.g. SINGLE_ELIMINATION
+     */
+    String getFormat();
+
+    /**
+     * Build the bracket for the given players in seeding order
+     * @param players At least two distinct player UUIDs
+     * @return Slots that are ready to play and byes handed out while seeding
+     */
+    BracketUpdate seed(List<UUID> players);
+
+    /**
+     * Record the winner of a READY slot
+     * @param slotId Slot being reported
+     * @param winnerId One of the two players in the slot
+     * @return Slots that became ready, eliminations and completion caused by this result
+     */
+    BracketUpdate reportResult(int slotId, UUID winnerId);
+
+    /**
+     * Remove a player from the rest of the bracket. Any READY slot they are in is
+     * forfeited to the opponent and later slots they would have reached are walkovers.
+     */
+    BracketUpdate withdraw(UUID playerId);
+
+    /**
+     * @return The slot with the given id
+     */
+    BracketSlot getSlot(int slotId);
+
+    /**
+     * @return Every slot in the bracket, indexed by slot id
+     */
+    List<BracketSlot> getSlots();
+
+    /**
+     * @return Players in the order they were seeded
+     */
+    List<UUID> getSeeding();
+
+    /**
+     * Check if a player can no longer win the tournament
+     */
+    boolean isEliminated(UUID playerId);
+
+    /**
+     * @return True once a champion has been decided
+     */
+    boolean isComplete();
+
+    /**
+     * @return The champion or null if the bracket is not complete
+     */
+    UUID getChampion();
+}
\ No newline at end of file
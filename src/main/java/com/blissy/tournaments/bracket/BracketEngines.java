@@ -0,0 +1,28 @@
+package com.blissy.tournaments.bracket;
+
+/**
+ * Creates the bracket engine for a tournament format name.
+ */
+public final class BracketEngines {
+
+    private BracketEngines() {
+    }
+
+    /**
+     * @param format SINGLE_ELIMINATION, DOUBLE_ELIMINATION or ROUND_ROBIN (case insensitive)
+     * @return A new unseeded engine; unknown formats fall back to single elimination
+     */
+    public static BracketEngine create(String format) {
+        if (format == null) {
+            return new SingleEliminationEngine();
+        }
+        switch (format.toUpperCase()) {
+            case DoubleEliminationEngine.FORMAT:
+                return new DoubleEliminationEngine();
+            case RoundRobinEngine.FORMAT:
+                return new RoundRobinEngine();
+            default:
+                return new SingleEliminationEngine();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.blissy.tournaments.bracket;
+
+import java.util.UUID;
+
+/**
+ * A single node of a bracket graph: one pairing and where its players go next.
+ */
+public class BracketSlot {
+    // Placeholder for an empty side of a slot
+    public static final UUID BYE = new UUID(0L, 0L);
+
+    public enum Side {
+        WINNERS,           // Single elimination or winners bracket
+        LOSERS,            // Double elimination losers bracket
+        GRAND_FINAL,       // Winners bracket champion vs losers bracket champion
+        GRAND_FINAL_RESET, // Played only if the losers bracket champion wins the grand final
+        ROUND_ROBIN        // One pairing of a round robin schedule
+    }
+
+    public enum State {
+        WAITING,   // One or both players not known yet
+        READY,     // Both players known, match can be played
+        COMPLETED  // Winner decided
+    }
+
+    private final int id;
+    private final Side side;
+    private final int round;
+    private final UUID[] players = new UUID[2];
+    private UUID winnerId;
+    private State state;
+    private int feedsRemaining;
+
+    // Elimination edges: where the winner and loser go (-1 = nowhere)
+    int winnerTarget = -1;
+    int winnerPosition;
+    int loserTarget = -1;
+    int loserPosition;
+
+    // Round robin edges: where the player in each position plays next (-1 = nowhere)
+    final int[] playerTarget = {-1, -1};
+    final int[] playerTargetPosition = new int[2];
+
+    BracketSlot(int id, Side side, int round) {
+        this.id = id;
+        this.side = side;
+        this.round = round;
+        this.state = State.WAITING;
+        this.feedsRemaining = 2;
+    }
+
+    /**
+     * Place a player in one side of the slot
+     * @return True if both sides are now filled
+     */
+    boolean fill(int position, UUID playerId) {
+        players[position] = playerId;
+        feedsRemaining--;
+        return feedsRemaining == 0;
+    }
+
+    void markReady() {
+        state = State.READY;
+    }
+
+    void complete(UUID winnerId) {
+        this.winnerId = winnerId;
+        this.state = State.COMPLETED;
+    }
+
+    public int getId() { return id; }
+    public Side getSide() { return side; }
+    public int getRound() { return round; }
+    public UUID getPlayer1() { return players[0]; }
+    public UUID getPlayer2() { return players[1]; }
+    public UUID getPlayer(int position) { return players[position]; }
+    public UUID getWinnerId() { return winnerId; }
+    public State getState() { return state; }
+
+    /**
+     * Check if a player is in this slot
+     */
+    public boolean hasPlayer(UUID playerId) {
+        return playerId.equals(players[0]) || playerId.equals(players[1]);
+    }
+
+    /**
+     * Get the opponent of a player in this slot
+     * @return The opponent or null if the player is not in this slot
+     */
+    public UUID getOpponent(UUID playerId) {
+        if (playerId.equals(players[0])) return players[1];
+        if (playerId.equals(players[1])) return players[0];
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return side + " R" + (round + 1) + " #" + id + " " + players[0] + " vs " + players[1] + " [" + state + "]";
+    }
+}
\ No newline at end of file
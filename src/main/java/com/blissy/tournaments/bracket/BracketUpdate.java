@@ -0,0 +1,81 @@
+package com.blissy.tournaments.bracket;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Everything that changed in a bracket as the result of one engine call.
+ */
+public class BracketUpdate {
+    private final List<BracketSlot> readySlots = new ArrayList<>();
+    private final List<BracketSlot> forfeitedSlots = new ArrayList<>();
+    private final List<UUID> byes = new ArrayList<>();
+    private final List<UUID> eliminated = new ArrayList<>();
+    private UUID champion;
+    private boolean complete;
+
+    void addReady(BracketSlot slot) {
+        readySlots.add(slot);
+    }
+
+    void addForfeit(BracketSlot slot) {
+        forfeitedSlots.add(slot);
+    }
+
+    void addBye(UUID playerId) {
+        byes.add(playerId);
+    }
+
+    void addEliminated(UUID playerId) {
+        eliminated.add(playerId);
+    }
+
+    void setChampion(UUID champion) {
+        this.champion = champion;
+        this.complete = true;
+    }
+
+    /**
+     * @return Slots whose two players are now known and can be played
+     */
+    public List<BracketSlot> getReadySlots() {
+        return Collections.unmodifiableList(readySlots);
+    }
+
+    /**
+     * @return READY slots that were decided by a withdrawal instead of being played
+     */
+    public List<BracketSlot> getForfeitedSlots() {
+        return Collections.unmodifiableList(forfeitedSlots);
+    }
+
+    /**
+     * @return Players that advanced without playing because their opponent slot was empty
+     */
+    public List<UUID> getByes() {
+        return Collections.unmodifiableList(byes);
+    }
+
+    /**
+     * @return Players that can no longer win, in the order they were knocked out
+     */
+    public List<UUID> getEliminated() {
+        return Collections.unmodifiableList(eliminated);
+    }
+
+    /**
+     * @return The champion if this update completed the bracket, otherwise null
+     */
+    public UUID getChampion() {
+        return champion;
+    }
+
+    /**
+     * @return True if this update completed the bracket
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+}
\ No newline at end of file
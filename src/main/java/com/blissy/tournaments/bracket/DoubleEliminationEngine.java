@@ -0,0 +1,137 @@
+package com.blissy.tournaments.bracket;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Double elimination: a winners bracket, a losers bracket fed by its losers and
+ * a grand final with a reset if the losers bracket champion wins the first set.
+ */
+public class DoubleEliminationEngine extends SingleEliminationEngine {
+    public static final String FORMAT = "DOUBLE_ELIMINATION";
+
+    private int grandFinalId = -1;
+    private int resetId = -1;
+
+    @Override
+    public String getFormat() {
+        return FORMAT;
+    }
+
+    @Override
+    protected void build(List<UUID> players, BracketUpdate update) {
+        int size = bracketSize(players.size());
+        int rounds = Integer.numberOfTrailingZeros(size);
+        int[] winnersFirst = buildWinnersBracket(size, BracketSlot.Side.WINNERS);
+
+        BracketSlot grandFinal = newSlot(BracketSlot.Side.GRAND_FINAL, rounds);
+        BracketSlot reset = newSlot(BracketSlot.Side.GRAND_FINAL_RESET, rounds + 1);
+        grandFinalId = grandFinal.getId();
+        resetId = reset.getId();
+
+        BracketSlot winnersFinal = slots.get(winnersFirst[rounds - 1]);
+        winnersFinal.winnerTarget = grandFinalId;
+        winnersFinal.winnerPosition = 0;
+
+        if (rounds == 1) {
+            // Two players: the first loss drops straight into the grand final
+            winnersFinal.loserTarget = grandFinalId;
+            winnersFinal.loserPosition = 1;
+        } else {
+            buildLosersBracket(size, rounds, winnersFirst);
+        }
+
+        seedFirstRound(players, size, winnersFirst[0], update);
+    }
+
+    /**
+     * Create the losers bracket. Odd rounds take the losers dropping down from the
+     * winners bracket, even rounds halve the field. Drop-down order is reversed on
+     * alternate rounds so players do not meet the same opponent again straight away.
+     */
+    private void buildLosersBracket(int size, int rounds, int[] winnersFirst) {
+        int losersRounds = 2 * (rounds - 1);
+        int[] losersFirst = new int[losersRounds];
+
+        for (int j = 0; j < losersRounds; j++) {
+            losersFirst[j] = slots.size();
+            for (int i = 0; i < losersRoundSize(size, j); i++) {
+                newSlot(BracketSlot.Side.LOSERS, j);
+            }
+        }
+
+        // Losers of winners round 1 pair up in the first losers round
+        for (int i = 0; i < size / 2; i++) {
+            BracketSlot slot = slots.get(winnersFirst[0] + i);
+            slot.loserTarget = losersFirst[0] + i / 2;
+            slot.loserPosition = i % 2;
+        }
+
+        for (int j = 1; j < losersRounds; j++) {
+            int count = losersRoundSize(size, j);
+            int previousCount = losersRoundSize(size, j - 1);
+
+            if (j % 2 == 1) {
+                // Survivors keep their index, drop-downs from winners round m fill the other side
+                int m = (j + 1) / 2;
+                for (int i = 0; i < previousCount; i++) {
+                    BracketSlot previous = slots.get(losersFirst[j - 1] + i);
+                    previous.winnerTarget = losersFirst[j] + i;
+                    previous.winnerPosition = 0;
+                }
+                for (int i = 0; i < count; i++) {
+                    int from = m % 2 == 0 ? count - 1 - i : i;
+                    BracketSlot dropping = slots.get(winnersFirst[m] + from);
+                    dropping.loserTarget = losersFirst[j] + i;
+                    dropping.loserPosition = 1;
+                }
+            } else {
+                for (int i = 0; i < previousCount; i++) {
+                    BracketSlot previous = slots.get(losersFirst[j - 1] + i);
+                    previous.winnerTarget = losersFirst[j] + i / 2;
+                    previous.winnerPosition = i % 2;
+                }
+            }
+        }
+
+        BracketSlot losersFinal = slots.get(losersFirst[losersRounds - 1]);
+        losersFinal.winnerTarget = grandFinalId;
+        losersFinal.winnerPosition = 1;
+    }
+
+    private static int losersRoundSize(int size, int j) {
+        if (j == 0) {
+            return size >> 2;
+        }
+        int m = (j + 1) / 2;
+        return j % 2 == 1 ? size >> (m + 1) : size >> (m + 2);
+    }
+
+    @Override
+    protected void route(BracketSlot slot, UUID winner, UUID loser, BracketUpdate update) {
+        switch (slot.getSide()) {
+            case WINNERS:
+                feed(slot.winnerTarget, slot.winnerPosition, winner, update);
+                feed(slot.loserTarget, slot.loserPosition, loser, update);
+                break;
+            case LOSERS:
+                eliminate(loser, update);
+                feed(slot.winnerTarget, slot.winnerPosition, winner, update);
+                break;
+            case GRAND_FINAL:
+                if (winner.equals(slot.getPlayer1())) {
+                    // Winners bracket champion is still unbeaten
+                    eliminate(loser, update);
+                    crown(winner, update);
+                } else {
+                    feed(resetId, 0, winner, update);
+                    feed(resetId, 1, loser, update);
+                }
+                break;
+            default:
+                eliminate(loser, update);
+                crown(winner, update);
+                break;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.blissy.tournaments.bracket;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Everyone plays everyone once. Pairings come from the circle method and each
+ * player's matches are chained, so a player's next match opens as soon as both
+ * players have finished their previous one. Most wins takes the title, then
+ * fewest losses, then seeding.
+ */
+public class RoundRobinEngine extends AbstractBracketEngine {
+    public static final String FORMAT = "ROUND_ROBIN";
+
+    private final Map<UUID, Integer> wins = new HashMap<>();
+    private final Map<UUID, Integer> losses = new HashMap<>();
+    private int completedSlots;
+
+    @Override
+    public String getFormat() {
+        return FORMAT;
+    }
+
+    @Override
+    protected void build(List<UUID> players, BracketUpdate update) {
+        List<UUID> circle = new ArrayList<>(players);
+        if (circle.size() % 2 == 1) {
+            circle.add(BracketSlot.BYE);
+        }
+        int n = circle.size();
+
+        // Last seat each player was given, so the next one can be chained on
+        Map<UUID, Seat> previous = new HashMap<>();
+        List<Seat> openingSeats = new ArrayList<>();
+
+        for (int round = 0; round < n - 1; round++) {
+            for (int i = 0; i < n / 2; i++) {
+                BracketSlot slot = newSlot(BracketSlot.Side.ROUND_ROBIN, round);
+                link(previous, openingSeats, new Seat(circle.get(i), slot.getId(), 0));
+                link(previous, openingSeats, new Seat(circle.get(n - 1 - i), slot.getId(), 1));
+            }
+            // Keep the first player fixed and rotate everyone else one place
+            circle.add(1, circle.remove(n - 1));
+        }
+
+        for (UUID player : players) {
+            wins.put(player, 0);
+            losses.put(player, 0);
+        }
+
+        for (Seat seat : openingSeats) {
+            feed(seat.slotId, seat.position, seat.player, update);
+        }
+    }
+
+    /**
+     * Chain a player's previous seat to this one. First seats, and every seat of
+     * the bye, are fed directly once all slots exist.
+     */
+    private void link(Map<UUID, Seat> previous, List<Seat> openingSeats, Seat seat) {
+        Seat last = seat.player.equals(BracketSlot.BYE) ? null : previous.put(seat.player, seat);
+        if (last == null) {
+            openingSeats.add(seat);
+        } else {
+            BracketSlot from = slots.get(last.slotId);
+            from.playerTarget[last.position] = seat.slotId;
+            from.playerTargetPosition[last.position] = seat.position;
+        }
+    }
+
+    @Override
+    protected void route(BracketSlot slot, UUID winner, UUID loser, BracketUpdate update) {
+        completedSlots++;
+        if (!winner.equals(BracketSlot.BYE) && !loser.equals(BracketSlot.BYE)) {
+            wins.merge(winner, 1, Integer::sum);
+            losses.merge(loser, 1, Integer::sum);
+        }
+
+        for (int position = 0; position < 2; position++) {
+            int target = slot.playerTarget[position];
+            if (target >= 0) {
+                feed(target, slot.playerTargetPosition[position], slot.getPlayer(position), update);
+            }
+        }
+
+        if (completedSlots == slots.size() && !complete) {
+            finish(update);
+        }
+    }
+
+    private void finish(BracketUpdate update) {
+        UUID best = null;
+        for (UUID player : seeding) {
+            if (withdrawn.contains(player)) {
+                continue;
+            }
+            if (best == null || ranksAbove(player, best)) {
+                best = player;
+            }
+        }
+        for (UUID player : seeding) {
+            if (!player.equals(best)) {
+                eliminate(player, update);
+            }
+        }
+        crown(best == null ? BracketSlot.BYE : best, update);
+    }
+
+    private boolean ranksAbove(UUID player, UUID other) {
+        int winDiff = wins.get(player) - wins.get(other);
+        if (winDiff != 0) {
+            return winDiff > 0;
+        }
+        // Ties on wins go to fewer losses, then to the earlier seed (the current best)
+        return losses.get(player) < losses.get(other);
+    }
+
+    /**
+     * @return Matches won so far, including forfeits by the opponent
+     */
+    public int getWins(UUID playerId) {
+        return wins.getOrDefault(playerId, 0);
+    }
+
+    /**
+     * @return Matches lost so far
+     */
+    public int getLosses(UUID playerId) {
+        return losses.getOrDefault(playerId, 0);
+    }
+
+    private static final class Seat {
+        final UUID player;
+        final int slotId;
+        final int position;
+
+        Seat(UUID player, int slotId, int position) {
+            this.player = player;
+            this.slotId = slotId;
+            this.position = position;
+        }
+    }
+}
\ No newline at end of file
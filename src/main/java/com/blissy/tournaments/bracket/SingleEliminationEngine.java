@@ -0,0 +1,74 @@
+package com.blissy.tournaments.bracket;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Classic knockout bracket. The field is padded to a power of two and the
+ * top seeds receive the byes.
+ */
+public class SingleEliminationEngine extends AbstractBracketEngine {
+    public static final String FORMAT = "SINGLE_ELIMINATION";
+
+    @Override
+    public String getFormat() {
+        return FORMAT;
+    }
+
+    @Override
+    protected void build(List<UUID> players, BracketUpdate update) {
+        int size = bracketSize(players.size());
+        int[] firstSlot = buildWinnersBracket(size, BracketSlot.Side.WINNERS);
+        seedFirstRound(players, size, firstSlot[0], update);
+    }
+
+    /**
+     * Create the knockout rounds and link every slot to the one its winner plays next
+     * @return The id of the first slot of each round
+     */
+    protected int[] buildWinnersBracket(int size, BracketSlot.Side side) {
+        int rounds = Integer.numberOfTrailingZeros(size);
+        int[] firstSlot = new int[rounds];
+
+        for (int round = 0; round < rounds; round++) {
+            firstSlot[round] = slots.size();
+            int count = size >> (round + 1);
+            for (int i = 0; i < count; i++) {
+                newSlot(side, round);
+            }
+        }
+
+        for (int round = 0; round + 1 < rounds; round++) {
+            int count = size >> (round + 1);
+            for (int i = 0; i < count; i++) {
+                BracketSlot slot = slots.get(firstSlot[round] + i);
+                slot.winnerTarget = firstSlot[round + 1] + i / 2;
+                slot.winnerPosition = i % 2;
+            }
+        }
+        return firstSlot;
+    }
+
+    /**
+     * Fill the first round, giving the byes to the top seeds
+     */
+    protected void seedFirstRound(List<UUID> players, int size, int firstSlotId, BracketUpdate update) {
+        int byes = size - players.size();
+        int next = 0;
+        for (int i = 0; i < size / 2; i++) {
+            int slotId = firstSlotId + i;
+            feed(slotId, 0, players.get(next++), update);
+            feed(slotId, 1, i < byes ? BracketSlot.BYE : players.get(next++), update);
+        }
+    }
+
+    @Override
+    protected void route(BracketSlot slot, UUID winner, UUID loser, BracketUpdate update) {
+        eliminate(loser, update);
+        if (slot.winnerTarget >= 0) {
+            feed(slot.winnerTarget, slot.winnerPosition, winner, update);
+        } else {
+            crown(winner, update);
+        }
+    }
+}
\ No newline at end of file
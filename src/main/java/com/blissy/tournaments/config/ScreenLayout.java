@@ -0,0 +1,252 @@
+package com.blissy.tournaments.config;
+
+import com.blissy.tournaments.Tournaments;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.util.text.TextFormatting;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A screen from the UI config compiled into ready-to-copy item stacks.
+ * Built once per config version by {@link UIConfigLoader}; opening a screen only copies
+ * the prototypes instead of walking the JSON again. Prototypes must never be modified,
+ * always go through the getters, which hand out copies.
+ */
+public class ScreenLayout {
+    // Button names that have built-in defaults when a screen has no "items" section
+    private static final String[] DEFAULT_BUTTONS = {
+            "join_button", "leave_button", "create_button", "start_button", "back_button",
+            "previous_page_button", "next_page_button"
+    };
+
+    private final int version;
+    private final String title;
+    private final boolean hasSlots;
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final Map<String, int[]> slotLists = new HashMap<>();
+    private final Map<Integer, ItemStack> borders = new LinkedHashMap<>();
+    private final Map<String, UIConfigLoader.ItemConfig> itemConfigs = new HashMap<>();
+    private final Map<String, ItemStack> itemPrototypes = new HashMap<>();
+    private final Map<String, Item> items = new HashMap<>();
+    private final Map<String, Item> tournamentItems = new HashMap<>();
+    private final Map<String, ScreenLayout> subScreens;
+
+    private ScreenLayout(int version, JsonObject screenConfig, Map<String, ScreenLayout> subScreens) {
+        this.version = version;
+        this.subScreens = subScreens;
+        this.title = screenConfig.has("title") ? screenConfig.get("title").getAsString() : null;
+        this.hasSlots = screenConfig.has("slots");
+
+        compileSlots(screenConfig);
+        compileBorders(screenConfig);
+        compileItems(screenConfig);
+    }
+
+    /**
+     * Compile a screen and the nested screens it contains
+     * @param subScreenNames Keys of nested screen objects, e.g. "recurring_matches_screen"
+     */
+    static ScreenLayout compile(int version, JsonObject screenConfig, String... subScreenNames) {
+        Map<String, ScreenLayout> subScreens = new HashMap<>();
+        for (String name : subScreenNames) {
+            if (screenConfig.has(name) && screenConfig.get(name).isJsonObject()) {
+                subScreens.put(name, new ScreenLayout(version, screenConfig.getAsJsonObject(name),
+                        Collections.emptyMap()));
+            }
+        }
+        return new ScreenLayout(version, screenConfig, subScreens);
+    }
+
+    private void compileSlots(JsonObject screenConfig) {
+        if (!hasSlots) return;
+
+        for (Map.Entry<String, JsonElement> entry : screenConfig.getAsJsonObject("slots").entrySet()) {
+            try {
+                if (entry.getValue().isJsonArray()) {
+                    JsonArray array = entry.getValue().getAsJsonArray();
+                    int[] list = new int[array.size()];
+                    for (int i = 0; i < list.length; i++) {
+                        list[i] = array.get(i).getAsInt();
+                    }
+                    slotLists.put(entry.getKey(), list);
+                } else {
+                    slots.put(entry.getKey(), entry.getValue().getAsInt());
+                }
+            } catch (Exception e) {
+                Tournaments.LOGGER.error("Error parsing UI slot {}, using default", entry.getKey(), e);
+            }
+        }
+    }
+
+    private void compileBorders(JsonObject screenConfig) {
+        for (UIConfigLoader.BorderConfig border : UIConfigLoader.getBorderConfigs(screenConfig).values()) {
+            ItemStack prototype = UIConfigLoader.createBorderItem(border);
+            for (int slot : border.getSlots()) {
+                // The first border listing a slot wins, as with applyBorders
+                borders.putIfAbsent(slot, prototype);
+            }
+        }
+    }
+
+    private void compileItems(JsonObject screenConfig) {
+        for (String name : DEFAULT_BUTTONS) {
+            addItemConfig(screenConfig, name);
+        }
+
+        if (screenConfig.has("items")) {
+            for (Map.Entry<String, JsonElement> entry : screenConfig.getAsJsonObject("items").entrySet()) {
+                addItemConfig(screenConfig, entry.getKey());
+                readItem(entry.getValue(), entry.getKey(), items);
+            }
+        }
+
+        if (screenConfig.has("tournament_items")) {
+            for (Map.Entry<String, JsonElement> entry : screenConfig.getAsJsonObject("tournament_items").entrySet()) {
+                readItem(entry.getValue(), entry.getKey(), tournamentItems);
+            }
+        }
+
+        // Page buttons keep their defaults on screens whose "items" section doesn't list them
+        addFallbackItem("previous_page_button", UIConfigLoader.PREVIOUS_PAGE_BUTTON);
+        addFallbackItem("next_page_button", UIConfigLoader.NEXT_PAGE_BUTTON);
+    }
+
+    private void addFallbackItem(String name, UIConfigLoader.ItemConfig fallback) {
+        if (!hasItem(name)) {
+            itemConfigs.put(name, fallback);
+            itemPrototypes.put(name, createItem(fallback));
+        }
+    }
+
+    private void addItemConfig(JsonObject screenConfig, String name) {
+        try {
+            UIConfigLoader.ItemConfig itemConfig = UIConfigLoader.getItemConfig(screenConfig, name);
+            itemConfigs.put(name, itemConfig);
+            itemPrototypes.put(name, createItem(itemConfig));
+        } catch (Exception e) {
+            Tournaments.LOGGER.error("Error parsing UI item {}", name, e);
+        }
+    }
+
+    private static void readItem(JsonElement element, String name, Map<String, Item> target) {
+        if (element.isJsonObject() && element.getAsJsonObject().has("item")) {
+            target.put(name, UIConfigLoader.getItem(element.getAsJsonObject().get("item").getAsString()));
+        }
+    }
+
+    private static ItemStack createItem(UIConfigLoader.ItemConfig itemConfig) {
+        ItemStack stack = new ItemStack(itemConfig.getItem());
+        stack.setHoverName(new StringTextComponent(itemConfig.getName())
+                .withStyle(itemConfig.getColor()));
+        return stack;
+    }
+
+    /**
+     * @return The config version this layout was compiled from
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    public String getTitle(String fallback) {
+        return title != null ? title : fallback;
+    }
+
+    /**
+     * Get a slot number, with the same defaults as {@link UIConfigLoader#getSlot}
+     */
+    public int getSlot(String slotName) {
+        if (!hasSlots) {
+            return UIConfigLoader.getSlot(null, slotName);
+        }
+        return slots.getOrDefault(slotName, 0);
+    }
+
+    /**
+     * Get a slot number, or a fallback if the config doesn't set it
+     */
+    public int getSlot(String slotName, int fallback) {
+        return slots.getOrDefault(slotName, fallback);
+    }
+
+    /**
+     * Get a list of slots, or the defaults if the config doesn't set it
+     */
+    public int[] getSlots(String slotName, int... defaults) {
+        return slotLists.getOrDefault(slotName, defaults);
+    }
+
+    /**
+     * Fill the empty slots of an inventory with copies of the border items
+     */
+    public void applyBorders(Inventory inventory) {
+        for (Map.Entry<Integer, ItemStack> entry : borders.entrySet()) {
+            int slot = entry.getKey();
+            if (slot >= 0 && slot < inventory.getContainerSize() && inventory.getItem(slot).isEmpty()) {
+                inventory.setItem(slot, entry.getValue().copy());
+            }
+        }
+    }
+
+    public UIConfigLoader.ItemConfig getItemConfig(String itemName) {
+        UIConfigLoader.ItemConfig itemConfig = itemConfigs.get(itemName);
+        return itemConfig != null ? itemConfig :
+                new UIConfigLoader.ItemConfig(Items.BARRIER, itemName, TextFormatting.WHITE, "none");
+    }
+
+    /**
+     * @return True if the config defines a real item for this name rather than the barrier fallback
+     */
+    public boolean hasItem(String itemName) {
+        UIConfigLoader.ItemConfig itemConfig = itemConfigs.get(itemName);
+        return itemConfig != null && itemConfig.getItem() != Items.BARRIER;
+    }
+
+    /**
+     * Get a copy of a configured item with its name set but no action
+     */
+    public ItemStack getLabel(String itemName) {
+        ItemStack prototype = itemPrototypes.get(itemName);
+        return prototype != null ? prototype.copy() : createItem(getItemConfig(itemName));
+    }
+
+    /**
+     * Get a copy of a configured item with its configured GUI action
+     */
+    public ItemStack getButton(String itemName) {
+        ItemStack button = getLabel(itemName);
+        button.getOrCreateTag().putString("GuiAction", getItemConfig(itemName).getAction());
+        return button;
+    }
+
+    /**
+     * Get the item set for an entry of the "items" section, or a fallback
+     */
+    public Item getItem(String itemName, Item fallback) {
+        return items.getOrDefault(itemName, fallback);
+    }
+
+    /**
+     * Get the item set for an entry of the "tournament_items" section, or a fallback
+     */
+    public Item getTournamentItem(String itemName, Item fallback) {
+        return tournamentItems.getOrDefault(itemName, fallback);
+    }
+
+    /**
+     * Get a nested screen, or this layout if the config doesn't define it
+     */
+    public ScreenLayout getSubScreen(String name) {
+        return subScreens.getOrDefault(name, this);
+    }
+}
\ No newline at end of file
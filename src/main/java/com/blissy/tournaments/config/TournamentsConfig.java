@@ -1,147 +1,201 @@
-package com.blissy.tournaments.config;
-
-import net.minecraftforge.common.ForgeConfigSpec;
-import net.minecraftforge.fml.ModLoadingContext;
-import net.minecraftforge.fml.config.ModConfig;
-import org.apache.commons.lang3.tuple.Pair;
-
-public class TournamentsConfig {
-    public static class Common {
-        public final ForgeConfigSpec.IntValue maxParticipants;
-        public final ForgeConfigSpec.BooleanValue enableRewards;
-        public final ForgeConfigSpec.IntValue battleTimeoutSeconds;
-        public final ForgeConfigSpec.BooleanValue enableTeleports;
-
-        // Entry point teleport coordinates
-        public final ForgeConfigSpec.DoubleValue entryX;
-        public final ForgeConfigSpec.DoubleValue entryY;
-        public final ForgeConfigSpec.DoubleValue entryZ;
-        public final ForgeConfigSpec.ConfigValue<String> entryDimension;
-
-        // Exit point teleport coordinates
-        public final ForgeConfigSpec.DoubleValue exitX;
-        public final ForgeConfigSpec.DoubleValue exitY;
-        public final ForgeConfigSpec.DoubleValue exitZ;
-        public final ForgeConfigSpec.ConfigValue<String> exitDimension;
-
-        // Match position 1 teleport coordinates
-        public final ForgeConfigSpec.DoubleValue matchPos1X;
-        public final ForgeConfigSpec.DoubleValue matchPos1Y;
-        public final ForgeConfigSpec.DoubleValue matchPos1Z;
-        public final ForgeConfigSpec.ConfigValue<String> matchPos1Dimension;
-
-        // Match position 2 teleport coordinates
-        public final ForgeConfigSpec.DoubleValue matchPos2X;
-        public final ForgeConfigSpec.DoubleValue matchPos2Y;
-        public final ForgeConfigSpec.DoubleValue matchPos2Z;
-        public final ForgeConfigSpec.ConfigValue<String> matchPos2Dimension;
-
-        public Common(ForgeConfigSpec.Builder builder) {
-            builder.comment("Tournament Settings")
-                    .push("tournaments");
-
-            maxParticipants = builder
-                    .comment("Maximum number of participants allowed in a tournament")
-                    .defineInRange("maxParticipants", 32, 2, 128);
-
-            enableRewards = builder
-                    .comment("Whether tournament winners receive rewards")
-                    .define("enableRewards", true);
-
-            battleTimeoutSeconds = builder
-                    .comment("Time in seconds before a battle is considered timed out")
-                    .defineInRange("battleTimeoutSeconds", 300, 60, 3600);
-
-            enableTeleports = builder
-                    .comment("Whether tournament teleportation is enabled")
-                    .define("enableTeleports", true);
-
-            builder.comment("Teleport Settings")
-                    .push("teleports");
-
-            entryX = builder
-                    .comment("X coordinate for the tournament entry point (spectator area)")
-                    .defineInRange("entryX", 0.0, -30000000.0, 30000000.0);
-
-            entryY = builder
-                    .comment("Y coordinate for the tournament entry point (spectator area)")
-                    .defineInRange("entryY", 64.0, 0.0, 256.0);
-
-            entryZ = builder
-                    .comment("Z coordinate for the tournament entry point (spectator area)")
-                    .defineInRange("entryZ", 0.0, -30000000.0, 30000000.0);
-
-            entryDimension = builder
-                    .comment("Dimension for the tournament entry point (e.g., minecraft:overworld)")
-                    .define("entryDimension", "minecraft:overworld");
-
-            exitX = builder
-                    .comment("X coordinate for the tournament exit point")
-                    .defineInRange("exitX", 0.0, -30000000.0, 30000000.0);
-
-            exitY = builder
-                    .comment("Y coordinate for the tournament exit point")
-                    .defineInRange("exitY", 64.0, 0.0, 256.0);
-
-            exitZ = builder
-                    .comment("Z coordinate for the tournament exit point")
-                    .defineInRange("exitZ", 0.0, -30000000.0, 30000000.0);
-
-            exitDimension = builder
-                    .comment("Dimension for the tournament exit point (e.g., minecraft:overworld)")
-                    .define("exitDimension", "minecraft:overworld");
-
-            // Define match position 1 coordinates
-            matchPos1X = builder
-                    .comment("X coordinate for the first match position (where player 1 stands to battle)")
-                    .defineInRange("matchPos1X", 0.0, -30000000.0, 30000000.0);
-
-            matchPos1Y = builder
-                    .comment("Y coordinate for the first match position (where player 1 stands to battle)")
-                    .defineInRange("matchPos1Y", 64.0, 0.0, 256.0);
-
-            matchPos1Z = builder
-                    .comment("Z coordinate for the first match position (where player 1 stands to battle)")
-                    .defineInRange("matchPos1Z", 0.0, -30000000.0, 30000000.0);
-
-            matchPos1Dimension = builder
-                    .comment("Dimension for the first match position (e.g., minecraft:overworld)")
-                    .define("matchPos1Dimension", "minecraft:overworld");
-
-            // Define match position 2 coordinates
-            matchPos2X = builder
-                    .comment("X coordinate for the second match position (where player 2 stands to battle)")
-                    .defineInRange("matchPos2X", 0.0, -30000000.0, 30000000.0);
-
-            matchPos2Y = builder
-                    .comment("Y coordinate for the second match position (where player 2 stands to battle)")
-                    .defineInRange("matchPos2Y", 64.0, 0.0, 256.0);
-
-            matchPos2Z = builder
-                    .comment("Z coordinate for the second match position (where player 2 stands to battle)")
-                    .defineInRange("matchPos2Z", 0.0, -30000000.0, 30000000.0);
-
-            matchPos2Dimension = builder
-                    .comment("Dimension for the second match position (e.g., minecraft:overworld)")
-                    .define("matchPos2Dimension", "minecraft:overworld");
-
-            builder.pop(); // Pop teleports
-
-            builder.pop(); // Pop tournaments
-        }
-    }
-
-    public static final ForgeConfigSpec COMMON_SPEC;
-    public static final Common COMMON;
-
-    static {
-        final Pair<Common, ForgeConfigSpec> specPair = new ForgeConfigSpec.Builder()
-                .configure(Common::new);
-        COMMON_SPEC = specPair.getRight();
-        COMMON = specPair.getLeft();
-    }
-
-    public static void register() {
-        ModLoadingContext.get().registerConfig(ModConfig.Type.COMMON, COMMON_SPEC);
-    }
+package com.blissy.tournaments.config;
+
+import net.minecraftforge.common.ForgeConfigSpec;
+import net.minecraftforge.fml.ModLoadingContext;
+import net.minecraftforge.fml.config.ModConfig;
+import org.apache.commons.lang3.tuple.Pair;
+
+public class TournamentsConfig {
+    /**
+     * What a recurring tournament does about runs missed while the server was down or empty
+     */
+    public enum RecurringCatchUp {
+        SKIP,  // Wait for the next scheduled run
+        ONCE   // Create one instance straight away, however many runs were missed
+    }
+
+    public static class Common {
+        public final ForgeConfigSpec.IntValue maxParticipants;
+        public final ForgeConfigSpec.BooleanValue enableRewards;
+        public final ForgeConfigSpec.IntValue battleTimeoutSeconds;
+        public final ForgeConfigSpec.IntValue readyTimeoutSeconds;
+        public final ForgeConfigSpec.BooleanValue enableTeleports;
+        public final ForgeConfigSpec.IntValue schedulerTickBudgetMs;
+
+        // Per-player notification pacing
+        public final ForgeConfigSpec.IntValue titleIntervalTicks;
+        public final ForgeConfigSpec.IntValue actionBarIntervalTicks;
+        public final ForgeConfigSpec.IntValue actionBarBacklog;
+
+        // Retention of ended tournaments
+        public final ForgeConfigSpec.IntValue endedRetentionMinutes;
+        public final ForgeConfigSpec.IntValue archivedSummaries;
+
+        // Recurring tournaments
+        public final ForgeConfigSpec.EnumValue<RecurringCatchUp> recurringCatchUp;
+
+        // Entry point teleport coordinates
+        public final ForgeConfigSpec.DoubleValue entryX;
+        public final ForgeConfigSpec.DoubleValue entryY;
+        public final ForgeConfigSpec.DoubleValue entryZ;
+        public final ForgeConfigSpec.ConfigValue<String> entryDimension;
+
+        // Exit point teleport coordinates
+        public final ForgeConfigSpec.DoubleValue exitX;
+        public final ForgeConfigSpec.DoubleValue exitY;
+        public final ForgeConfigSpec.DoubleValue exitZ;
+        public final ForgeConfigSpec.ConfigValue<String> exitDimension;
+
+        // Match position 1 teleport coordinates
+        public final ForgeConfigSpec.DoubleValue matchPos1X;
+        public final ForgeConfigSpec.DoubleValue matchPos1Y;
+        public final ForgeConfigSpec.DoubleValue matchPos1Z;
+        public final ForgeConfigSpec.ConfigValue<String> matchPos1Dimension;
+
+        // Match position 2 teleport coordinates
+        public final ForgeConfigSpec.DoubleValue matchPos2X;
+        public final ForgeConfigSpec.DoubleValue matchPos2Y;
+        public final ForgeConfigSpec.DoubleValue matchPos2Z;
+        public final ForgeConfigSpec.ConfigValue<String> matchPos2Dimension;
+
+        public Common(ForgeConfigSpec.Builder builder) {
+            builder.comment("Tournament Settings")
+                    .push("tournaments");
+
+            maxParticipants = builder
+                    .comment("Maximum number of participants allowed in a tournament")
+                    .defineInRange("maxParticipants", 32, 2, 128);
+
+            enableRewards = builder
+                    .comment("Whether tournament winners receive rewards")
+                    .define("enableRewards", true);
+
+            battleTimeoutSeconds = builder
+                    .comment("Time in seconds before a battle is considered timed out")
+                    .defineInRange("battleTimeoutSeconds", 300, 60, 3600);
+
+            readyTimeoutSeconds = builder
+                    .comment("Time in seconds players in an arena have to ready up before the match is forfeited")
+                    .defineInRange("readyTimeoutSeconds", 180, 30, 3600);
+
+            enableTeleports = builder
+                    .comment("Whether tournament teleportation is enabled")
+                    .define("enableTeleports", true);
+
+            schedulerTickBudgetMs = builder
+                    .comment("Milliseconds per server tick that scheduled tournament tasks may use before the rest wait for the next tick")
+                    .defineInRange("schedulerTickBudgetMs", 5, 1, 50);
+
+            titleIntervalTicks = builder
+                    .comment("Minimum ticks between titles shown to one player; a newer title replaces one still waiting")
+                    .defineInRange("titleIntervalTicks", 20, 0, 200);
+
+            actionBarIntervalTicks = builder
+                    .comment("Minimum ticks between action bar messages shown to one player; messages in between wait their turn")
+                    .defineInRange("actionBarIntervalTicks", 30, 0, 200);
+
+            actionBarBacklog = builder
+                    .comment("Action bar messages that may wait for one player before the oldest are dropped")
+                    .defineInRange("actionBarBacklog", 32, 1, 256);
+
+            endedRetentionMinutes = builder
+                    .comment("Minutes an ended tournament stays listed before it is moved to the archive")
+                    .defineInRange("endedRetentionMinutes", 10, 0, 10080);
+
+            archivedSummaries = builder
+                    .comment("Summaries of archived tournaments kept in memory; older ones remain only in the archive files")
+                    .defineInRange("archivedSummaries", 100, 0, 10000);
+
+            recurringCatchUp = builder
+                    .comment("What recurring tournaments do about runs missed while the server was down or empty: SKIP or ONCE")
+                    .defineEnum("recurringCatchUp", RecurringCatchUp.ONCE);
+
+            builder.comment("Teleport Settings")
+                    .push("teleports");
+
+            entryX = builder
+                    .comment("X coordinate for the tournament entry point (spectator area)")
+                    .defineInRange("entryX", 0.0, -30000000.0, 30000000.0);
+
+            entryY = builder
+                    .comment("Y coordinate for the tournament entry point (spectator area)")
+                    .defineInRange("entryY", 64.0, 0.0, 256.0);
+
+            entryZ = builder
+                    .comment("Z coordinate for the tournament entry point (spectator area)")
+                    .defineInRange("entryZ", 0.0, -30000000.0, 30000000.0);
+
+            entryDimension = builder
+                    .comment("Dimension for the tournament entry point (e.g., minecraft:overworld)")
+                    .define("entryDimension", "minecraft:overworld");
+
+            exitX = builder
+                    .comment("X coordinate for the tournament exit point")
+                    .defineInRange("exitX", 0.0, -30000000.0, 30000000.0);
+
+            exitY = builder
+                    .comment("Y coordinate for the tournament exit point")
+                    .defineInRange("exitY", 64.0, 0.0, 256.0);
+
+            exitZ = builder
+                    .comment("Z coordinate for the tournament exit point")
+                    .defineInRange("exitZ", 0.0, -30000000.0, 30000000.0);
+
+            exitDimension = builder
+                    .comment("Dimension for the tournament exit point (e.g., minecraft:overworld)")
+                    .define("exitDimension", "minecraft:overworld");
+
+            // Define match position 1 coordinates
+            matchPos1X = builder
+                    .comment("X coordinate for the first match position (where player 1 stands to battle)")
+                    .defineInRange("matchPos1X", 0.0, -30000000.0, 30000000.0);
+
+            matchPos1Y = builder
+                    .comment("Y coordinate for the first match position (where player 1 stands to battle)")
+                    .defineInRange("matchPos1Y", 64.0, 0.0, 256.0);
+
+            matchPos1Z = builder
+                    .comment("Z coordinate for the first match position (where player 1 stands to battle)")
+                    .defineInRange("matchPos1Z", 0.0, -30000000.0, 30000000.0);
+
+            matchPos1Dimension = builder
+                    .comment("Dimension for the first match position (e.g., minecraft:overworld)")
+                    .define("matchPos1Dimension", "minecraft:overworld");
+
+            // Define match position 2 coordinates
+            matchPos2X = builder
+                    .comment("X coordinate for the second match position (where player 2 stands to battle)")
+                    .defineInRange("matchPos2X", 0.0, -30000000.0, 30000000.0);
+
+            matchPos2Y = builder
+                    .comment("Y coordinate for the second match position (where player 2 stands to battle)")
+                    .defineInRange("matchPos2Y", 64.0, 0.0, 256.0);
+
+            matchPos2Z = builder
+                    .comment("Z coordinate for the second match position (where player 2 stands to battle)")
+                    .defineInRange("matchPos2Z", 0.0, -30000000.0, 30000000.0);
+
+            matchPos2Dimension = builder
+                    .comment("Dimension for the second match position (e.g., minecraft:overworld)")
+                    .define("matchPos2Dimension", "minecraft:overworld");
+
+            builder.pop(); // Pop teleports
+
+            builder.pop(); // Pop tournaments
+        }
+    }
+
+    public static final ForgeConfigSpec COMMON_SPEC;
+    public static final Common COMMON;
+
+    static {
+        final Pair<Common, ForgeConfigSpec> specPair = new ForgeConfigSpec.Builder()
+                .configure(Common::new);
+        COMMON_SPEC = specPair.getRight();
+        COMMON = specPair.getLeft();
+    }
+
+    public static void register() {
+        ModLoadingContext.get().registerConfig(ModConfig.Type.COMMON, COMMON_SPEC);
+    }
 }
\ No newline at end of file
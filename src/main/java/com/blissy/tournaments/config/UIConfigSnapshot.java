@@ -0,0 +1,49 @@
+package com.blissy.tournaments.config;
+
+import com.google.gson.JsonObject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One loaded version of the UI config.
+ * {@link UIConfigLoader} replaces the whole snapshot when the config changes and never
+ * modifies one after it is published, so readers on any thread see a consistent config.
+ * The JSON handed out must be treated as read-only.
+ */
+public class UIConfigSnapshot {
+    private final int version;
+    private final JsonObject root;
+
+    // Screens compiled from this snapshot, built on first use
+    private final Map<String, ScreenLayout> layouts = new ConcurrentHashMap<>();
+
+    UIConfigSnapshot(int version, JsonObject root) {
+        this.version = version;
+        this.root = root;
+    }
+
+    /**
+     * @return Version of this snapshot, higher for every newer load
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Get a screen's section of the config
+     * @param key Screen key, e.g. "main_screen"
+     * @return The screen config, or an empty object if the config doesn't define it
+     */
+    public JsonObject getScreen(String key) {
+        return root.has(key) ? root.getAsJsonObject(key) : new JsonObject();
+    }
+
+    /**
+     * Get a screen compiled from this snapshot
+     * @param subScreens Keys of nested screen objects to compile with it
+     */
+    ScreenLayout getLayout(String key, String... subScreens) {
+        return layouts.computeIfAbsent(key, k -> ScreenLayout.compile(version, getScreen(k), subScreens));
+    }
+}
\ No newline at end of file
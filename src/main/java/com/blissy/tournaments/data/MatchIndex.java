@@ -0,0 +1,138 @@
+package com.blissy.tournaments.data;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Lookup tables for the matches of a single tournament.
+ * Kept up to date by Tournament whenever a match is created, completed or cancelled
+ * so result recording and per-player checks never have to scan the match list.
+ */
+public class MatchIndex {
+    // Player UUID -> the SCHEDULED or IN_PROGRESS match they are playing
+    private final Map<UUID, TournamentMatch> activeByPlayer = new HashMap<>();
+
+    // Unordered player pair -> most recent match between them
+    private final Map<PairKey, TournamentMatch> byPair = new HashMap<>();
+
+    // Round number -> players who received a bye in that round
+    private final Map<Integer, Set<UUID>> byesByRound = new HashMap<>();
+
+    /**
+     * Register a newly created match
+     */
+    public void add(TournamentMatch match) {
+        byPair.put(new PairKey(match.getPlayer1Id(), match.getPlayer2Id()), match);
+        if (isActive(match)) {
+            activeByPlayer.put(match.getPlayer1Id(), match);
+            activeByPlayer.put(match.getPlayer2Id(), match);
+        }
+    }
+
+    /**
+     * Drop a completed or cancelled match from the active lookups
+     */
+    public void markFinished(TournamentMatch match) {
+        activeByPlayer.remove(match.getPlayer1Id(), match);
+        activeByPlayer.remove(match.getPlayer2Id(), match);
+    }
+
+    /**
+     * Get the match a player is currently scheduled for or playing
+     * @return The match or null if the player has no active match
+     */
+    public TournamentMatch getActiveMatch(UUID playerId) {
+        return activeByPlayer.get(playerId);
+    }
+
+    /**
+     * Check if any match is still SCHEDULED or IN_PROGRESS
+     */
+    public boolean hasActiveMatches() {
+        return !activeByPlayer.isEmpty();
+    }
+
+    /**
+     * Get the most recent match between two players, in either order
+     */
+    public TournamentMatch getMatch(UUID playerA, UUID playerB) {
+        return byPair.get(new PairKey(playerA, playerB));
+    }
+
+    /**
+     * Record the players that received a bye in a round
+     */
+    public void setByes(int round, Set<UUID> players) {
+        byesByRound.put(round, new HashSet<>(players));
+    }
+
+    /**
+     * Record a single player that received a bye in a round
+     */
+    public void addBye(int round, UUID playerId) {
+        byesByRound.computeIfAbsent(round, r -> new HashSet<>()).add(playerId);
+    }
+
+    /**
+     * Check if a player received a bye in a round
+     */
+    public boolean hasBye(int round, UUID playerId) {
+        Set<UUID> byes = byesByRound.get(round);
+        return byes != null && byes.contains(playerId);
+    }
+
+    /**
+     * Get the players that received a bye in a round
+     */
+    public Set<UUID> getByes(int round) {
+        Set<UUID> byes = byesByRound.get(round);
+        return byes != null ? Collections.unmodifiableSet(byes) : Collections.emptySet();
+    }
+
+    /**
+     * @return Players that received a bye, by round, as a read-only view
+     */
+    public Map<Integer, Set<UUID>> getAllByes() {
+        return Collections.unmodifiableMap(byesByRound);
+    }
+
+    private static boolean isActive(TournamentMatch match) {
+        return match.getStatus() == TournamentMatch.MatchStatus.SCHEDULED ||
+                match.getStatus() == TournamentMatch.MatchStatus.IN_PROGRESS;
+    }
+
+    /**
+     * Order-independent key for a pair of players
+     */
+    private static final class PairKey {
+        private final UUID low;
+        private final UUID high;
+
+        PairKey(UUID a, UUID b) {
+            if (a.compareTo(b) <= 0) {
+                this.low = a;
+                this.high = b;
+            } else {
+                this.low = b;
+                this.high = a;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PairKey)) return false;
+            PairKey other = (PairKey) o;
+            return low.equals(other.low) && high.equals(other.high);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * low.hashCode() + high.hashCode();
+        }
+    }
+}
\ No newline at end of file
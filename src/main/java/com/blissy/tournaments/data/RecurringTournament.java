@@ -1,293 +1,395 @@
-package com.blissy.tournaments.data;
-
-import com.blissy.tournaments.TournamentManager;
-import com.blissy.tournaments.Tournaments;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
-import net.minecraft.entity.player.ServerPlayerEntity;
-import net.minecraft.nbt.CompoundNBT;
-
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.lang.reflect.Type;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
-
-/**
- * Represents a recurring tournament that will be automatically recreated at specified intervals
- */
-public class RecurringTournament {
-    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
-    private static final String RECURRING_FILE = "config/tournaments/recurring_tournaments.json";
-    private static final Map<String, RecurringTournament> recurringTournaments = new HashMap<>();
-
-    private final String name;
-    private final String templateName;
-    private final int minLevel;
-    private final int maxLevel;
-    private final int maxParticipants;
-    private final String format;
-    private final double entryFee;
-    private final double recurrenceHours;
-    private final UUID creatorId;
-    private Instant lastCreated;
-    private Instant nextScheduled;
-
-    public RecurringTournament(String name, String templateName, int minLevel, int maxLevel, int maxParticipants,
-                               String format, double entryFee, double recurrenceHours, UUID creatorId) {
-        this.name = name;
-        this.templateName = templateName;
-        this.minLevel = minLevel;
-        this.maxLevel = maxLevel;
-        this.maxParticipants = maxParticipants;
-        this.format = format;
-        this.entryFee = entryFee;
-        this.recurrenceHours = recurrenceHours;
-        this.creatorId = creatorId;
-        this.lastCreated = Instant.now();
-        this.nextScheduled = calculateNextScheduled();
-    }
-
-    /**
-     * Calculate the next scheduled time for this recurring tournament
-     */
-    private Instant calculateNextScheduled() {
-        return lastCreated.plus(Duration.ofMillis((long)(recurrenceHours * 60 * 60 * 1000)));
-    }
-
-    /**
-     * Create a new instance of this tournament if it's time
-     * @return true if a new tournament was created
-     */
-    public boolean checkAndCreateTournament() {
-        Instant now = Instant.now();
-        if (now.isAfter(nextScheduled)) {
-            // It's time to create a new tournament
-            createNewInstance();
-            lastCreated = now;
-            nextScheduled = calculateNextScheduled();
-            saveRecurringTournaments();
-            return true;
-        }
-        return false;
-    }
-
-    /**
-     * Create a new instance of this tournament
-     */
-    private void createNewInstance() {
-        TournamentManager manager = TournamentManager.getInstance();
-
-        // Get creator player if online
-        ServerPlayerEntity creator = null;
-        try {
-            creator = net.minecraftforge.fml.server.ServerLifecycleHooks.getCurrentServer()
-                    .getPlayerList().getPlayer(creatorId);
-        } catch (Exception e) {
-            Tournaments.LOGGER.warn("Creator for recurring tournament {} not found", name);
-        }
-
-        // If creator is not online, use a random online player with admin permissions
-        if (creator == null) {
-            List<ServerPlayerEntity> admins = new ArrayList<>();
-            for (ServerPlayerEntity player : net.minecraftforge.fml.server.ServerLifecycleHooks.getCurrentServer()
-                    .getPlayerList().getPlayers()) {
-                if (player.hasPermissions(2)) {
-                    admins.add(player);
-                }
-            }
-
-            if (!admins.isEmpty()) {
-                creator = admins.get(0);
-            } else {
-                Tournaments.LOGGER.error("Cannot create recurring tournament {} - no admin players online", name);
-                return;
-            }
-        }
-
-        // Generate a unique name with timestamp
-        String uniqueName = templateName + "_" + System.currentTimeMillis();
-
-        // Create the tournament
-        if (manager.createTournament(uniqueName, maxParticipants, creator)) {
-            // Set tournament settings
-            manager.setTournamentSettings(uniqueName, minLevel, maxLevel, format);
-
-            // Store entry fee in tournament settings
-            CompoundNBT extraSettings = new CompoundNBT();
-            extraSettings.putDouble("entryFee", entryFee);
-            extraSettings.putBoolean("isRecurring", true);
-            extraSettings.putString("recurringId", name);
-            manager.setTournamentExtraSettings(uniqueName, extraSettings);
-
-            // Set a scheduled start time - 10 minutes after creation
-            manager.setTournamentScheduledStart(uniqueName, 0.16); // 0.16 hours = about 10 minutes
-
-            Tournaments.LOGGER.info("Created recurring tournament instance: {} (template: {}) - scheduled to start in 10 minutes",
-                    uniqueName, name);
-
-            // Broadcast message to all online players - single consolidated message
-            net.minecraftforge.fml.server.ServerLifecycleHooks.getCurrentServer().getPlayerList().getPlayers().forEach(
-                    player -> player.sendMessage(
-                            new net.minecraft.util.text.StringTextComponent("New tournament started: " + uniqueName + " (starts in 10 minutes, type /tournament join " + uniqueName + " to join)")
-                                    .withStyle(net.minecraft.util.text.TextFormatting.GREEN),
-                            player.getUUID()
-                    )
-            );
-        } else {
-            Tournaments.LOGGER.error("Failed to create recurring tournament instance: {}", name);
-        }
-    }
-
-    /**
-     * Add a new recurring tournament
-     */
-    public static void addRecurringTournament(RecurringTournament tournament) {
-        recurringTournaments.put(tournament.name, tournament);
-        saveRecurringTournaments();
-    }
-
-    /**
-     * Get a recurring tournament by name
-     */
-    public static RecurringTournament getRecurringTournament(String name) {
-        return recurringTournaments.get(name);
-    }
-
-    /**
-     * Delete a recurring tournament
-     */
-    public static boolean deleteRecurringTournament(String name) {
-        if (recurringTournaments.containsKey(name)) {
-            recurringTournaments.remove(name);
-            saveRecurringTournaments();
-            return true;
-        }
-        return false;
-    }
-
-    /**
-     * Get all recurring tournaments
-     */
-    public static List<RecurringTournament> getAllRecurringTournaments() {
-        return new ArrayList<>(recurringTournaments.values());
-    }
-
-    /**
-     * Check all recurring tournaments and create new instances if needed
-     */
-    public static void checkAllRecurringTournaments() {
-        for (RecurringTournament tournament : new ArrayList<>(recurringTournaments.values())) {
-            try {
-                tournament.checkAndCreateTournament();
-            } catch (Exception e) {
-                Tournaments.LOGGER.error("Error checking recurring tournament {}: {}",
-                        tournament.getName(), e.getMessage(), e);
-            }
-        }
-    }
-
-    /**
-     * Save recurring tournaments to file
-     */
-    public static void saveRecurringTournaments() {
-        try {
-            File file = new File(RECURRING_FILE);
-            File dir = file.getParentFile();
-            if (!dir.exists()) {
-                dir.mkdirs();
-            }
-
-            try (FileWriter writer = new FileWriter(file)) {
-                GSON.toJson(recurringTournaments.values(), writer);
-                Tournaments.LOGGER.info("Saved {} recurring tournaments to {}",
-                        recurringTournaments.size(), RECURRING_FILE);
-            }
-        } catch (IOException e) {
-            Tournaments.LOGGER.error("Failed to save recurring tournaments", e);
-        }
-    }
-
-    /**
-     * Load recurring tournaments from file
-     */
-    public static void loadRecurringTournaments() {
-        File file = new File(RECURRING_FILE);
-        if (file.exists()) {
-            try (FileReader reader = new FileReader(file)) {
-                Type listType = new TypeToken<List<RecurringTournament>>() {}.getType();
-                List<RecurringTournament> tournaments = GSON.fromJson(reader, listType);
-
-                recurringTournaments.clear();
-
-                if (tournaments != null) {
-                    for (RecurringTournament tournament : tournaments) {
-                        recurringTournaments.put(tournament.name, tournament);
-                    }
-                    Tournaments.LOGGER.info("Loaded {} recurring tournaments", recurringTournaments.size());
-                } else {
-                    Tournaments.LOGGER.info("No recurring tournaments found in the save file");
-                }
-            } catch (IOException e) {
-                Tournaments.LOGGER.error("Failed to load recurring tournaments", e);
-            } catch (Exception e) {
-                Tournaments.LOGGER.error("Error parsing recurring tournaments file", e);
-            }
-        } else {
-            Tournaments.LOGGER.info("No recurring tournaments file found at {}", RECURRING_FILE);
-        }
-    }
-
-    // Getters
-    public String getName() {
-        return name;
-    }
-
-    public String getTemplateName() {
-        return templateName;
-    }
-
-    public int getMinLevel() {
-        return minLevel;
-    }
-
-    public int getMaxLevel() {
-        return maxLevel;
-    }
-
-    public int getMaxParticipants() {
-        return maxParticipants;
-    }
-
-    public String getFormat() {
-        return format;
-    }
-
-    public double getEntryFee() {
-        return entryFee;
-    }
-
-    public double getRecurrenceHours() {
-        return recurrenceHours;
-    }
-
-    public UUID getCreatorId() {
-        return creatorId;
-    }
-
-    public Instant getLastCreated() {
-        return lastCreated;
-    }
-
-    public Instant getNextScheduled() {
-        return nextScheduled;
-    }
+package com.blissy.tournaments.data;
+
+import com.blissy.tournaments.TournamentManager;
+import com.blissy.tournaments.Tournaments;
+import com.blissy.tournaments.config.TournamentsConfig;
+import com.blissy.tournaments.handlers.RecurringTournamentHandler;
+import com.blissy.tournaments.scheduler.CronSchedule;
+import com.blissy.tournaments.util.BroadcastUtil;
+import com.blissy.tournaments.util.JsonLineJournal;
+import com.blissy.tournaments.util.PlayerPresence;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.nbt.CompoundNBT;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Represents a recurring tournament that will be automatically recreated, either on a
+ * calendar schedule such as "Fri 20:00" or every so many hours.
+ * Templates are kept in a JSON file plus a journal: adding, removing or running one appends
+ * a line to the journal, which is folded back into the JSON file every so often and on save.
+ */
+public class RecurringTournament {
+    private static final Gson GSON = new Gson();
+    private static final String RECURRING_FILE = "config/tournaments/recurring_tournaments.json";
+    private static final String JOURNAL_FILE = "config/tournaments/recurring_journal.log";
+    private static final int COMPACT_EVERY = 100;
+    private static final Map<String, RecurringTournament> recurringTournaments = new HashMap<>();
+
+    // A run this late counts as missed and is handled by the catch-up policy
+    private static final Duration CATCH_UP_GRACE = Duration.ofMinutes(5);
+
+    // Each line is the full template after a change, or a removal marker
+    private static final JsonLineJournal<String> journal = new JsonLineJournal<>("recurring tournament",
+            new File(RECURRING_FILE), new File(JOURNAL_FILE), COMPACT_EVERY);
+
+    private final String name;
+    private final String templateName;
+    private final int minLevel;
+    private final int maxLevel;
+    private final int maxParticipants;
+    private final String format;
+    private final double entryFee;
+    private final double recurrenceHours;  // Used when there is no schedule
+    private final String schedule;         // Calendar schedule, or null to repeat every recurrenceHours
+    private final UUID creatorId;
+    private Instant lastCreated;
+    private Instant nextScheduled;
+
+    private transient CronSchedule cronSchedule;
+
+    public RecurringTournament(String name, String templateName, int minLevel, int maxLevel, int maxParticipants,
+                               String format, double entryFee, double recurrenceHours, UUID creatorId) {
+        this(name, templateName, minLevel, maxLevel, maxParticipants, format, entryFee, recurrenceHours, null, creatorId);
+    }
+
+    /**
+     * @param schedule Calendar schedule such as "Fri 20:00" (see {@link CronSchedule}), or null
+     *                 to repeat every recurrenceHours
+     */
+    public RecurringTournament(String name, String templateName, int minLevel, int maxLevel, int maxParticipants,
+                               String format, double entryFee, double recurrenceHours, String schedule,
+                               UUID creatorId) {
+        this.name = name;
+        this.templateName = templateName;
+        this.minLevel = minLevel;
+        this.maxLevel = maxLevel;
+        this.maxParticipants = maxParticipants;
+        this.format = format;
+        this.entryFee = entryFee;
+        this.recurrenceHours = recurrenceHours;
+        this.schedule = schedule;
+        this.creatorId = creatorId;
+        this.lastCreated = Instant.now();
+
+        CronSchedule cron = getCronSchedule();
+        Instant first = cron != null ? cron.next(lastCreated, ZoneId.systemDefault()) : null;
+        this.nextScheduled = first != null ? first : lastCreated.plus(getInterval());
+    }
+
+    /**
+     * Work out the first run after a time. Interval runs stay on the grid set by the
+     * previous scheduled time, so a late check doesn't push every later run back.
+     */
+    private Instant calculateNextScheduled(Instant after) {
+        CronSchedule cron = getCronSchedule();
+        if (cron != null) {
+            Instant next = cron.next(after, ZoneId.systemDefault());
+            if (next != null) {
+                return next;
+            }
+        }
+
+        long interval = getInterval().toMillis();
+        long behind = after.toEpochMilli() - nextScheduled.toEpochMilli();
+        if (behind < 0) {
+            return nextScheduled;
+        }
+        return nextScheduled.plusMillis((behind / interval + 1) * interval);
+    }
+
+    private Duration getInterval() {
+        // At least a minute, so a bad value can't make it fire every check
+        return Duration.ofMillis(Math.max(60_000L, (long)(recurrenceHours * 60 * 60 * 1000)));
+    }
+
+    /**
+     * @return The parsed schedule, or null for an interval or a schedule that can't be parsed
+     */
+    private CronSchedule getCronSchedule() {
+        if (schedule != null && cronSchedule == null) {
+            try {
+                cronSchedule = CronSchedule.parse(schedule);
+            } catch (IllegalArgumentException e) {
+                Tournaments.LOGGER.error("Invalid schedule '{}' for recurring tournament {}: {}. Using its interval instead.",
+                        schedule, name, e.getMessage());
+            }
+        }
+        return cronSchedule;
+    }
+
+    /**
+     * Create a new instance of this tournament if it's time
+     * @return true if a new tournament was created
+     */
+    public boolean checkAndCreateTournament() {
+        Instant now = Instant.now();
+        if (nextScheduled.isAfter(now)) {
+            return false;
+        }
+
+        // Runs missed while the server was down or empty are handled by the catch-up policy
+        boolean missed = nextScheduled.plus(CATCH_UP_GRACE).isBefore(now);
+        boolean create = !missed ||
+                TournamentsConfig.COMMON.recurringCatchUp.get() == TournamentsConfig.RecurringCatchUp.ONCE;
+        if (missed) {
+            Tournaments.LOGGER.info("Recurring tournament {} missed its run at {}, {}",
+                    name, nextScheduled, create ? "creating one instance now" : "skipping to the next run");
+        }
+
+        boolean created = create && createNewInstance();
+        if (created) {
+            lastCreated = now;
+        }
+        nextScheduled = calculateNextScheduled(now);
+        journal.append(name, GSON.toJsonTree(this).getAsJsonObject());
+        RecurringTournamentHandler.schedule(this);
+        return created;
+    }
+
+    /**
+     * Create a new instance of this tournament
+     * @return True if the instance was created
+     */
+    private boolean createNewInstance() {
+        TournamentManager manager = TournamentManager.getInstance();
+
+        // Get creator player if online
+        ServerPlayerEntity creator = PlayerPresence.get(creatorId);
+
+        // If creator is not online, use a random online player with admin permissions
+        if (creator == null) {
+            List<ServerPlayerEntity> admins = new ArrayList<>();
+            for (ServerPlayerEntity player : net.minecraftforge.fml.server.ServerLifecycleHooks.getCurrentServer()
+                    .getPlayerList().getPlayers()) {
+                if (player.hasPermissions(2)) {
+                    admins.add(player);
+                }
+            }
+
+            if (!admins.isEmpty()) {
+                creator = admins.get(0);
+            } else {
+                Tournaments.LOGGER.error("Cannot create recurring tournament {} - no admin players online", name);
+                return false;
+            }
+        }
+
+        // Generate a unique name with timestamp
+        String uniqueName = templateName + "_" + System.currentTimeMillis();
+
+        // Create the tournament
+        if (manager.createTournament(uniqueName, maxParticipants, creator)) {
+            // Set tournament settings
+            manager.setTournamentSettings(uniqueName, minLevel, maxLevel, format);
+
+            // Store entry fee in tournament settings
+            CompoundNBT extraSettings = new CompoundNBT();
+            extraSettings.putDouble("entryFee", entryFee);
+            extraSettings.putBoolean("isRecurring", true);
+            extraSettings.putString("recurringId", name);
+            manager.setTournamentExtraSettings(uniqueName, extraSettings);
+
+            // Set a scheduled start time - 10 minutes after creation
+            manager.setTournamentScheduledStart(uniqueName, 0.16); // 0.16 hours = about 10 minutes
+
+            Tournaments.LOGGER.info("Created recurring tournament instance: {} (template: {}) - scheduled to start in 10 minutes",
+                    uniqueName, name);
+
+            // Broadcast message to all online players - single consolidated message
+            BroadcastUtil.broadcastChat(
+                    net.minecraftforge.fml.server.ServerLifecycleHooks.getCurrentServer().getPlayerList().getPlayers(),
+                    new net.minecraft.util.text.StringTextComponent("New tournament started: " + uniqueName + " (starts in 10 minutes, type /tournament join " + uniqueName + " to join)")
+                            .withStyle(net.minecraft.util.text.TextFormatting.GREEN));
+            return true;
+        }
+
+        Tournaments.LOGGER.error("Failed to create recurring tournament instance: {}", name);
+        return false;
+    }
+
+    /**
+     * Add a new recurring tournament
+     */
+    public static void addRecurringTournament(RecurringTournament tournament) {
+        recurringTournaments.put(tournament.name, tournament);
+        RecurringTournamentHandler.schedule(tournament);
+        journal.append(tournament.name, GSON.toJsonTree(tournament).getAsJsonObject());
+    }
+
+    /**
+     * Get a recurring tournament by name
+     */
+    public static RecurringTournament getRecurringTournament(String name) {
+        return recurringTournaments.get(name);
+    }
+
+    /**
+     * Delete a recurring tournament
+     */
+    public static boolean deleteRecurringTournament(String name) {
+        RecurringTournament removed = recurringTournaments.remove(name);
+        if (removed != null) {
+            RecurringTournamentHandler.cancel(removed);
+
+            JsonObject marker = new JsonObject();
+            marker.addProperty("name", name);
+            marker.addProperty("removed", true);
+            journal.appendRemoval(name, marker);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get all recurring tournaments
+     */
+    public static List<RecurringTournament> getAllRecurringTournaments() {
+        return new ArrayList<>(recurringTournaments.values());
+    }
+
+    /**
+     * Create new instances of every recurring tournament that is due now
+     */
+    public static void checkAllRecurringTournaments() {
+        RecurringTournamentHandler.runDue();
+    }
+
+    /**
+     * Save recurring tournaments to file and wait until it is written
+     */
+    public static void saveRecurringTournaments() {
+        journal.flush();
+    }
+
+    /**
+     * Load recurring tournaments from file, replay the journal on top of them and start the writer
+     */
+    public static void loadRecurringTournaments() {
+        // Finish writing anything from a previous load before reading the files back
+        journal.close();
+        recurringTournaments.clear();
+
+        Map<String, JsonObject> records = readTemplateFile();
+        int replayed = journal.replay(entry -> {
+            String name = entry.get("name").getAsString();
+            if (entry.has("removed")) {
+                records.remove(name);
+            } else {
+                records.put(name, entry);
+            }
+        });
+        if (replayed > 0) {
+            Tournaments.LOGGER.info("Recovered {} recurring tournament changes from the journal", replayed);
+        }
+
+        for (JsonObject record : records.values()) {
+            try {
+                RecurringTournament tournament = GSON.fromJson(record, RecurringTournament.class);
+                recurringTournaments.put(tournament.name, tournament);
+            } catch (JsonParseException e) {
+                Tournaments.LOGGER.error("Error parsing recurring tournament {}", record.get("name"), e);
+            }
+        }
+        Tournaments.LOGGER.info("Loaded {} recurring tournaments", recurringTournaments.size());
+
+        journal.open(records, replayed > 0);
+        RecurringTournamentHandler.scheduleAll(recurringTournaments.values());
+    }
+
+    /**
+     * Read the template file
+     * @return Templates as JSON by name
+     */
+    private static Map<String, JsonObject> readTemplateFile() {
+        Map<String, JsonObject> records = new LinkedHashMap<>();
+        File file = new File(RECURRING_FILE);
+        if (!file.exists()) {
+            Tournaments.LOGGER.info("No recurring tournaments file found at {}", RECURRING_FILE);
+            return records;
+        }
+
+        try (FileReader reader = new FileReader(file)) {
+            JsonElement root = new JsonParser().parse(reader);
+            if (root.isJsonArray()) {
+                for (JsonElement element : root.getAsJsonArray()) {
+                    JsonObject record = element.getAsJsonObject();
+                    records.put(record.get("name").getAsString(), record);
+                }
+            }
+        } catch (IOException e) {
+            Tournaments.LOGGER.error("Failed to load recurring tournaments", e);
+        } catch (JsonParseException | IllegalStateException e) {
+            Tournaments.LOGGER.error("Error parsing recurring tournaments file", e);
+        }
+        return records;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public String getTemplateName() {
+        return templateName;
+    }
+
+    public int getMinLevel() {
+        return minLevel;
+    }
+
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    public int getMaxParticipants() {
+        return maxParticipants;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public double getEntryFee() {
+        return entryFee;
+    }
+
+    public double getRecurrenceHours() {
+        return recurrenceHours;
+    }
+
+    /**
+     * @return The calendar schedule, or null if it repeats every {@link #getRecurrenceHours()}
+     */
+    public String getSchedule() {
+        return schedule;
+    }
+
+    public UUID getCreatorId() {
+        return creatorId;
+    }
+
+    public Instant getLastCreated() {
+        return lastCreated;
+    }
+
+    public Instant getNextScheduled() {
+        return nextScheduled;
+    }
 }
\ No newline at end of file
@@ -1,821 +1,1224 @@
-package com.blissy.tournaments.data;
-
-import com.blissy.tournaments.battle.ScheduledBattleManager;
-import com.blissy.tournaments.config.TournamentsConfig;
-import com.blissy.tournaments.Tournaments;
-import com.blissy.tournaments.util.BroadcastUtil;
-import com.blissy.tournaments.util.TeleportUtil;
-import net.minecraft.entity.player.ServerPlayerEntity;
-import net.minecraft.util.text.StringTextComponent;
-import net.minecraft.util.text.TextFormatting;
-
-import java.time.Instant;
-import java.util.*;
-import java.util.stream.Collectors;
-
-public class Tournament {
-    private final String name;
-    private final int maxParticipants;
-    private final UUID hostId;
-    private final Map<UUID, TournamentParticipant> participants;
-    private final Set<UUID> eliminatedPlayers;
-    private TournamentStatus status;
-    private Instant createdAt;
-    private Instant startedAt;
-    private Instant endedAt;
-    private Instant scheduledStartTime;
-    private String battleFormat;  // Added for singles/doubles battles
-
-    // Tournament bracket management
-    private List<List<TournamentParticipant>> brackets;
-    private List<TournamentMatch> matches;
-    private int currentRound;
-
-    public Tournament(String name, int maxParticipants, ServerPlayerEntity host) {
-        this(name, maxParticipants, host, "SINGLES"); // Default to singles battles
-    }
-
-    public Tournament(String name, int maxParticipants, ServerPlayerEntity host, String battleFormat) {
-        this.name = name;
-        this.maxParticipants = Math.min(maxParticipants,
-                TournamentsConfig.COMMON.maxParticipants.get());
-        this.hostId = host.getUUID();
-        this.participants = new HashMap<>();
-        this.eliminatedPlayers = new HashSet<>(); // Initialize
-        this.status = TournamentStatus.WAITING;
-        this.createdAt = Instant.now();
-        this.scheduledStartTime = null;
-        this.currentRound = 0;
-        this.brackets = new ArrayList<>();
-        this.matches = new ArrayList<>();
-        this.battleFormat = validateBattleFormat(battleFormat);
-
-        // Add host as first participant
-        addParticipant(host);
-    }
-
-    private String validateBattleFormat(String format) {
-        if (format == null) {
-            return "SINGLES";
-        }
-
-        // Normalize to uppercase for comparison
-        format = format.toUpperCase();
-
-        // Check for valid formats
-        if ("SINGLES".equals(format) || "DOUBLES".equals(format)) {
-            return format;
-        }
-
-        // Default to singles for invalid formats
-        Tournaments.LOGGER.warn("Invalid battle format specified: {}. Defaulting to SINGLES.", format);
-        return "SINGLES";
-    }
-
-    /**
-     * Get the battle format for this tournament (SINGLES or DOUBLES)
-     */
-    public String getBattleFormat() {
-        return battleFormat;
-    }
-
-    /**
-     * Set the battle format for this tournament
-     * @param format The format to set (SINGLES or DOUBLES)
-     */
-    public void setBattleFormat(String format) {
-        this.battleFormat = validateBattleFormat(format);
-    }
-
-    /**
-     * Add a new participant to the tournament
-     */
-    public boolean addParticipant(ServerPlayerEntity player) {
-        // Check tournament status
-        if (status != TournamentStatus.WAITING) {
-            BroadcastUtil.sendTitle(player, "Tournament Already Started", TextFormatting.RED, 10, 70, 20);
-            BroadcastUtil.sendSubtitle(player, "Cannot join now", TextFormatting.RED, 10, 70, 20);
-            return false;
-        }
-
-        // Check participant limit
-        if (participants.size() >= maxParticipants) {
-            BroadcastUtil.sendTitle(player, "Tournament Full", TextFormatting.RED, 10, 70, 20);
-            BroadcastUtil.sendSubtitle(player, "This tournament is full", TextFormatting.RED, 10, 70, 20);
-            return false;
-        }
-
-        UUID playerId = player.getUUID();
-        TournamentParticipant participant = new TournamentParticipant(player);
-        participants.put(playerId, participant);
-
-        // Broadcast join message
-        broadcastActionBar(player.getName().getString() + " has joined the tournament!");
-
-        // Show welcome message to the joining player
-        BroadcastUtil.sendTitle(player, "Joined Tournament", TextFormatting.GREEN, 10, 70, 20);
-        BroadcastUtil.sendSubtitle(player, name, TextFormatting.YELLOW, 10, 70, 20);
-
-        return true;
-    }
-
-    /**
-     * Remove a participant from the tournament
-     */
-    public boolean removeParticipant(ServerPlayerEntity player) {
-        UUID playerId = player.getUUID();
-
-        if (!participants.containsKey(playerId)) {
-            return false;
-        }
-
-        // Check if tournament has started and teleport leaving player to exit
-        if (status == TournamentStatus.IN_PROGRESS &&
-                TournamentsConfig.COMMON.enableTeleports.get() &&
-                !eliminatedPlayers.contains(playerId)) {
-            // Player is leaving an active tournament they weren't eliminated from
-            boolean success = TeleportUtil.teleportToExitPoint(player);
-            if (!success) {
-                Tournaments.LOGGER.warn("Failed to teleport leaving player {} to exit point",
-                        player.getName().getString());
-            }
-
-            // Mark as eliminated
-            eliminatedPlayers.add(playerId);
-        }
-
-        participants.remove(playerId);
-
-        // Broadcast leave message
-        broadcastActionBar(player.getName().getString() + " has left the tournament");
-
-        // Send leave confirmation to player
-        BroadcastUtil.sendTitle(player, "Left Tournament", TextFormatting.YELLOW, 10, 70, 20);
-        BroadcastUtil.sendSubtitle(player, name, TextFormatting.YELLOW, 10, 70, 20);
-
-        // If host leaves, assign new host
-        if (playerId.equals(hostId) && !participants.isEmpty()) {
-            UUID newHostId = participants.keySet().iterator().next();
-            // Notify the new host
-            ServerPlayerEntity newHost = participants.get(newHostId).getPlayer();
-            if (newHost != null) {
-                BroadcastUtil.sendTitle(newHost, "You Are Now Host", TextFormatting.GOLD, 10, 70, 20);
-                BroadcastUtil.sendSubtitle(newHost, "Previous host left the tournament", TextFormatting.YELLOW, 10, 70, 20);
-            }
-        }
-
-        // Check if only one participant remains and tournament is in progress
-        if (status == TournamentStatus.IN_PROGRESS && participants.size() == 1) {
-            // Get the last participant
-            TournamentParticipant lastParticipant = participants.values().iterator().next();
-
-            // Announce the last player as winner
-            broadcastActionBar("Only one participant remains!");
-            broadcastTitle("Tournament Winner", lastParticipant.getPlayerName());
-
-            // End the tournament with this participant as winner
-            end();
-        }
-
-        return true;
-    }
-
-    /**
-     * Start the tournament with countdown
-     */
-    public void start() {
-        // Check if we can start
-        if (status != TournamentStatus.WAITING) {
-            return;
-        }
-
-        if (participants.size() < 2) {
-            broadcastTitle("Cannot Start Tournament", "Need at least 2 participants");
-            return;
-        }
-
-        // Change status
-        status = TournamentStatus.IN_PROGRESS;
-        startedAt = Instant.now();
-
-        // Generate initial tournament bracket
-        generateBracket();
-
-        // Announce tournament start with countdown
-        broadcastTitle("Tournament Starting", battleFormat + " Format");
-
-        // Run countdown for all participants
-        for (TournamentParticipant participant : participants.values()) {
-            ServerPlayerEntity player = participant.getPlayer();
-            if (player != null && player.isAlive() && player.getServer() != null) {
-                BroadcastUtil.runCountdown(player, "Starting in", 5, () -> {
-                    // Teleport after countdown if teleports are enabled
-                    if (TournamentsConfig.COMMON.enableTeleports.get()) {
-                        boolean success = TeleportUtil.teleportToEntryPoint(player);
-                        if (!success) {
-                            Tournaments.LOGGER.warn("Failed to teleport player {} to tournament entry point",
-                                    player.getName().getString());
-                            BroadcastUtil.sendActionBar(player, "Failed to teleport to tournament arena. Contact an admin.", TextFormatting.RED);
-                        }
-                    }
-                });
-            }
-        }
-
-        // Schedule first round matches after 6 seconds (after countdown + teleport)
-        ServerPlayerEntity anyPlayer = getAnyPlayer();
-        if (anyPlayer != null && anyPlayer.getServer() != null) {
-            anyPlayer.getServer().tell(new net.minecraft.util.concurrent.TickDelayedTask(120, () -> {
-                scheduleCurrentRoundMatches();
-            }));
-        } else {
-            // Fallback if we can't get a player or server
-            scheduleCurrentRoundMatches();
-        }
-    }
-
-    /**
-     * Get any online player in the tournament for server tasks
-     */
-    private ServerPlayerEntity getAnyPlayer() {
-        for (TournamentParticipant participant : participants.values()) {
-            ServerPlayerEntity player = participant.getPlayer();
-            if (player != null) {
-                return player;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Generate tournament bracket based on participants
-     */
-    private void generateBracket() {
-        // Shuffle participants to randomize initial matchups
-        List<TournamentParticipant> shuffledParticipants = new ArrayList<>(participants.values());
-        Collections.shuffle(shuffledParticipants);
-
-        // Create initial round
-        List<TournamentParticipant> currentRoundBracket = new ArrayList<>(shuffledParticipants);
-        brackets.add(currentRoundBracket);
-        currentRound = 0;
-
-        // Display tournament bracket
-        broadcastTitle("Tournament Bracket", "Generated");
-
-        // Send details as action bar messages
-        for (int i = 0; i < currentRoundBracket.size(); i += 2) {
-            if (i + 1 < currentRoundBracket.size()) {
-                String player1 = currentRoundBracket.get(i).getPlayerName();
-                String player2 = currentRoundBracket.get(i + 1).getPlayerName();
-                broadcastActionBar("Match " + ((i/2) + 1) + ": " + player1 + " vs " + player2);
-            } else {
-                // Odd number, player gets a bye
-                String player = currentRoundBracket.get(i).getPlayerName();
-                broadcastActionBar("Match " + ((i/2) + 1) + ": " + player + " receives a bye");
-            }
-        }
-    }
-
-    /**
-     * Schedule matches for the current round with on-screen notifications
-     */
-    private void scheduleCurrentRoundMatches() {
-        List<TournamentParticipant> currentRoundBracket = brackets.get(currentRound);
-
-        // Clear previous round matches
-        matches.clear();
-
-        // Broadcast round start
-        broadcastTitle("Round " + (currentRound + 1), "Matches are being scheduled");
-
-        // Create matches for current round
-        for (int i = 0; i < currentRoundBracket.size(); i += 2) {
-            if (i + 1 < currentRoundBracket.size()) {
-                TournamentParticipant player1 = currentRoundBracket.get(i);
-                TournamentParticipant player2 = currentRoundBracket.get(i + 1);
-
-                // Create match
-                TournamentMatch match = new TournamentMatch(player1, player2);
-                matches.add(match);
-
-                // Get player entities
-                ServerPlayerEntity p1 = player1.getPlayer();
-                ServerPlayerEntity p2 = player2.getPlayer();
-
-                if (p1 != null && p2 != null) {
-                    // Announce match to all participants
-                    final String matchDescription = match.getDescription();
-                    broadcastActionBar("Match scheduled: " + matchDescription);
-
-                    // Teleport players to their match positions
-                    boolean p1Teleported = TeleportUtil.teleportToMatchPosition(p1, 1);
-                    boolean p2Teleported = TeleportUtil.teleportToMatchPosition(p2, 2);
-
-                    if (p1Teleported && p2Teleported) {
-                        Tournaments.LOGGER.info("Teleported {} and {} to their match positions",
-                                p1.getName().getString(), p2.getName().getString());
-                    } else {
-                        Tournaments.LOGGER.warn("Failed to teleport players to match positions");
-                    }
-
-                    // Special notification for match participants
-                    BroadcastUtil.sendTitle(p1, "Match Started", TextFormatting.GOLD, 10, 60, 20);
-                    BroadcastUtil.sendSubtitle(p1, "VS " + p2.getName().getString(), TextFormatting.YELLOW, 10, 60, 20);
-
-                    BroadcastUtil.sendTitle(p2, "Match Started", TextFormatting.GOLD, 10, 60, 20);
-                    BroadcastUtil.sendSubtitle(p2, "VS " + p1.getName().getString(), TextFormatting.YELLOW, 10, 60, 20);
-
-                    // After 3 seconds, show the ready command instruction
-                    if (p1.getServer() != null) {
-                        p1.getServer().tell(new net.minecraft.util.concurrent.TickDelayedTask(60, () -> {
-                            BroadcastUtil.sendTitle(p1, "Type /tournament ready", TextFormatting.GREEN, 10, 60, 20);
-                            BroadcastUtil.sendTitle(p2, "Type /tournament ready", TextFormatting.GREEN, 10, 60, 20);
-                        }));
-                    }
-                } else {
-                    broadcastActionBar("Could not schedule match: " + match.getDescription() +
-                            " - one or both players offline");
-                }
-            } else {
-                // Odd number of players, this player gets a bye to next round
-                TournamentParticipant player = currentRoundBracket.get(i);
-                broadcastActionBar(player.getPlayerName() + " advances to next round with a bye");
-
-                // Notify the player who got a bye
-                ServerPlayerEntity byePlayer = player.getPlayer();
-                if (byePlayer != null) {
-                    BroadcastUtil.sendTitle(byePlayer, "You Got a Bye", TextFormatting.GREEN, 10, 60, 20);
-                    BroadcastUtil.sendSubtitle(byePlayer, "Advancing to next round", TextFormatting.YELLOW, 10, 60, 20);
-                }
-            }
-        }
-    }
-
-    /**
-     * Mark a player as eliminated
-     */
-    public void eliminatePlayer(UUID playerId) {
-        if (!participants.containsKey(playerId)) {
-            Tournaments.LOGGER.warn("Attempted to eliminate player {} who is not in tournament {}",
-                    playerId, name);
-            return;
-        }
-
-        // If already eliminated, don't do it again
-        if (eliminatedPlayers.contains(playerId)) {
-            Tournaments.LOGGER.debug("Player {} is already eliminated from tournament {}",
-                    playerId, name);
-            return;
-        }
-
-        // Add to eliminated players list
-        eliminatedPlayers.add(playerId);
-        Tournaments.LOGGER.info("Player {} eliminated from tournament {}", playerId, name);
-
-        // Get the player
-        TournamentParticipant participant = participants.get(playerId);
-        ServerPlayerEntity player = participant.getPlayer();
-        String playerName = participant.getPlayerName();
-
-        // Teleport to exit point if available
-        if (player != null && player.isAlive() && TournamentsConfig.COMMON.enableTeleports.get()) {
-            Tournaments.LOGGER.info("Teleporting eliminated player {} to exit point", playerName);
-
-            // Show elimination message
-            BroadcastUtil.sendTitle(player, "Eliminated", TextFormatting.RED, 10, 70, 20);
-            BroadcastUtil.sendSubtitle(player, "You are out of the tournament", TextFormatting.YELLOW, 10, 70, 20);
-
-            boolean success = TeleportUtil.teleportToExitPoint(player);
-            if (!success) {
-                Tournaments.LOGGER.warn("Failed to teleport eliminated player {} to exit point", playerName);
-
-                // Try again after a short delay
-                if (player.getServer() != null) {
-                    player.getServer().tell(new net.minecraft.util.concurrent.TickDelayedTask(20, () -> {
-                        Tournaments.LOGGER.info("Attempting delayed teleport for eliminated player {}", playerName);
-                        boolean delayedSuccess = TeleportUtil.teleportToExitPoint(player);
-
-                        if (!delayedSuccess) {
-                            Tournaments.LOGGER.error("Delayed teleport for eliminated player {} also failed", playerName);
-                            BroadcastUtil.sendActionBar(player, "You have been eliminated. Use /spawn to return to spawn.", TextFormatting.RED);
-                        }
-                    }));
-                }
-            }
-        } else if (player != null) {
-            // Notify even if we can't teleport
-            BroadcastUtil.sendTitle(player, "Eliminated", TextFormatting.RED, 10, 70, 20);
-            BroadcastUtil.sendSubtitle(player, "You are out of the tournament", TextFormatting.YELLOW, 10, 70, 20);
-        }
-
-        // Broadcast elimination message to all participants
-        broadcastActionBar(playerName + " has been eliminated from the tournament");
-
-        // Check if only one active player remains
-        int activePlayersRemaining = participants.size() - eliminatedPlayers.size();
-        if (activePlayersRemaining <= 1) {
-            // Find the last active player
-            TournamentParticipant lastActive = null;
-            for (TournamentParticipant p : participants.values()) {
-                if (!eliminatedPlayers.contains(p.getPlayerId())) {
-                    lastActive = p;
-                    break;
-                }
-            }
-
-            // If we found the last active player, they win
-            if (lastActive != null) {
-                broadcastActionBar("Only one participant remains active!");
-                broadcastTitle("Tournament Winner", lastActive.getPlayerName());
-
-                // Show winning message to the winner
-                ServerPlayerEntity winner = lastActive.getPlayer();
-                if (winner != null) {
-                    BroadcastUtil.sendTitle(winner, "Victory!", TextFormatting.GOLD, 10, 100, 20);
-                    BroadcastUtil.sendSubtitle(winner, "You are the tournament champion", TextFormatting.YELLOW, 10, 100, 20);
-                }
-
-                end();
-            }
-        }
-    }
-
-    /**
-     * Check if a player is eliminated
-     */
-    public boolean isPlayerEliminated(UUID playerId) {
-        return eliminatedPlayers.contains(playerId);
-    }
-
-    /**
-     * Get the number of eliminated players
-     */
-    public int getEliminatedPlayerCount() {
-        return eliminatedPlayers.size();
-    }
-
-    /**
-     * Record a match result
-     * @param winnerUUID UUID of the winner
-     * @param loserUUID UUID of the loser
-     * @return True if result was recorded successfully
-     */
-    public boolean recordMatchResult(UUID winnerUUID, UUID loserUUID) {
-        // Find the match
-        TournamentMatch matchToUpdate = null;
-
-        for (TournamentMatch match : matches) {
-            if (match.hasPlayer(winnerUUID) && match.hasPlayer(loserUUID)) {
-                if (match.getStatus() == TournamentMatch.MatchStatus.IN_PROGRESS) {
-                    matchToUpdate = match;
-                    break;
-                } else if (match.getStatus() == TournamentMatch.MatchStatus.SCHEDULED) {
-                    // Match was scheduled but never marked as in progress
-                    // Let's set it to in progress first
-                    match.start();
-                    matchToUpdate = match;
-                    break;
-                }
-            }
-        }
-
-        if (matchToUpdate == null) {
-            Tournaments.LOGGER.warn("No active match found for players {} and {}",
-                    participants.containsKey(winnerUUID) ? participants.get(winnerUUID).getPlayerName() : winnerUUID,
-                    participants.containsKey(loserUUID) ? participants.get(loserUUID).getPlayerName() : loserUUID);
-
-            // Create a debug log of all matches
-            Tournaments.LOGGER.info("Current matches in tournament {}:", name);
-            for (TournamentMatch m : matches) {
-                Tournaments.LOGGER.info("Match: {} vs {} - Status: {}",
-                        m.getPlayer1Name(), m.getPlayer2Name(), m.getStatus());
-            }
-
-            // If we couldn't find a match, create a new one
-            if (participants.containsKey(winnerUUID) && participants.containsKey(loserUUID)) {
-                TournamentParticipant winner = participants.get(winnerUUID);
-                TournamentParticipant loser = participants.get(loserUUID);
-
-                matchToUpdate = new TournamentMatch(winner, loser);
-                matchToUpdate.start(); // Mark as started
-                matches.add(matchToUpdate);
-
-                Tournaments.LOGGER.info("Created new match for result recording: {} vs {}",
-                        winner.getPlayerName(), loser.getPlayerName());
-            } else {
-                return false; // Can't create match if participants not found
-            }
-        }
-
-        // Mark as completed with winner
-        if (matchToUpdate.complete(winnerUUID)) {
-            // Update participant stats
-            if (participants.containsKey(winnerUUID)) {
-                participants.get(winnerUUID).incrementWins();
-
-                // Teleport winner back to entry point
-                ServerPlayerEntity winner = participants.get(winnerUUID).getPlayer();
-                if (winner != null && TournamentsConfig.COMMON.enableTeleports.get()) {
-                    boolean teleported = TeleportUtil.teleportToEntryPoint(winner);
-                    if (teleported) {
-                        Tournaments.LOGGER.info("Teleported winner {} back to entry point",
-                                winner.getName().getString());
-                        // Victory message handled in match complete method
-                    }
-                }
-            }
-
-            if (participants.containsKey(loserUUID)) {
-                participants.get(loserUUID).incrementLosses();
-
-                // Eliminate the loser - handled separately to ensure proper teleporting
-                eliminatePlayer(loserUUID);
-            }
-
-            // Broadcast the result using the new method
-            String winnerName = participants.containsKey(winnerUUID) ?
-                    participants.get(winnerUUID).getPlayerName() : "Unknown";
-            String loserName = participants.containsKey(loserUUID) ?
-                    participants.get(loserUUID).getPlayerName() : "Unknown";
-
-            // CHANGED from broadcastMessage to broadcastMatchResult
-            broadcastMatchResult(winnerName, loserName);
-
-            // Check if round is complete
-            checkRoundCompletion();
-
-            return true;
-        }
-
-        return false;
-    }
-
-    /**
-     * Check if current round is complete and advance if needed
-     */
-    private void checkRoundCompletion() {
-        // Check if all matches are completed
-        boolean allCompleted = true;
-        for (TournamentMatch match : matches) {
-            if (match.getStatus() != TournamentMatch.MatchStatus.COMPLETED &&
-                    match.getStatus() != TournamentMatch.MatchStatus.CANCELLED) {
-                allCompleted = false;
-                break;
-            }
-        }
-
-        if (allCompleted) {
-            Tournaments.LOGGER.info("All matches in round {} completed, advancing to next round", currentRound + 1);
-            advanceRound();
-        } else {
-            Tournaments.LOGGER.info("Some matches still in progress, not advancing round yet");
-        }
-    }
-
-    public void advanceRound() {
-        // Determine winners from current round
-        List<TournamentParticipant> winners = new ArrayList<>();
-
-        // Get winners from completed matches
-        for (TournamentMatch match : matches) {
-            if (match.getStatus() == TournamentMatch.MatchStatus.COMPLETED) {
-                UUID winnerId = match.getWinnerId();
-                if (winnerId != null && participants.containsKey(winnerId)) {
-                    winners.add(participants.get(winnerId));
-                }
-            }
-        }
-
-        // Add byes (participants without matches)
-        List<TournamentParticipant> currentRoundBracket = brackets.get(currentRound);
-        for (TournamentParticipant participant : currentRoundBracket) {
-            boolean hasMatch = false;
-            for (TournamentMatch match : matches) {
-                if (match.hasPlayer(participant.getPlayerId())) {
-                    hasMatch = true;
-                    break;
-                }
-            }
-
-            if (!hasMatch) {
-                // Participant had a bye, add to winners
-                winners.add(participant);
-            }
-        }
-
-        // If only one winner, end tournament
-        if (winners.size() <= 1) {
-            if (winners.size() == 1) {
-                // Announce the winner
-                TournamentParticipant winner = winners.get(0);
-                broadcastTitle("Tournament Winner", winner.getPlayerName());
-
-                // Show winning message to the winner
-                ServerPlayerEntity winnerPlayer = winner.getPlayer();
-                if (winnerPlayer != null) {
-                    BroadcastUtil.sendTitle(winnerPlayer, "Victory!", TextFormatting.GOLD, 10, 100, 20);
-                    BroadcastUtil.sendSubtitle(winnerPlayer, "You are the tournament champion", TextFormatting.YELLOW, 10, 100, 20);
-                }
-            }
-            end();
-            return;
-        }
-
-        // Add winners to next round
-        brackets.add(winners);
-        currentRound++;
-
-        // Announce next round
-        broadcastTitle("Round " + (currentRound + 1), winners.size() + " participants remaining");
-
-        // Schedule next round matches with a short delay
-        // Use a delayed task to give time for teleportation to complete
-        ServerPlayerEntity anyPlayer = getAnyPlayer();
-        if (anyPlayer != null && anyPlayer.getServer() != null) {
-            anyPlayer.getServer().tell(
-                    new net.minecraft.util.concurrent.TickDelayedTask(60, () -> {
-                        scheduleCurrentRoundMatches();
-                        Tournaments.LOGGER.info("Scheduled matches for round {}", currentRound + 1);
-                    })
-            );
-        } else {
-            // Fallback if we can't get a player or server
-            scheduleCurrentRoundMatches();
-            Tournaments.LOGGER.info("Scheduled matches for round {}", currentRound + 1);
-        }
-    }
-
-    /**
-     * End the tournament
-     */
-    public void end() {
-        if (status == TournamentStatus.ENDED) {
-            return;
-        }
-
-        status = TournamentStatus.ENDED;
-        endedAt = Instant.now();
-
-        // Determine and announce winner
-        TournamentParticipant winner = determineOverallWinner();
-        if (winner != null) {
-            broadcastTitle("Tournament Ended", winner.getPlayerName() + " wins!");
-
-            // Show victory message to winner
-            ServerPlayerEntity playerEntity = winner.getPlayer();
-            if (playerEntity != null) {
-                // Give rewards if enabled
-                if (TournamentsConfig.COMMON.enableRewards.get()) {
-                    // Implement reward logic here
-                    BroadcastUtil.sendActionBar(playerEntity, "You've received tournament rewards!", TextFormatting.GOLD);
-                }
-            }
-        } else {
-            broadcastTitle("Tournament Ended", "No clear winner");
-        }
-    }
-
-    /**
-     * Determine the overall tournament winner
-     */
-    private TournamentParticipant determineOverallWinner() {
-        if (brackets.isEmpty()) {
-            return null;
-        }
-
-        // First check if only one active player remains
-        List<TournamentParticipant> activePlayers = new ArrayList<>();
-        for (TournamentParticipant participant : participants.values()) {
-            if (!eliminatedPlayers.contains(participant.getPlayerId())) {
-                activePlayers.add(participant);
-            }
-        }
-
-        if (activePlayers.size() == 1) {
-            return activePlayers.get(0);
-        }
-
-        // Otherwise use last round bracket
-        List<TournamentParticipant> finalRound = brackets.get(brackets.size() - 1);
-        return finalRound.isEmpty() ? null : finalRound.get(0);
-    }
-
-    /**
-     * Broadcast a message to all tournament participants as a title and subtitle
-     * Uses improved styling for better readability
-     */
-    public void broadcastTitle(String title, String subtitle) {
-        for (TournamentParticipant participant : participants.values()) {
-            ServerPlayerEntity player = participant.getPlayer();
-            if (player != null) {
-                BroadcastUtil.sendTitle(player, title, TextFormatting.GOLD, 10, 60, 20);
-                if (subtitle != null && !subtitle.isEmpty()) {
-                    BroadcastUtil.sendSubtitle(player, subtitle, TextFormatting.YELLOW, 10, 60, 20);
-                }
-            }
-        }
-    }
-
-    /**
-     * Broadcast a message to all tournament participants as an actionbar message
-     * This is the least intrusive notification format
-     */
-    public void broadcastActionBar(String message) {
-        for (TournamentParticipant participant : participants.values()) {
-            ServerPlayerEntity player = participant.getPlayer();
-            if (player != null) {
-                BroadcastUtil.sendActionBar(player, message, TextFormatting.GOLD);
-            }
-        }
-    }
-
-    /**
-     * Broadcast an important notification to all participants
-     * Uses the notification bar for more visibility
-     */
-    public void broadcastNotification(String message) {
-        for (TournamentParticipant participant : participants.values()) {
-            ServerPlayerEntity player = participant.getPlayer();
-            if (player != null) {
-                BroadcastUtil.sendNotificationBar(player, message);
-            }
-        }
-    }
-
-    /**
-     * Broadcast a match result with styled formatting
-     * Displays who won the match with appropriate styling
-     */
-    public void broadcastMatchResult(String winnerName, String loserName) {
-        broadcastNotification(winnerName + " has defeated " + loserName);
-        broadcastActionBar(winnerName + " advances to the next round!");
-    }
-
-    /**
-     * Modified broadcast message - now uses ONLY action bar and title notifications
-     * No chat messages will be sent
-     */
-    public void broadcastMessage(String message) {
-        // Default to action bar notifications for all messages
-        broadcastActionBar(message);
-    }
-
-    /**
-     * Modified broadcast message - now uses ONLY action bar and title notifications
-     * No chat messages will be sent regardless of alsoSendChat parameter
-     */
-    public void broadcastMessage(String message, boolean alsoSendChat) {
-        // Ignore alsoSendChat parameter - we never send to chat now
-        broadcastActionBar(message);
-    }
-
-    // Getters and utility methods
-    public String getName() {
-        return name;
-    }
-
-    public int getMaxParticipants() {
-        return maxParticipants;
-    }
-
-    public int getParticipantCount() {
-        return participants.size();
-    }
-
-    public UUID getHostId() {
-        return hostId;
-    }
-
-    public TournamentStatus getStatus() {
-        return status;
-    }
-
-    public Collection<TournamentParticipant> getParticipants() {
-        return participants.values();
-    }
-
-    public List<TournamentMatch> getCurrentMatches() {
-        return new ArrayList<>(matches);
-    }
-
-    /**
-     * Get the scheduled start time for the tournament
-     */
-    public Instant getScheduledStartTime() {
-        return scheduledStartTime;
-    }
-
-    /**
-     * Set the scheduled start time for the tournament
-     */
-    public void setScheduledStartTime(Instant time) {
-        this.scheduledStartTime = time;
-    }
-
-    public enum TournamentStatus {
-        WAITING,      // Tournament created, waiting for participants
-        IN_PROGRESS,  // Tournament is currently running
-        ENDED         // Tournament has concluded
-    }
+package com.blissy.tournaments.data;
+
+import com.blissy.tournaments.TournamentManager;
+import com.blissy.tournaments.arena.Arena;
+import com.blissy.tournaments.arena.ArenaManager;
+import com.blissy.tournaments.battle.ReadyCheckManager;
+import com.blissy.tournaments.battle.ScheduledBattleManager;
+import com.blissy.tournaments.bracket.BracketEngine;
+import com.blissy.tournaments.bracket.BracketEngines;
+import com.blissy.tournaments.bracket.BracketSlot;
+import com.blissy.tournaments.bracket.BracketUpdate;
+import com.blissy.tournaments.config.TournamentsConfig;
+import com.blissy.tournaments.events.TournamentEvent;
+import com.blissy.tournaments.Tournaments;
+import com.blissy.tournaments.scheduler.TournamentTasks;
+import com.blissy.tournaments.util.BroadcastUtil;
+import com.blissy.tournaments.util.GroupCountdown;
+import com.blissy.tournaments.util.NotificationQueue.Priority;
+import com.blissy.tournaments.util.TeleportUtil;
+import com.blissy.tournaments.util.PlayerPresence;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.nbt.NBTUtil;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraftforge.common.MinecraftForge;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class Tournament {
+    // Players teleported per tick when the start countdown ends
+    private static final int TELEPORTS_PER_TICK = 4;
+
+    private final String name;
+    private final int maxParticipants;
+    private final UUID hostId;
+    private final Map<UUID, TournamentParticipant> participants;
+    private final Map<UUID, ServerPlayerEntity> onlineParticipants;  // Kept current by PlayerPresence
+    private final Set<UUID> eliminatedPlayers;
+    private TournamentStatus status;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant endedAt;
+    private Instant scheduledStartTime;
+    private String battleFormat;  // Added for singles/doubles battles
+
+    // Tournament bracket management
+    private BracketEngine bracket;
+    private final List<BracketSlot> pendingSlots;  // Ready bracket slots that have no match yet
+    private boolean matchesReleased;               // False until the opening countdown has finished
+    private List<TournamentMatch> matches;
+    private final MatchIndex matchIndex;
+    private int currentRound;
+
+    // Scheduled matches that couldn't be sent out because a player was offline; sent once both are online
+    private final Set<TournamentMatch> unsentMatches = new HashSet<>();
+
+    // Results and withdrawals fed to the bracket since seeding, replayed to rebuild it on load
+    private final List<BracketOp> bracketLog;
+
+    public Tournament(String name, int maxParticipants, ServerPlayerEntity host) {
+        this(name, maxParticipants, host, "SINGLES"); // Default to singles battles
+    }
+
+    public Tournament(String name, int maxParticipants, ServerPlayerEntity host, String battleFormat) {
+        this(name, maxParticipants, host.getUUID(), battleFormat);
+
+        // Add host as first participant
+        addParticipant(host);
+    }
+
+    private Tournament(String name, int maxParticipants, UUID hostId, String battleFormat) {
+        this.name = name;
+        this.maxParticipants = Math.min(maxParticipants,
+                TournamentsConfig.COMMON.maxParticipants.get());
+        this.hostId = hostId;
+        this.participants = new HashMap<>();
+        this.onlineParticipants = new LinkedHashMap<>();
+        this.eliminatedPlayers = new HashSet<>(); // Initialize
+        this.status = TournamentStatus.WAITING;
+        this.createdAt = Instant.now();
+        this.scheduledStartTime = null;
+        this.currentRound = 0;
+        this.pendingSlots = new ArrayList<>();
+        this.matches = new ArrayList<>();
+        this.matchIndex = new MatchIndex();
+        this.bracketLog = new ArrayList<>();
+        this.battleFormat = validateBattleFormat(battleFormat);
+    }
+
+    private String validateBattleFormat(String format) {
+        if (format == null) {
+            return "SINGLES";
+        }
+
+        // Normalize to uppercase for comparison
+        format = format.toUpperCase();
+
+        // Check for valid formats
+        if ("SINGLES".equals(format) || "DOUBLES".equals(format)) {
+            return format;
+        }
+
+        // Default to singles for invalid formats
+        Tournaments.LOGGER.warn("Invalid battle format specified: {}. Defaulting to SINGLES.", format);
+        return "SINGLES";
+    }
+
+    /**
+     * Get the battle format for this tournament (SINGLES or DOUBLES)
+     */
+    public String getBattleFormat() {
+        return battleFormat;
+    }
+
+    /**
+     * Set the battle format for this tournament
+     * @param format The format to set (SINGLES or DOUBLES)
+     */
+    public void setBattleFormat(String format) {
+        this.battleFormat = validateBattleFormat(format);
+    }
+
+    /**
+     * Add a new participant to the tournament
+     */
+    public boolean addParticipant(ServerPlayerEntity player) {
+        // Check tournament status
+        if (status != TournamentStatus.WAITING) {
+            BroadcastUtil.sendTitle(player, "Tournament Already Started", TextFormatting.RED, 10, 70, 20);
+            BroadcastUtil.sendSubtitle(player, "Cannot join now", TextFormatting.RED, 10, 70, 20);
+            return false;
+        }
+
+        // Check participant limit
+        if (participants.size() >= maxParticipants) {
+            BroadcastUtil.sendTitle(player, "Tournament Full", TextFormatting.RED, 10, 70, 20);
+            BroadcastUtil.sendSubtitle(player, "This tournament is full", TextFormatting.RED, 10, 70, 20);
+            return false;
+        }
+
+        UUID playerId = player.getUUID();
+        TournamentParticipant participant = new TournamentParticipant(player);
+        participants.put(playerId, participant);
+        onlineParticipants.put(playerId, player);
+
+        // Broadcast join message
+        broadcastActionBar(player.getName().getString() + " has joined the tournament!");
+
+        // Show welcome message to the joining player
+        BroadcastUtil.sendTitle(player, "Joined Tournament", TextFormatting.GREEN, 10, 70, 20);
+        BroadcastUtil.sendSubtitle(player, name, TextFormatting.YELLOW, 10, 70, 20);
+
+        return true;
+    }
+
+    /**
+     * Remove a participant from the tournament
+     */
+    public boolean removeParticipant(ServerPlayerEntity player) {
+        UUID playerId = player.getUUID();
+
+        if (!participants.containsKey(playerId)) {
+            return false;
+        }
+
+        // Withdraw a player leaving an active tournament they weren't eliminated from.
+        // This forfeits their match and teleports them to the exit point
+        if (status == TournamentStatus.IN_PROGRESS && !eliminatedPlayers.contains(playerId)) {
+            eliminatePlayer(playerId);
+        }
+
+        participants.remove(playerId);
+        onlineParticipants.remove(playerId);
+
+        // Broadcast leave message
+        broadcastActionBar(player.getName().getString() + " has left the tournament");
+
+        // Send leave confirmation to player
+        BroadcastUtil.sendTitle(player, "Left Tournament", TextFormatting.YELLOW, 10, 70, 20);
+        BroadcastUtil.sendSubtitle(player, name, TextFormatting.YELLOW, 10, 70, 20);
+
+        // If host leaves, assign new host
+        if (playerId.equals(hostId) && !participants.isEmpty()) {
+            UUID newHostId = participants.keySet().iterator().next();
+            // Notify the new host
+            ServerPlayerEntity newHost = participants.get(newHostId).getPlayer();
+            if (newHost != null) {
+                BroadcastUtil.sendTitle(newHost, "You Are Now Host", TextFormatting.GOLD, 10, 70, 20);
+                BroadcastUtil.sendSubtitle(newHost, "Previous host left the tournament", TextFormatting.YELLOW, 10, 70, 20);
+            }
+        }
+
+        // Check if only one participant remains and tournament is in progress
+        if (status == TournamentStatus.IN_PROGRESS && participants.size() == 1) {
+            // Get the last participant
+            TournamentParticipant lastParticipant = participants.values().iterator().next();
+
+            // Announce the last player as winner
+            broadcastActionBar("Only one participant remains!");
+            broadcastTitle("Tournament Winner", lastParticipant.getPlayerName());
+
+            // End the tournament with this participant as winner
+            end();
+        }
+
+        return true;
+    }
+
+    /**
+     * Start the tournament with countdown
+     */
+    public void start() {
+        // Check if we can start
+        if (status != TournamentStatus.WAITING) {
+            return;
+        }
+
+        if (participants.size() < 2) {
+            broadcastTitle("Cannot Start Tournament", "Need at least 2 participants");
+            return;
+        }
+
+        // Change status
+        status = TournamentStatus.IN_PROGRESS;
+        startedAt = Instant.now();
+
+        // Generate initial tournament bracket
+        generateBracket();
+
+        // Announce tournament start with countdown
+        broadcastTitle("Tournament Starting", battleFormat + " Format");
+
+        // One countdown for all participants
+        List<UUID> audience = new ArrayList<>();
+        for (ServerPlayerEntity player : getOnlineParticipants()) {
+            if (player.isAlive()) {
+                audience.add(player.getUUID());
+            }
+        }
+        GroupCountdown.start(this, audience, "Starting in", 5, players -> {
+            // Spread the teleports after the countdown over a few ticks instead of moving everyone at once
+            for (int i = 0; i < players.size(); i++) {
+                ServerPlayerEntity player = players.get(i);
+                TournamentTasks.runLater(this, i / TELEPORTS_PER_TICK, () -> teleportToEntry(player));
+            }
+
+            // First round matches go out the tick after the last teleport wave
+            TournamentTasks.runLater(this, players.size() / TELEPORTS_PER_TICK + 1, this::releaseMatches);
+        });
+
+        MinecraftForge.EVENT_BUS.post(new TournamentEvent.Started(this));
+    }
+
+    /**
+     * Teleport a participant to the entry point after the start countdown, if teleports are enabled
+     */
+    private void teleportToEntry(ServerPlayerEntity player) {
+        if (!TournamentsConfig.COMMON.enableTeleports.get() || !player.isAlive()) {
+            return;
+        }
+
+        // A teleport held back by the scheduler budget mustn't pull a player out of their arena
+        TournamentMatch match = matchIndex.getActiveMatch(player.getUUID());
+        if (match != null && !ArenaManager.isWaitingForArena(match)) {
+            return;
+        }
+
+        boolean success = TeleportUtil.teleportToEntryPoint(player);
+        if (!success) {
+            Tournaments.LOGGER.warn("Failed to teleport player {} to tournament entry point",
+                    player.getName().getString());
+            BroadcastUtil.sendActionBar(player, "Failed to teleport to tournament arena. Contact an admin.", TextFormatting.RED);
+        }
+    }
+
+    /**
+     * Generate tournament bracket based on participants
+     */
+    private void generateBracket() {
+        // Shuffle participants to randomize initial matchups
+        List<UUID> seeding = new ArrayList<>(participants.keySet());
+        Collections.shuffle(seeding);
+
+        String format = TournamentManager.getInstance().getTournamentSettings(name).getFormat();
+        bracket = BracketEngines.create(format);
+        bracketLog.clear();
+        currentRound = 0;
+
+        BracketUpdate update = bracket.seed(seeding);
+        Tournaments.LOGGER.info("Generated {} bracket for tournament {} with {} slots",
+                bracket.getFormat(), name, bracket.getSlots().size());
+
+        // Display tournament bracket
+        broadcastTitle("Tournament Bracket", "Generated");
+
+        // Send details as action bar messages
+        List<BracketSlot> opening = update.getReadySlots();
+        for (int i = 0; i < opening.size(); i++) {
+            BracketSlot slot = opening.get(i);
+            broadcastActionBar("Match " + (i + 1) + ": " + getPlayerName(slot.getPlayer1()) +
+                    " vs " + getPlayerName(slot.getPlayer2()));
+        }
+
+        applyBracketUpdate(update);
+    }
+
+    /**
+     * Apply the effects of a bracket change: queue newly playable slots, hand out byes,
+     * settle forfeited matches and eliminate knocked out players
+     */
+    private void applyBracketUpdate(BracketUpdate update) {
+        for (BracketSlot slot : update.getForfeitedSlots()) {
+            if (!pendingSlots.remove(slot)) {
+                settleForfeitedMatch(slot);
+            }
+        }
+
+        pendingSlots.addAll(update.getReadySlots());
+
+        for (UUID byeId : update.getByes()) {
+            matchIndex.addBye(currentRound, byeId);
+            broadcastActionBar(getPlayerName(byeId) + " advances with a bye");
+
+            // Notify the player who got a bye
+            TournamentParticipant participant = participants.get(byeId);
+            ServerPlayerEntity byePlayer = participant != null ? participant.getPlayer() : null;
+            if (byePlayer != null) {
+                BroadcastUtil.sendTitle(byePlayer, "You Got a Bye", TextFormatting.GREEN, 10, 60, 20);
+                BroadcastUtil.sendSubtitle(byePlayer, "Advancing to next round", TextFormatting.YELLOW, 10, 60, 20);
+            }
+        }
+
+        for (UUID eliminatedId : update.getEliminated()) {
+            markEliminated(eliminatedId);
+        }
+    }
+
+    /**
+     * Complete the match of a slot that was forfeited by a withdrawing player
+     */
+    private void settleForfeitedMatch(BracketSlot slot) {
+        TournamentMatch match = matchIndex.getActiveMatch(slot.getPlayer1());
+        if (match == null || match.getSlotId() != slot.getId()) {
+            return;
+        }
+
+        if (match.getStatus() == TournamentMatch.MatchStatus.SCHEDULED) {
+            match.start();
+        }
+        match.complete(slot.getWinnerId());
+        matchIndex.markFinished(match);
+        unsentMatches.remove(match);
+        releaseMatch(match);
+        broadcastActionBar(getPlayerName(slot.getWinnerId()) + " wins by forfeit");
+        MinecraftForge.EVENT_BUS.post(new TournamentEvent.MatchCompleted(this, match));
+    }
+
+    /**
+     * Free the arena, pending tasks and ready state of a match that is over
+     */
+    private void releaseMatch(TournamentMatch match) {
+        ArenaManager.release(match);
+        TournamentTasks.cancelAll(match);
+        ReadyCheckManager.clearReadyStatus(match);
+    }
+
+    private String getPlayerName(UUID playerId) {
+        TournamentParticipant participant = participants.get(playerId);
+        return participant != null ? participant.getPlayerName() : playerId.toString();
+    }
+
+    /**
+     * Start scheduling matches once the opening countdown is over
+     */
+    private void releaseMatches() {
+        if (status != TournamentStatus.IN_PROGRESS || matchesReleased) {
+            return;
+        }
+        matchesReleased = true;
+
+        // Broadcast round start
+        broadcastTitle("Round " + (currentRound + 1), "Matches are being scheduled");
+        advanceBracket();
+    }
+
+    /**
+     * Create a match for every bracket slot whose two players are known.
+     * Runs after every result, so a slot is played as soon as both of its feeder
+     * matches are done instead of waiting for the rest of the round.
+     */
+    private void scheduleReadyMatches() {
+        List<BracketSlot> readySlots = new ArrayList<>(pendingSlots);
+        pendingSlots.clear();
+
+        for (BracketSlot slot : readySlots) {
+            // Rounds overlap now, so announce each main bracket round when its first match starts
+            if (slot.getRound() > currentRound && slot.getSide() != BracketSlot.Side.LOSERS) {
+                currentRound = slot.getRound();
+                int remaining = participants.size() - eliminatedPlayers.size();
+                broadcastTitle("Round " + (currentRound + 1), remaining + " participants remaining");
+            }
+            scheduleMatch(slot);
+        }
+    }
+
+    /**
+     * Create the match for a ready bracket slot with on-screen notifications
+     */
+    private void scheduleMatch(BracketSlot slot) {
+        TournamentParticipant player1 = participants.get(slot.getPlayer1());
+        TournamentParticipant player2 = participants.get(slot.getPlayer2());
+        if (player1 == null || player2 == null) {
+            Tournaments.LOGGER.warn("Skipping bracket slot {} in tournament {}: player no longer registered",
+                    slot.getId(), name);
+            return;
+        }
+
+        // Create match
+        TournamentMatch match = new TournamentMatch(player1, player2, slot.getId());
+        addMatch(match);
+        Tournaments.LOGGER.debug("Scheduled {} for tournament {}", slot, name);
+        MinecraftForge.EVENT_BUS.post(new TournamentEvent.MatchScheduled(this, match));
+
+        // Get player entities
+        ServerPlayerEntity p1 = player1.getPlayer();
+        ServerPlayerEntity p2 = player2.getPlayer();
+
+        if (p1 != null && p2 != null) {
+            // Announce match to all participants
+            final String matchDescription = match.getDescription();
+            broadcastActionBar("Match scheduled: " + matchDescription);
+
+            // Each match gets its own arena; if all are busy it waits for the next free one
+            if (!ArenaManager.requestArena(match, arena -> sendToArena(match, arena))) {
+                BroadcastUtil.sendActionBar(p1, "Waiting for a free arena...", TextFormatting.YELLOW);
+                BroadcastUtil.sendActionBar(p2, "Waiting for a free arena...", TextFormatting.YELLOW);
+            }
+        } else {
+            unsentMatches.add(match);
+            broadcastActionBar("Could not schedule match: " + match.getDescription() +
+                    " - one or both players offline");
+        }
+    }
+
+    /**
+     * Teleport the players of a match to the arena leased for it
+     * @param arena The leased arena, or null for the shared match positions
+     */
+    private void sendToArena(TournamentMatch match, Arena arena) {
+        // The match may have been decided by a forfeit while it was queued
+        if (match.getStatus() != TournamentMatch.MatchStatus.SCHEDULED) {
+            ArenaManager.release(match);
+            return;
+        }
+
+        TournamentParticipant player1 = participants.get(match.getPlayer1Id());
+        TournamentParticipant player2 = participants.get(match.getPlayer2Id());
+        ServerPlayerEntity p1 = player1 != null ? player1.getPlayer() : null;
+        ServerPlayerEntity p2 = player2 != null ? player2.getPlayer() : null;
+
+        if (p1 != null && p2 != null) {
+            unsentMatches.remove(match);
+
+            // Teleport players to their match positions
+            boolean p1Teleported = TeleportUtil.teleportToArena(p1, arena, 1);
+            boolean p2Teleported = TeleportUtil.teleportToArena(p2, arena, 2);
+
+            String arenaName = arena != null ? arena.getName() : "default";
+            if (p1Teleported && p2Teleported) {
+                Tournaments.LOGGER.info("Teleported {} and {} to arena {}",
+                        p1.getName().getString(), p2.getName().getString(), arenaName);
+            } else {
+                Tournaments.LOGGER.warn("Failed to teleport players to arena {}", arenaName);
+            }
+
+            if (arena != null) {
+                BroadcastUtil.sendActionBar(p1, "Arena: " + arenaName, TextFormatting.AQUA);
+                BroadcastUtil.sendActionBar(p2, "Arena: " + arenaName, TextFormatting.AQUA);
+            }
+
+            // Special notification for match participants
+            BroadcastUtil.sendTitle(p1, "Match Started", TextFormatting.GOLD, 10, 60, 20, Priority.HIGH);
+            BroadcastUtil.sendSubtitle(p1, "VS " + p2.getName().getString(), TextFormatting.YELLOW, 10, 60, 20);
+
+            BroadcastUtil.sendTitle(p2, "Match Started", TextFormatting.GOLD, 10, 60, 20, Priority.HIGH);
+            BroadcastUtil.sendSubtitle(p2, "VS " + p1.getName().getString(), TextFormatting.YELLOW, 10, 60, 20);
+
+            // After 3 seconds, show the ready command instruction
+            TournamentTasks.runLater(match, 60, () -> {
+                BroadcastUtil.sendTitle(p1, "Type /tournament ready", TextFormatting.GREEN, 10, 60, 20, Priority.HIGH);
+                BroadcastUtil.sendTitle(p2, "Type /tournament ready", TextFormatting.GREEN, 10, 60, 20, Priority.HIGH);
+            });
+        } else {
+            // Don't hold the arena while waiting for the players to come back
+            ArenaManager.release(match);
+            unsentMatches.add(match);
+            broadcastActionBar("Could not start match: " + match.getDescription() +
+                    " - one or both players offline");
+        }
+    }
+
+    /**
+     * Remove a player from the rest of the tournament, e.g. on disqualification.
+     * Any match they are waiting to play is forfeited to their opponent.
+     */
+    public void eliminatePlayer(UUID playerId) {
+        if (!participants.containsKey(playerId)) {
+            Tournaments.LOGGER.warn("Attempted to eliminate player {} who is not in tournament {}",
+                    playerId, name);
+            return;
+        }
+
+        // If already eliminated, don't do it again
+        if (eliminatedPlayers.contains(playerId)) {
+            Tournaments.LOGGER.debug("Player {} is already eliminated from tournament {}",
+                    playerId, name);
+            return;
+        }
+
+        if (bracket == null) {
+            markEliminated(playerId);
+            return;
+        }
+
+        applyBracketUpdate(bracket.withdraw(playerId));
+        bracketLog.add(new BracketOp(BracketOp.WITHDRAW, playerId));
+        advanceBracket();
+        TournamentManager.getInstance().markChanged(this);
+    }
+
+    /**
+     * Mark a player the bracket has knocked out as eliminated
+     */
+    private void markEliminated(UUID playerId) {
+        if (!participants.containsKey(playerId) || !eliminatedPlayers.add(playerId)) {
+            return;
+        }
+
+        Tournaments.LOGGER.info("Player {} eliminated from tournament {}", playerId, name);
+
+        // Get the player
+        TournamentParticipant participant = participants.get(playerId);
+        ServerPlayerEntity player = participant.getPlayer();
+        String playerName = participant.getPlayerName();
+
+        // Teleport to exit point if available
+        if (player != null && player.isAlive() && TournamentsConfig.COMMON.enableTeleports.get()) {
+            Tournaments.LOGGER.info("Teleporting eliminated player {} to exit point", playerName);
+
+            // Show elimination message
+            BroadcastUtil.sendTitle(player, "Eliminated", TextFormatting.RED, 10, 70, 20, Priority.HIGH);
+            BroadcastUtil.sendSubtitle(player, "You are out of the tournament", TextFormatting.YELLOW, 10, 70, 20);
+
+            boolean success = TeleportUtil.teleportToExitPoint(player);
+            if (!success) {
+                Tournaments.LOGGER.warn("Failed to teleport eliminated player {} to exit point", playerName);
+
+                // Try again after a short delay
+                TournamentTasks.runLater(20, () -> {
+                    Tournaments.LOGGER.info("Attempting delayed teleport for eliminated player {}", playerName);
+                    boolean delayedSuccess = TeleportUtil.teleportToExitPoint(player);
+
+                    if (!delayedSuccess) {
+                        Tournaments.LOGGER.error("Delayed teleport for eliminated player {} also failed", playerName);
+                        BroadcastUtil.sendActionBar(player, "You have been eliminated. Use /spawn to return to spawn.", TextFormatting.RED);
+                    }
+                });
+            }
+        } else if (player != null) {
+            // Notify even if we can't teleport
+            BroadcastUtil.sendTitle(player, "Eliminated", TextFormatting.RED, 10, 70, 20, Priority.HIGH);
+            BroadcastUtil.sendSubtitle(player, "You are out of the tournament", TextFormatting.YELLOW, 10, 70, 20);
+        }
+
+        // Broadcast elimination message to all participants
+        broadcastActionBar(playerName + " has been eliminated from the tournament");
+    }
+
+    /**
+     * Check if a player is eliminated
+     */
+    public boolean isPlayerEliminated(UUID playerId) {
+        return eliminatedPlayers.contains(playerId);
+    }
+
+    /**
+     * Get the number of eliminated players
+     */
+    public int getEliminatedPlayerCount() {
+        return eliminatedPlayers.size();
+    }
+
+    /**
+     * Record a match result
+     * @param winnerUUID UUID of the winner
+     * @param loserUUID UUID of the loser
+     * @return True if result was recorded successfully
+     */
+    public boolean recordMatchResult(UUID winnerUUID, UUID loserUUID) {
+        // Find the match
+        TournamentMatch matchToUpdate = null;
+
+        TournamentMatch match = matchIndex.getMatch(winnerUUID, loserUUID);
+        if (match != null && (match.getStatus() == TournamentMatch.MatchStatus.IN_PROGRESS
+                || match.getStatus() == TournamentMatch.MatchStatus.SCHEDULED)) {
+            matchToUpdate = match;
+        }
+
+        if (matchToUpdate == null) {
+            Tournaments.LOGGER.warn("No active match found for players {} and {}",
+                    getPlayerName(winnerUUID), getPlayerName(loserUUID));
+
+            // Create a debug log of all matches
+            Tournaments.LOGGER.info("Current matches in tournament {}:", name);
+            for (TournamentMatch m : matches) {
+                Tournaments.LOGGER.info("Match: {} vs {} - Status: {}",
+                        m.getPlayer1Name(), m.getPlayer2Name(), m.getStatus());
+            }
+
+            // Results can only be recorded for matches the bracket scheduled
+            return false;
+        }
+
+        // The bracket goes first; if it rejects the result the match is left as it was
+        BracketUpdate update;
+        try {
+            update = bracket.reportResult(matchToUpdate.getSlotId(), winnerUUID);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            Tournaments.LOGGER.error("Bracket rejected result for match {} in tournament {}: {}",
+                    matchToUpdate.getDescription(), name, e.getMessage());
+            return false;
+        }
+        bracketLog.add(new BracketOp(matchToUpdate.getSlotId(), winnerUUID));
+
+        if (matchToUpdate.getStatus() == TournamentMatch.MatchStatus.SCHEDULED) {
+            // Match was scheduled but never marked as in progress
+            matchToUpdate.start();
+        }
+
+        // Mark as completed with winner
+        if (matchToUpdate.complete(winnerUUID)) {
+            matchIndex.markFinished(matchToUpdate);
+            unsentMatches.remove(matchToUpdate);
+            releaseMatch(matchToUpdate);
+
+            // Update participant stats
+            if (participants.containsKey(winnerUUID)) {
+                participants.get(winnerUUID).incrementWins();
+
+                // Teleport winner back to entry point
+                ServerPlayerEntity winner = participants.get(winnerUUID).getPlayer();
+                if (winner != null && TournamentsConfig.COMMON.enableTeleports.get()) {
+                    boolean teleported = TeleportUtil.teleportToEntryPoint(winner);
+                    if (teleported) {
+                        Tournaments.LOGGER.info("Teleported winner {} back to entry point",
+                                winner.getName().getString());
+                        // Victory message handled in match complete method
+                    }
+                }
+            }
+
+            if (participants.containsKey(loserUUID)) {
+                participants.get(loserUUID).incrementLosses();
+            }
+
+            // Eliminations are decided by the bracket format
+            applyBracketUpdate(update);
+
+            // Losers that are still alive (double elimination, round robin) wait at the entry point
+            if (!eliminatedPlayers.contains(loserUUID) && participants.containsKey(loserUUID)) {
+                ServerPlayerEntity loser = participants.get(loserUUID).getPlayer();
+                if (loser != null && TournamentsConfig.COMMON.enableTeleports.get()) {
+                    TeleportUtil.teleportToEntryPoint(loser);
+                }
+            }
+
+            // Broadcast the result using the new method
+            String winnerName = participants.containsKey(winnerUUID) ?
+                    participants.get(winnerUUID).getPlayerName() : "Unknown";
+            String loserName = participants.containsKey(loserUUID) ?
+                    participants.get(loserUUID).getPlayerName() : "Unknown";
+
+            // CHANGED from broadcastMessage to broadcastMatchResult
+            broadcastMatchResult(winnerName, loserName);
+
+            // Schedule whatever this result made playable
+            advanceBracket();
+
+            MinecraftForge.EVENT_BUS.post(new TournamentEvent.MatchCompleted(this, matchToUpdate));
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Move the tournament on after a bracket change: end it if the champion is
+     * decided, otherwise start every match that has become playable
+     */
+    private void advanceBracket() {
+        if (status != TournamentStatus.IN_PROGRESS || bracket == null) {
+            return;
+        }
+
+        if (bracket.isComplete()) {
+            announceChampion();
+            end();
+            return;
+        }
+
+        if (!matchesReleased) {
+            return;
+        }
+
+        scheduleReadyMatches();
+
+        if (!matchIndex.hasActiveMatches()) {
+            // Nothing left to play but no champion either; should not happen with a valid bracket
+            Tournaments.LOGGER.error("Tournament {} has no playable matches left, ending it", name);
+            end();
+        }
+    }
+
+    /**
+     * Announce the bracket champion to everyone in the tournament
+     */
+    private void announceChampion() {
+        TournamentParticipant winner = determineOverallWinner();
+        if (winner == null) {
+            return;
+        }
+
+        broadcastTitle("Tournament Winner", winner.getPlayerName());
+
+        // Show winning message to the winner
+        ServerPlayerEntity winnerPlayer = winner.getPlayer();
+        if (winnerPlayer != null) {
+            BroadcastUtil.sendTitle(winnerPlayer, "Victory!", TextFormatting.GOLD, 10, 100, 20);
+            BroadcastUtil.sendSubtitle(winnerPlayer, "You are the tournament champion", TextFormatting.YELLOW, 10, 100, 20);
+        }
+    }
+
+    /**
+     * End the tournament
+     */
+    public void end() {
+        if (status == TournamentStatus.ENDED) {
+            return;
+        }
+
+        status = TournamentStatus.ENDED;
+        endedAt = Instant.now();
+
+        // Free the arenas and timers of any matches left unplayed
+        for (TournamentMatch match : matches) {
+            releaseMatch(match);
+        }
+        TournamentTasks.cancelAll(this);
+        MinecraftForge.EVENT_BUS.post(new TournamentEvent.Ended(this));
+
+        // Determine and announce winner
+        TournamentParticipant winner = determineOverallWinner();
+        if (winner != null) {
+            broadcastTitle("Tournament Ended", winner.getPlayerName() + " wins!");
+
+            // Show victory message to winner
+            ServerPlayerEntity playerEntity = winner.getPlayer();
+            if (playerEntity != null) {
+                // Give rewards if enabled
+                if (TournamentsConfig.COMMON.enableRewards.get()) {
+                    // Implement reward logic here
+                    BroadcastUtil.sendActionBar(playerEntity, "You've received tournament rewards!", TextFormatting.GOLD);
+                }
+            }
+        } else {
+            broadcastTitle("Tournament Ended", "No clear winner");
+        }
+    }
+
+    /**
+     * @return The champion, or the last player standing if it ended early; null if there is neither
+     */
+    public TournamentParticipant getWinner() {
+        return determineOverallWinner();
+    }
+
+    /**
+     * Determine the overall tournament winner
+     */
+    private TournamentParticipant determineOverallWinner() {
+        if (bracket == null) {
+            return null;
+        }
+
+        if (bracket.getChampion() != null) {
+            return participants.get(bracket.getChampion());
+        }
+
+        // Ended early: check if only one active player remains
+        List<TournamentParticipant> activePlayers = new ArrayList<>();
+        for (TournamentParticipant participant : participants.values()) {
+            if (!eliminatedPlayers.contains(participant.getPlayerId())) {
+                activePlayers.add(participant);
+            }
+        }
+
+        return activePlayers.size() == 1 ? activePlayers.get(0) : null;
+    }
+
+    /**
+     * Broadcast a message to all tournament participants as a title and subtitle
+     * Uses improved styling for better readability
+     */
+    public void broadcastTitle(String title, String subtitle) {
+        List<ServerPlayerEntity> audience = getOnlineParticipants();
+        BroadcastUtil.broadcastTitle(audience, title, TextFormatting.GOLD, 10, 60, 20);
+        if (subtitle != null && !subtitle.isEmpty()) {
+            BroadcastUtil.broadcastSubtitle(audience, subtitle, TextFormatting.YELLOW, 10, 60, 20);
+        }
+    }
+
+    /**
+     * Broadcast a message to all tournament participants as an actionbar message
+     * This is the least intrusive notification format
+     */
+    public void broadcastActionBar(String message) {
+        BroadcastUtil.broadcastActionBar(getOnlineParticipants(), message, TextFormatting.GOLD);
+    }
+
+    /**
+     * Broadcast an important notification to all participants
+     * Uses the notification bar for more visibility
+     */
+    public void broadcastNotification(String message) {
+        BroadcastUtil.broadcastNotificationBar(getOnlineParticipants(), message);
+    }
+
+    /**
+     * @return Participants who are online, as the audience for a broadcast
+     */
+    public List<ServerPlayerEntity> getOnlineParticipants() {
+        return new ArrayList<>(onlineParticipants.values());
+    }
+
+    /**
+     * Track a participant logging in, out or getting a new entity
+     * @param player The participant's current entity, or null if they went offline
+     */
+    public void updateOnlineParticipant(UUID playerId, ServerPlayerEntity player) {
+        if (!participants.containsKey(playerId)) {
+            return;
+        }
+
+        if (player != null) {
+            onlineParticipants.put(playerId, player);
+            sendUnsentMatch(playerId);
+        } else {
+            onlineParticipants.remove(playerId);
+        }
+    }
+
+    /**
+     * Send out a player's match if it was held back because they or their opponent were offline,
+     * e.g. after the tournament was resumed on server start, and both are online now
+     */
+    private void sendUnsentMatch(UUID playerId) {
+        TournamentMatch match = matchIndex.getActiveMatch(playerId);
+        if (match == null || !unsentMatches.contains(match)) {
+            return;
+        }
+
+        // Give the player a second to finish logging in
+        TournamentTasks.runLater(match, 20, () -> {
+            if (status != TournamentStatus.IN_PROGRESS || !unsentMatches.contains(match) ||
+                    match.getStatus() != TournamentMatch.MatchStatus.SCHEDULED ||
+                    !onlineParticipants.containsKey(match.getPlayer1Id()) ||
+                    !onlineParticipants.containsKey(match.getPlayer2Id()) ||
+                    ArenaManager.isWaitingForArena(match)) {
+                return;
+            }
+
+            unsentMatches.remove(match);
+            broadcastActionBar("Match scheduled: " + match.getDescription());
+            ArenaManager.requestArena(match, arena -> sendToArena(match, arena));
+        });
+    }
+
+    /**
+     * Broadcast a match result with styled formatting
+     * Displays who won the match with appropriate styling
+     */
+    public void broadcastMatchResult(String winnerName, String loserName) {
+        broadcastNotification(winnerName + " has defeated " + loserName);
+        broadcastActionBar(winnerName + " advances to the next round!");
+    }
+
+    /**
+     * Modified broadcast message - now uses ONLY action bar and title notifications
+     * No chat messages will be sent
+     */
+    public void broadcastMessage(String message) {
+        // Default to action bar notifications for all messages
+        broadcastActionBar(message);
+    }
+
+    /**
+     * Modified broadcast message - now uses ONLY action bar and title notifications
+     * No chat messages will be sent regardless of alsoSendChat parameter
+     */
+    public void broadcastMessage(String message, boolean alsoSendChat) {
+        // Ignore alsoSendChat parameter - we never send to chat now
+        broadcastActionBar(message);
+    }
+
+    // Getters and utility methods
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxParticipants() {
+        return maxParticipants;
+    }
+
+    public int getParticipantCount() {
+        return participants.size();
+    }
+
+    public UUID getHostId() {
+        return hostId;
+    }
+
+    public TournamentStatus getStatus() {
+        return status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getEndedAt() {
+        return endedAt;
+    }
+
+    public Collection<TournamentParticipant> getParticipants() {
+        return participants.values();
+    }
+
+    /**
+     * Get the tournament's matches. Rounds overlap, so playable matches come first,
+     * followed by finished ones, each newest first.
+     */
+    public List<TournamentMatch> getCurrentMatches() {
+        List<TournamentMatch> result = new ArrayList<>(matches.size());
+        for (int i = matches.size() - 1; i >= 0; i--) {
+            if (matchIndex.getActiveMatch(matches.get(i).getPlayer1Id()) == matches.get(i)) {
+                result.add(matches.get(i));
+            }
+        }
+        for (int i = matches.size() - 1; i >= 0; i--) {
+            if (matchIndex.getActiveMatch(matches.get(i).getPlayer1Id()) != matches.get(i)) {
+                result.add(matches.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the bracket engine for this tournament
+     * @return The engine or null if the tournament has not started
+     */
+    public BracketEngine getBracket() {
+        return bracket;
+    }
+
+    /**
+     * Get a participant by UUID
+     * @return The participant or null if the player is not in this tournament
+     */
+    public TournamentParticipant getParticipant(UUID playerId) {
+        return participants.get(playerId);
+    }
+
+    /**
+     * Get the SCHEDULED or IN_PROGRESS match a player is in
+     * @return The match or null if the player has no active match
+     */
+    public TournamentMatch getActiveMatch(UUID playerId) {
+        return matchIndex.getActiveMatch(playerId);
+    }
+
+    /**
+     * Get the most recent match between two players, in either order
+     */
+    public TournamentMatch getMatchBetween(UUID playerA, UUID playerB) {
+        return matchIndex.getMatch(playerA, playerB);
+    }
+
+    /**
+     * Check if a player received a bye in the current round
+     */
+    public boolean hasBye(UUID playerId) {
+        return matchIndex.hasBye(currentRound, playerId);
+    }
+
+    /**
+     * Add a match to the tournament and index it
+     */
+    private void addMatch(TournamentMatch match) {
+        matches.add(match);
+        matchIndex.add(match);
+    }
+
+    /**
+     * Get the scheduled start time for the tournament
+     */
+    public Instant getScheduledStartTime() {
+        return scheduledStartTime;
+    }
+
+    /**
+     * Set the scheduled start time for the tournament
+     */
+    public void setScheduledStartTime(Instant time) {
+        this.scheduledStartTime = time;
+    }
+
+    /**
+     * Write the tournament's state for the tournament journal. Matches still being played
+     * aren't written; their bracket slots are ready again after a load and get new matches.
+     */
+    public CompoundNBT save() {
+        CompoundNBT tag = new CompoundNBT();
+        tag.putString("name", name);
+        tag.putInt("maxParticipants", maxParticipants);
+        tag.putUUID("host", hostId);
+        tag.putString("battleFormat", battleFormat);
+        tag.putString("status", status.name());
+        putInstant(tag, "createdAt", createdAt);
+        putInstant(tag, "startedAt", startedAt);
+        putInstant(tag, "endedAt", endedAt);
+        putInstant(tag, "scheduledStart", scheduledStartTime);
+        tag.putInt("currentRound", currentRound);
+        tag.putBoolean("matchesReleased", matchesReleased);
+
+        ListNBT participantList = new ListNBT();
+        for (TournamentParticipant participant : participants.values()) {
+            participantList.add(participant.save());
+        }
+        tag.put("participants", participantList);
+
+        ListNBT eliminatedList = new ListNBT();
+        for (UUID playerId : eliminatedPlayers) {
+            eliminatedList.add(NBTUtil.createUUID(playerId));
+        }
+        tag.put("eliminated", eliminatedList);
+
+        ListNBT matchList = new ListNBT();
+        for (TournamentMatch match : matches) {
+            if (match.getStatus() == TournamentMatch.MatchStatus.COMPLETED ||
+                    match.getStatus() == TournamentMatch.MatchStatus.CANCELLED) {
+                matchList.add(match.save());
+            }
+        }
+        tag.put("matches", matchList);
+
+        ListNBT byeList = new ListNBT();
+        matchIndex.getAllByes().forEach((round, players) -> {
+            for (UUID playerId : players) {
+                CompoundNBT bye = new CompoundNBT();
+                bye.putInt("round", round);
+                bye.putUUID("player", playerId);
+                byeList.add(bye);
+            }
+        });
+        tag.put("byes", byeList);
+
+        if (bracket != null) {
+            CompoundNBT bracketTag = new CompoundNBT();
+            bracketTag.putString("format", bracket.getFormat());
+
+            ListNBT seeding = new ListNBT();
+            for (UUID playerId : bracket.getSeeding()) {
+                seeding.add(NBTUtil.createUUID(playerId));
+            }
+            bracketTag.put("seeding", seeding);
+
+            ListNBT log = new ListNBT();
+            for (BracketOp op : bracketLog) {
+                CompoundNBT entry = new CompoundNBT();
+                entry.putInt("slot", op.slotId);
+                entry.putUUID("player", op.playerId);
+                log.add(entry);
+            }
+            bracketTag.put("log", log);
+            tag.put("bracket", bracketTag);
+        }
+        return tag;
+    }
+
+    /**
+     * Rebuild a tournament written by {@link #save()}. The bracket is seeded again and the
+     * logged results replayed into it, so it ends up exactly where it was. Call
+     * {@link #resume()} once the tournament is registered to carry on playing it.
+     */
+    public static Tournament load(CompoundNBT tag) {
+        Tournament tournament = new Tournament(tag.getString("name"), tag.getInt("maxParticipants"),
+                tag.getUUID("host"), tag.getString("battleFormat"));
+        tournament.status = TournamentStatus.valueOf(tag.getString("status"));
+        tournament.createdAt = getInstant(tag, "createdAt");
+        tournament.startedAt = getInstant(tag, "startedAt");
+        tournament.endedAt = getInstant(tag, "endedAt");
+        tournament.scheduledStartTime = getInstant(tag, "scheduledStart");
+        tournament.currentRound = tag.getInt("currentRound");
+        tournament.matchesReleased = tag.getBoolean("matchesReleased");
+
+        for (INBT entry : tag.getList("participants", 10)) {
+            TournamentParticipant participant = TournamentParticipant.load((CompoundNBT) entry);
+            tournament.participants.put(participant.getPlayerId(), participant);
+
+            ServerPlayerEntity player = PlayerPresence.get(participant.getPlayerId());
+            if (player != null) {
+                tournament.onlineParticipants.put(participant.getPlayerId(), player);
+            }
+        }
+
+        for (INBT entry : tag.getList("eliminated", 11)) {
+            tournament.eliminatedPlayers.add(NBTUtil.loadUUID(entry));
+        }
+
+        for (INBT entry : tag.getList("matches", 10)) {
+            tournament.addMatch(TournamentMatch.load((CompoundNBT) entry));
+        }
+
+        for (INBT entry : tag.getList("byes", 10)) {
+            CompoundNBT bye = (CompoundNBT) entry;
+            tournament.matchIndex.addBye(bye.getInt("round"), bye.getUUID("player"));
+        }
+
+        if (tag.contains("bracket", 10)) {
+            CompoundNBT bracketTag = tag.getCompound("bracket");
+            List<UUID> seeding = new ArrayList<>();
+            for (INBT entry : bracketTag.getList("seeding", 11)) {
+                seeding.add(NBTUtil.loadUUID(entry));
+            }
+
+            BracketEngine bracket = BracketEngines.create(bracketTag.getString("format"));
+            bracket.seed(seeding);
+            for (INBT entry : bracketTag.getList("log", 10)) {
+                CompoundNBT op = (CompoundNBT) entry;
+                int slotId = op.getInt("slot");
+                UUID playerId = op.getUUID("player");
+                if (slotId == BracketOp.WITHDRAW) {
+                    bracket.withdraw(playerId);
+                } else {
+                    bracket.reportResult(slotId, playerId);
+                }
+                tournament.bracketLog.add(new BracketOp(slotId, playerId));
+            }
+            tournament.bracket = bracket;
+
+            // Every playable slot needs a new match, including those whose match was cut short
+            for (BracketSlot slot : bracket.getSlots()) {
+                if (slot.getState() == BracketSlot.State.READY) {
+                    tournament.pendingSlots.add(slot);
+                }
+            }
+        }
+        return tournament;
+    }
+
+    /**
+     * Carry on a loaded tournament: schedule matches for every playable bracket slot
+     */
+    public void resume() {
+        if (status != TournamentStatus.IN_PROGRESS || bracket == null) {
+            return;
+        }
+
+        Tournaments.LOGGER.info("Resuming tournament {} with {} playable matches", name, pendingSlots.size());
+        matchesReleased = true;
+        advanceBracket();
+    }
+
+    static void putInstant(CompoundNBT tag, String key, Instant time) {
+        if (time != null) {
+            tag.putLong(key, time.toEpochMilli());
+        }
+    }
+
+    static Instant getInstant(CompoundNBT tag, String key) {
+        return tag.contains(key, 4) ? Instant.ofEpochMilli(tag.getLong(key)) : null;
+    }
+
+    /**
+     * A result or withdrawal fed to the bracket
+     */
+    private static final class BracketOp {
+        // Slot id recorded for a withdrawal
+        static final int WITHDRAW = -1;
+
+        final int slotId;
+        final UUID playerId;  // Winner of the slot, or the withdrawing player
+
+        BracketOp(int slotId, UUID playerId) {
+            this.slotId = slotId;
+            this.playerId = playerId;
+        }
+    }
+
+    public enum TournamentStatus {
+        WAITING,      // Tournament created, waiting for participants
+        IN_PROGRESS,  // Tournament is currently running
+        ENDED         // Tournament has concluded
+    }
 }
\ No newline at end of file
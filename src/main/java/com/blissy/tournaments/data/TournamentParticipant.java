@@ -1,50 +1,76 @@
-package com.blissy.tournaments.data;
-
-import net.minecraft.entity.player.ServerPlayerEntity;
-import net.minecraft.server.management.PlayerList;
-import net.minecraftforge.fml.server.ServerLifecycleHooks;
-
-import java.util.UUID;
-
-public class TournamentParticipant {
-    private final UUID playerId;
-    private final String playerName;
-    private int wins;
-    private int losses;
-
-    public TournamentParticipant(ServerPlayerEntity player) {
-        this.playerId = player.getUUID();
-        this.playerName = player.getName().getString();
-        this.wins = 0;
-        this.losses = 0;
-    }
-
-    public UUID getPlayerId() {
-        return playerId;
-    }
-
-    public String getPlayerName() {
-        return playerName;
-    }
-
-    public int getWins() {
-        return wins;
-    }
-
-    public void incrementWins() {
-        wins++;
-    }
-
-    public int getLosses() {
-        return losses;
-    }
-
-    public void incrementLosses() {
-        losses++;
-    }
-
-    public ServerPlayerEntity getPlayer() {
-        PlayerList playerList = ServerLifecycleHooks.getCurrentServer().getPlayerList();
-        return playerList.getPlayer(playerId);  // Changed from getPlayerByUUID to getPlayer
-    }
+package com.blissy.tournaments.data;
+
+import com.blissy.tournaments.util.PlayerPresence;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.nbt.CompoundNBT;
+
+import java.util.UUID;
+
+public class TournamentParticipant {
+    private final UUID playerId;
+    private final String playerName;
+    private int wins;
+    private int losses;
+
+    public TournamentParticipant(ServerPlayerEntity player) {
+        this.playerId = player.getUUID();
+        this.playerName = player.getName().getString();
+        this.wins = 0;
+        this.losses = 0;
+    }
+
+    private TournamentParticipant(UUID playerId, String playerName, int wins, int losses) {
+        this.playerId = playerId;
+        this.playerName = playerName;
+        this.wins = wins;
+        this.losses = losses;
+    }
+
+    /**
+     * Write the participant for the tournament journal
+     */
+    public CompoundNBT save() {
+        CompoundNBT tag = new CompoundNBT();
+        tag.putUUID("id", playerId);
+        tag.putString("name", playerName);
+        tag.putInt("wins", wins);
+        tag.putInt("losses", losses);
+        return tag;
+    }
+
+    public static TournamentParticipant load(CompoundNBT tag) {
+        return new TournamentParticipant(tag.getUUID("id"), tag.getString("name"),
+                tag.getInt("wins"), tag.getInt("losses"));
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public void incrementWins() {
+        wins++;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public void incrementLosses() {
+        losses++;
+    }
+
+    /**
+     * @return The participant's current entity, or null if they are offline
+     */
+    public ServerPlayerEntity getPlayer() {
+        return PlayerPresence.get(playerId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.blissy.tournaments.data;
+
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.ListNBT;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * What is kept of an ended tournament once it has been archived: who took part, who won
+ * and when it ran. The full tournament goes to the on-disk archive.
+ */
+public final class TournamentSummary {
+    private final String name;
+    private final String recurringId;  // Null unless it was an instance of a recurring tournament
+    private final UUID hostId;
+    private final String format;
+    private final String battleFormat;
+    private final UUID winnerId;       // Null if the tournament ended without a champion
+    private final List<Placement> placements;
+    private final Instant createdAt;
+    private final Instant startedAt;
+    private final Instant endedAt;
+
+    private TournamentSummary(String name, String recurringId, UUID hostId, String format, String battleFormat,
+                              UUID winnerId, List<Placement> placements,
+                              Instant createdAt, Instant startedAt, Instant endedAt) {
+        this.name = name;
+        this.recurringId = recurringId;
+        this.hostId = hostId;
+        this.format = format;
+        this.battleFormat = battleFormat;
+        this.winnerId = winnerId;
+        this.placements = Collections.unmodifiableList(placements);
+        this.createdAt = createdAt;
+        this.startedAt = startedAt;
+        this.endedAt = endedAt;
+    }
+
+    /**
+     * Summarize an ended tournament
+     * @param format Bracket format it was played in
+     * @param recurringId Recurring tournament it was an instance of, or null
+     */
+    public static TournamentSummary of(Tournament tournament, String format, String recurringId) {
+        TournamentParticipant winner = tournament.getWinner();
+        UUID winnerId = winner != null ? winner.getPlayerId() : null;
+
+        // Champion first, then by record
+        List<TournamentParticipant> ranked = new ArrayList<>(tournament.getParticipants());
+        ranked.sort(Comparator.comparing((TournamentParticipant p) -> !p.getPlayerId().equals(winnerId))
+                .thenComparing(TournamentParticipant::getWins, Comparator.reverseOrder())
+                .thenComparing(TournamentParticipant::getLosses));
+
+        List<Placement> placements = new ArrayList<>(ranked.size());
+        for (TournamentParticipant participant : ranked) {
+            placements.add(new Placement(participant.getPlayerId(), participant.getPlayerName(),
+                    participant.getWins(), participant.getLosses()));
+        }
+
+        return new TournamentSummary(tournament.getName(), recurringId, tournament.getHostId(), format,
+                tournament.getBattleFormat(), winnerId, placements,
+                tournament.getCreatedAt(), tournament.getStartedAt(), tournament.getEndedAt());
+    }
+
+    public CompoundNBT save() {
+        CompoundNBT tag = new CompoundNBT();
+        tag.putString("name", name);
+        if (recurringId != null) {
+            tag.putString("recurringId", recurringId);
+        }
+        tag.putUUID("host", hostId);
+        tag.putString("format", format);
+        tag.putString("battleFormat", battleFormat);
+        if (winnerId != null) {
+            tag.putUUID("winner", winnerId);
+        }
+        Tournament.putInstant(tag, "createdAt", createdAt);
+        Tournament.putInstant(tag, "startedAt", startedAt);
+        Tournament.putInstant(tag, "endedAt", endedAt);
+
+        ListNBT placementList = new ListNBT();
+        for (Placement placement : placements) {
+            CompoundNBT entry = new CompoundNBT();
+            entry.putUUID("id", placement.playerId);
+            entry.putString("name", placement.playerName);
+            entry.putInt("wins", placement.wins);
+            entry.putInt("losses", placement.losses);
+            placementList.add(entry);
+        }
+        tag.put("placements", placementList);
+        return tag;
+    }
+
+    public static TournamentSummary load(CompoundNBT tag) {
+        List<Placement> placements = new ArrayList<>();
+        for (INBT element : tag.getList("placements", 10)) {
+            CompoundNBT entry = (CompoundNBT) element;
+            placements.add(new Placement(entry.getUUID("id"), entry.getString("name"),
+                    entry.getInt("wins"), entry.getInt("losses")));
+        }
+
+        return new TournamentSummary(tag.getString("name"),
+                tag.contains("recurringId") ? tag.getString("recurringId") : null,
+                tag.getUUID("host"), tag.getString("format"), tag.getString("battleFormat"),
+                tag.hasUUID("winner") ? tag.getUUID("winner") : null, placements,
+                Tournament.getInstant(tag, "createdAt"), Tournament.getInstant(tag, "startedAt"),
+                Tournament.getInstant(tag, "endedAt"));
+    }
+
+    public String getName() { return name; }
+    public String getRecurringId() { return recurringId; }
+    public UUID getHostId() { return hostId; }
+    public String getFormat() { return format; }
+    public String getBattleFormat() { return battleFormat; }
+    public UUID getWinnerId() { return winnerId; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getEndedAt() { return endedAt; }
+
+    /**
+     * @return Participants from first place down
+     */
+    public List<Placement> getPlacements() { return placements; }
+
+    /**
+     * @return The winner's name, or null if there was no champion
+     */
+    public String getWinnerName() {
+        return winnerId != null && !placements.isEmpty() ? placements.get(0).playerName : null;
+    }
+
+    /**
+     * One participant's final standing
+     */
+    public static final class Placement {
+        private final UUID playerId;
+        private final String playerName;
+        private final int wins;
+        private final int losses;
+
+        Placement(UUID playerId, String playerName, int wins, int losses) {
+            this.playerId = playerId;
+            this.playerName = playerName;
+            this.wins = wins;
+            this.losses = losses;
+        }
+
+        public UUID getPlayerId() { return playerId; }
+        public String getPlayerName() { return playerName; }
+        public int getWins() { return wins; }
+        public int getLosses() { return losses; }
+    }
+}
\ No newline at end of file
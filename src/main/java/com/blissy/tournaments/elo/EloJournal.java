@@ -0,0 +1,92 @@
+package com.blissy.tournaments.elo;
+
+import com.blissy.tournaments.data.EloPlayer;
+import com.blissy.tournaments.util.JsonLineJournal;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only log of rating changes, written on a background thread.
+ * Each line is the full state of one player after a change (or a reset marker), and the
+ * snapshot is the ratings file itself. Every {@link #COMPACT_EVERY} entries the log is
+ * folded into a new snapshot.
+ */
+public class EloJournal extends JsonLineJournal<UUID> {
+    private static final Gson GSON = new Gson();
+    private static final int COMPACT_EVERY = 500;
+
+    public EloJournal(File snapshotFile, File journalFile) {
+        super("ELO", snapshotFile, journalFile, COMPACT_EVERY);
+    }
+
+    /**
+     * Apply the journal to players loaded from the snapshot
+     * @return Number of entries replayed
+     */
+    public int replay(Map<UUID, EloPlayer> players) {
+        return replay(entry -> {
+            if (entry.has("reset")) {
+                players.values().forEach(EloPlayer::reset);
+            } else {
+                EloPlayer player = GSON.fromJson(entry, EloPlayer.class);
+                players.put(player.getPlayerId(), player);
+            }
+        });
+    }
+
+    /**
+     * Start the background writer
+     * @param players Current ratings, used for the next snapshot
+     * @param compactNow True to fold a replayed journal into the snapshot right away
+     */
+    public void open(Collection<EloPlayer> players, boolean compactNow) {
+        // Serialized here so the writer never reads live player objects
+        Map<UUID, JsonObject> initial = new LinkedHashMap<>();
+        for (EloPlayer player : players) {
+            initial.put(player.getPlayerId(), toJson(player));
+        }
+        open(initial, compactNow);
+    }
+
+    /**
+     * Queue the current state of some players to be appended
+     */
+    public void append(EloPlayer... players) {
+        Map<UUID, JsonObject> entries = new LinkedHashMap<>();
+        for (EloPlayer player : players) {
+            entries.put(player.getPlayerId(), toJson(player));
+        }
+        appendAll(entries);
+    }
+
+    /**
+     * Queue a reset of every player's rating
+     */
+    public void appendReset() {
+        execute(() -> {
+            for (Map.Entry<UUID, JsonObject> entry : latest().entrySet()) {
+                EloPlayer player = GSON.fromJson(entry.getValue(), EloPlayer.class);
+                player.reset();
+                entry.setValue(toJson(player));
+            }
+
+            JsonObject marker = new JsonObject();
+            marker.addProperty("reset", true);
+            writeToJournal(Collections.singletonList(marker));
+
+            // Every rating changed, so a fresh snapshot is as cheap as more journal
+            compact();
+        });
+    }
+
+    private static JsonObject toJson(EloPlayer player) {
+        return GSON.toJsonTree(player).getAsJsonObject();
+    }
+}
\ No newline at end of file
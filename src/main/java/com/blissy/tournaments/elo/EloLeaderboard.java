@@ -0,0 +1,232 @@
+package com.blissy.tournaments.elo;
+
+import com.blissy.tournaments.data.EloPlayer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Players ordered by ELO (highest first, ties broken by UUID).
+ * Backed by a treap where every node knows the size of its subtree, so rank
+ * lookups, finding the player at a rank and updates are all O(log n).
+ * Each node remembers the rating it was inserted with; call {@link #update}
+ * after a player's rating changes so the player is moved to the right place.
+ */
+public class EloLeaderboard {
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private final Random random = new Random();
+    private Node root;
+
+    /**
+     * Add a player or move them to match their current rating
+     */
+    public void update(EloPlayer player) {
+        Node existing = nodes.get(player.getPlayerId());
+        if (existing != null) {
+            if (existing.elo == player.getElo()) {
+                return;
+            }
+            root = remove(root, existing.elo, existing.player.getPlayerId());
+        }
+
+        Node node = new Node(player, random.nextInt());
+        nodes.put(player.getPlayerId(), node);
+
+        Node[] parts = split(root, node.elo, player.getPlayerId());
+        root = merge(merge(parts[0], node), parts[1]);
+    }
+
+    /**
+     * Rebuild the whole index, e.g. after every rating was reset
+     */
+    public void rebuild(Collection<EloPlayer> players) {
+        nodes.clear();
+        root = null;
+        for (EloPlayer player : players) {
+            update(player);
+        }
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Get a player's position on the leaderboard
+     * @return 1 for the top player, or 0 if the player is not ranked
+     */
+    public int getRank(UUID playerId) {
+        Node target = nodes.get(playerId);
+        if (target == null) {
+            return 0;
+        }
+
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(target.elo, playerId, node.elo, node.player.getPlayerId());
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                if (cmp == 0) {
+                    return rank;
+                }
+                node = node.right;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Get the players at consecutive positions
+     * @param from Zero-based position of the first player
+     * @param count Maximum number of players
+     */
+    public List<EloPlayer> getRange(int from, int count) {
+        int start = Math.max(0, from);
+        int end = Math.min(size(), start + Math.max(0, count));
+        if (start >= end) {
+            return Collections.emptyList();
+        }
+
+        List<EloPlayer> result = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            result.add(select(i).player);
+        }
+        return result;
+    }
+
+    /**
+     * Get the top players
+     */
+    public List<EloPlayer> getTop(int count) {
+        return getRange(0, count);
+    }
+
+    /**
+     * Get a player together with the players ranked just above and below them
+     * @param radius Number of players to include on each side
+     */
+    public List<EloPlayer> getAround(UUID playerId, int radius) {
+        int rank = getRank(playerId);
+        if (rank == 0) {
+            return Collections.emptyList();
+        }
+        int from = Math.max(0, rank - 1 - radius);
+        return getRange(from, rank + radius - from);
+    }
+
+    private Node select(int index) {
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IndexOutOfBoundsException("Leaderboard index " + index);
+    }
+
+    /**
+     * Split a tree into nodes ranked before the key and nodes ranked at or after it
+     */
+    private Node[] split(Node node, int elo, UUID playerId) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+
+        if (compare(node.elo, node.player.getPlayerId(), elo, playerId) < 0) {
+            Node[] parts = split(node.right, elo, playerId);
+            node.right = parts[0];
+            node.recount();
+            return new Node[] {node, parts[1]};
+        } else {
+            Node[] parts = split(node.left, elo, playerId);
+            node.left = parts[1];
+            node.recount();
+            return new Node[] {parts[0], node};
+        }
+    }
+
+    /**
+     * Join two trees where every node in the first ranks before every node in the second
+     */
+    private Node merge(Node first, Node second) {
+        if (first == null) return second;
+        if (second == null) return first;
+
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.recount();
+            return first;
+        } else {
+            second.left = merge(first, second.left);
+            second.recount();
+            return second;
+        }
+    }
+
+    private Node remove(Node node, int elo, UUID playerId) {
+        if (node == null) {
+            return null;
+        }
+
+        int cmp = compare(elo, playerId, node.elo, node.player.getPlayerId());
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+
+        if (cmp < 0) {
+            node.left = remove(node.left, elo, playerId);
+        } else {
+            node.right = remove(node.right, elo, playerId);
+        }
+        node.recount();
+        return node;
+    }
+
+    /**
+     * Negative if the first key ranks higher (comes first) on the leaderboard
+     */
+    private static int compare(int elo1, UUID id1, int elo2, UUID id2) {
+        if (elo1 != elo2) {
+            return elo1 > elo2 ? -1 : 1;
+        }
+        return id1.compareTo(id2);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static class Node {
+        final EloPlayer player;
+        final int elo;
+        final int priority;
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(EloPlayer player, int priority) {
+            this.player = player;
+            this.elo = player.getElo();
+            this.priority = priority;
+        }
+
+        void recount() {
+            size = 1 + EloLeaderboard.size(left) + EloLeaderboard.size(right);
+        }
+    }
+}
\ No newline at end of file
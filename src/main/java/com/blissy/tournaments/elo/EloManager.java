@@ -1,152 +1,191 @@
-package com.blissy.tournaments.elo;
-
-import com.blissy.tournaments.Tournaments;
-import com.blissy.tournaments.config.EloConfig;
-import com.blissy.tournaments.data.EloPlayer;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import net.minecraft.entity.player.ServerPlayerEntity;
-import net.minecraft.util.text.StringTextComponent;
-import net.minecraft.util.text.TextFormatting;
-
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.util.*;
-
-public class EloManager {
-    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
-    private static final String ELO_FILE = "config/tournaments/elo_data.json";
-
-    private final Map<UUID, EloPlayer> playerMap = new HashMap<>();
-
-    public void recordMatch(UUID winnerId, UUID loserId) {
-        EloPlayer winner = getOrCreatePlayer(winnerId);
-        EloPlayer loser = getOrCreatePlayer(loserId);
-
-        int winnerElo = winner.getElo();
-        int loserElo = loser.getElo();
-
-        double winnerExpected = 1 / (1 + Math.pow(10, (loserElo - winnerElo) / 400.0));
-        double loserExpected = 1 / (1 + Math.pow(10, (winnerElo - loserElo) / 400.0));
-
-        int winnerGain = (int) Math.round(EloConfig.K_FACTOR.get() * (1 - winnerExpected));
-        int loserLoss = (int) Math.round(EloConfig.K_FACTOR.get() * loserExpected);
-
-        winner.addWin();
-        winner.addElo(winnerGain);
-
-        loser.addLoss();
-        loser.subtractElo(loserLoss);
-
-        ServerPlayerEntity winnerPlayer = winner.getPlayer();
-        ServerPlayerEntity loserPlayer = loser.getPlayer();
-
-        if (winnerPlayer != null) {
-            winnerPlayer.sendMessage(
-                    new StringTextComponent("You gained " + winnerGain + " ELO points for winning!")
-                            .withStyle(TextFormatting.GREEN),
-                    winnerPlayer.getUUID());
-        }
-
-        if (loserPlayer != null) {
-            loserPlayer.sendMessage(
-                    new StringTextComponent("You lost " + loserLoss + " ELO points.")
-                            .withStyle(TextFormatting.RED),
-                    loserPlayer.getUUID());
-        }
-
-        save();
-    }
-
-    public void resetRankings() {
-        // Determine top players before reset
-        List<EloPlayer> topPlayers = getTopPlayers(EloConfig.REWARD_SLOTS.get());
-
-        // Reset all players to default ELO
-        for (EloPlayer player : playerMap.values()) {
-            player.reset();
-        }
-
-        // Give rewards based on final standings
-        giveRewards(topPlayers);
-
-        save();
-    }
-
-    private void giveRewards(List<EloPlayer> topPlayers) {
-        // Get rewards map when needed, not from a constant
-        Map<String, String> rewards = EloConfig.getRewards();
-
-        for (int i = 0; i < topPlayers.size(); i++) {
-            EloPlayer player = topPlayers.get(i);
-            String rewardKey = "reward_" + (i + 1);
-
-            if (rewards.containsKey(rewardKey)) {
-                String rewardCommand = rewards.get(rewardKey);
-                rewardCommand = rewardCommand.replace("{player}", player.getPlayerName());
-
-                Tournaments.LOGGER.info("Giving reward '" + rewardCommand + "' to player " + player.getPlayerName());
-
-                ServerPlayerEntity playerEntity = player.getPlayer();
-                if (playerEntity != null) {
-                    playerEntity.getServer().getCommands().performCommand(
-                            playerEntity.getServer().createCommandSourceStack(), rewardCommand);
-
-                    playerEntity.sendMessage(
-                            new StringTextComponent("You received a reward for placing #" + (i+1) + " on the leaderboard!")
-                                    .withStyle(TextFormatting.GOLD),
-                            playerEntity.getUUID());
-                }
-            }
-        }
-    }
-
-    public List<EloPlayer> getTopPlayers(int count) {
-        List<EloPlayer> players = new ArrayList<>(playerMap.values());
-        players.sort(Comparator.comparingInt(EloPlayer::getElo).reversed());
-
-        return players.subList(0, Math.min(count, players.size()));
-    }
-
-    public EloPlayer getPlayer(UUID playerId) {
-        return playerMap.get(playerId);
-    }
-
-    // Made public to allow access from other classes
-    public EloPlayer getOrCreatePlayer(UUID playerId) {
-        return playerMap.computeIfAbsent(playerId, id -> new EloPlayer(id));
-    }
-
-    public void load() {
-        File file = new File(ELO_FILE);
-
-        if (file.exists()) {
-            try (FileReader reader = new FileReader(file)) {
-                EloPlayer[] players = GSON.fromJson(reader, EloPlayer[].class);
-                if (players != null) {
-                    Arrays.stream(players).forEach(player -> playerMap.put(player.getPlayerId(), player));
-                }
-            } catch (IOException e) {
-                Tournaments.LOGGER.error("Failed to load ELO data", e);
-            }
-        }
-    }
-
-    public void save() {
-        File file = new File(ELO_FILE);
-
-        // Ensure directory exists
-        File dir = file.getParentFile();
-        if (!dir.exists()) {
-            dir.mkdirs();
-        }
-
-        try (FileWriter writer = new FileWriter(file)) {
-            GSON.toJson(playerMap.values(), writer);
-        } catch (IOException e) {
-            Tournaments.LOGGER.error("Failed to save ELO data", e);
-        }
-    }
+package com.blissy.tournaments.elo;
+
+import com.blissy.tournaments.Tournaments;
+import com.blissy.tournaments.config.EloConfig;
+import com.blissy.tournaments.data.EloPlayer;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.util.text.TextFormatting;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.*;
+
+public class EloManager {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String ELO_FILE = "config/tournaments/elo_data.json";
+    private static final String JOURNAL_FILE = "config/tournaments/elo_journal.log";
+
+    private final Map<UUID, EloPlayer> playerMap = new HashMap<>();
+
+    // Ranked view of playerMap, kept in step whenever a rating changes
+    private final EloLeaderboard leaderboard = new EloLeaderboard();
+
+    // Rating changes are appended here in the background instead of rewriting the whole file
+    private final EloJournal journal = new EloJournal(new File(ELO_FILE), new File(JOURNAL_FILE));
+
+    public void recordMatch(UUID winnerId, UUID loserId) {
+        EloPlayer winner = getOrCreatePlayer(winnerId);
+        EloPlayer loser = getOrCreatePlayer(loserId);
+
+        int winnerElo = winner.getElo();
+        int loserElo = loser.getElo();
+
+        double winnerExpected = 1 / (1 + Math.pow(10, (loserElo - winnerElo) / 400.0));
+        double loserExpected = 1 / (1 + Math.pow(10, (winnerElo - loserElo) / 400.0));
+
+        int winnerGain = (int) Math.round(EloConfig.K_FACTOR.get() * (1 - winnerExpected));
+        int loserLoss = (int) Math.round(EloConfig.K_FACTOR.get() * loserExpected);
+
+        winner.addWin();
+        winner.addElo(winnerGain);
+
+        loser.addLoss();
+        loser.subtractElo(loserLoss);
+
+        leaderboard.update(winner);
+        leaderboard.update(loser);
+
+        ServerPlayerEntity winnerPlayer = winner.getPlayer();
+        ServerPlayerEntity loserPlayer = loser.getPlayer();
+
+        if (winnerPlayer != null) {
+            winnerPlayer.sendMessage(
+                    new StringTextComponent("You gained " + winnerGain + " ELO points for winning!")
+                            .withStyle(TextFormatting.GREEN),
+                    winnerPlayer.getUUID());
+        }
+
+        if (loserPlayer != null) {
+            loserPlayer.sendMessage(
+                    new StringTextComponent("You lost " + loserLoss + " ELO points.")
+                            .withStyle(TextFormatting.RED),
+                    loserPlayer.getUUID());
+        }
+
+        journal.append(winner, loser);
+    }
+
+    public void resetRankings() {
+        // Determine top players before reset
+        List<EloPlayer> topPlayers = getTopPlayers(EloConfig.REWARD_SLOTS.get());
+
+        // Reset all players to default ELO
+        for (EloPlayer player : playerMap.values()) {
+            player.reset();
+        }
+        leaderboard.rebuild(playerMap.values());
+
+        // Give rewards based on final standings
+        giveRewards(topPlayers);
+
+        journal.appendReset();
+    }
+
+    private void giveRewards(List<EloPlayer> topPlayers) {
+        // Get rewards map when needed, not from a constant
+        Map<String, String> rewards = EloConfig.getRewards();
+
+        for (int i = 0; i < topPlayers.size(); i++) {
+            EloPlayer player = topPlayers.get(i);
+            String rewardKey = "reward_" + (i + 1);
+
+            if (rewards.containsKey(rewardKey)) {
+                String rewardCommand = rewards.get(rewardKey);
+                rewardCommand = rewardCommand.replace("{player}", player.getPlayerName());
+
+                Tournaments.LOGGER.info("Giving reward '" + rewardCommand + "' to player " + player.getPlayerName());
+
+                ServerPlayerEntity playerEntity = player.getPlayer();
+                if (playerEntity != null) {
+                    playerEntity.getServer().getCommands().performCommand(
+                            playerEntity.getServer().createCommandSourceStack(), rewardCommand);
+
+                    playerEntity.sendMessage(
+                            new StringTextComponent("You received a reward for placing #" + (i+1) + " on the leaderboard!")
+                                    .withStyle(TextFormatting.GOLD),
+                            playerEntity.getUUID());
+                }
+            }
+        }
+    }
+
+    public List<EloPlayer> getTopPlayers(int count) {
+        return leaderboard.getTop(count);
+    }
+
+    /**
+     * Get a player's leaderboard position
+     * @return 1 for the highest rated player, or 0 if the player has no rating yet
+     */
+    public int getRank(UUID playerId) {
+        return leaderboard.getRank(playerId);
+    }
+
+    /**
+     * Get the players ranked around a player, including the player
+     * @param radius Number of players to include above and below
+     */
+    public List<EloPlayer> getPlayersAround(UUID playerId, int radius) {
+        return leaderboard.getAround(playerId, radius);
+    }
+
+    public int getRankedPlayerCount() {
+        return leaderboard.size();
+    }
+
+    public EloPlayer getPlayer(UUID playerId) {
+        return playerMap.get(playerId);
+    }
+
+    // Made public to allow access from other classes
+    public EloPlayer getOrCreatePlayer(UUID playerId) {
+        EloPlayer player = playerMap.get(playerId);
+        if (player == null) {
+            player = new EloPlayer(playerId);
+            playerMap.put(playerId, player);
+            leaderboard.update(player);
+        }
+        return player;
+    }
+
+    /**
+     * Load the last snapshot, replay any journaled changes on top of it and start the writer
+     */
+    public void load() {
+        // Finish writing anything from a previous load before reading the files back
+        journal.close();
+        playerMap.clear();
+
+        File file = new File(ELO_FILE);
+
+        if (file.exists()) {
+            try (FileReader reader = new FileReader(file)) {
+                EloPlayer[] players = GSON.fromJson(reader, EloPlayer[].class);
+                if (players != null) {
+                    Arrays.stream(players).forEach(player -> playerMap.put(player.getPlayerId(), player));
+                }
+            } catch (IOException e) {
+                Tournaments.LOGGER.error("Failed to load ELO data", e);
+            }
+        }
+
+        int replayed = journal.replay(playerMap);
+        if (replayed > 0) {
+            Tournaments.LOGGER.info("Recovered {} ELO changes from the journal", replayed);
+        }
+        leaderboard.rebuild(playerMap.values());
+
+        journal.open(playerMap.values(), replayed > 0);
+    }
+
+    /**
+     * Write all pending rating changes into the snapshot and wait until they are on disk
+     */
+    public void save() {
+        journal.flush();
+    }
 }
\ No newline at end of file
@@ -1,61 +1,112 @@
-package com.blissy.tournaments.events;
-
-import com.blissy.tournaments.data.Tournament;
-import net.minecraft.entity.player.ServerPlayerEntity;
-import net.minecraftforge.eventbus.api.Event;
-
-public class TournamentEvent extends Event {
-    private final Tournament tournament;
-
-    public TournamentEvent(Tournament tournament) {
-        this.tournament = tournament;
-    }
-
-    public Tournament getTournament() {
-        return tournament;
-    }
-
-    public static class Created extends TournamentEvent {
-        public Created(Tournament tournament) {
-            super(tournament);
-        }
-    }
-
-    public static class Started extends TournamentEvent {
-        public Started(Tournament tournament) {
-            super(tournament);
-        }
-    }
-
-    public static class Ended extends TournamentEvent {
-        public Ended(Tournament tournament) {
-            super(tournament);
-        }
-    }
-
-    public static class PlayerJoined extends TournamentEvent {
-        private final ServerPlayerEntity player;
-
-        public PlayerJoined(Tournament tournament, ServerPlayerEntity player) {
-            super(tournament);
-            this.player = player;
-        }
-
-        public ServerPlayerEntity getPlayer() {
-            return player;
-        }
-    }
-
-    public static class PlayerLeft extends TournamentEvent {
-        private final ServerPlayerEntity player;
-
-        public PlayerLeft(Tournament tournament, ServerPlayerEntity player) {
-            super(tournament);
-            this.player = player;
-        }
-
-        public ServerPlayerEntity getPlayer() {
-            return player;
-        }
-    }
+package com.blissy.tournaments.events;
+
+import com.blissy.tournaments.data.Tournament;
+import com.blissy.tournaments.data.TournamentMatch;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraftforge.eventbus.api.Event;
+
+public class TournamentEvent extends Event {
+    private final Tournament tournament;
+
+    public TournamentEvent(Tournament tournament) {
+        this.tournament = tournament;
+    }
+
+    public Tournament getTournament() {
+        return tournament;
+    }
+
+    public static class Created extends TournamentEvent {
+        public Created(Tournament tournament) {
+            super(tournament);
+        }
+    }
+
+    public static class Started extends TournamentEvent {
+        public Started(Tournament tournament) {
+            super(tournament);
+        }
+    }
+
+    public static class Ended extends TournamentEvent {
+        public Ended(Tournament tournament) {
+            super(tournament);
+        }
+    }
+
+    /**
+     * Fired a few minutes before a scheduled tournament starts
+     */
+    public static class StartingSoon extends TournamentEvent {
+        private final int minutesRemaining;
+
+        public StartingSoon(Tournament tournament, int minutesRemaining) {
+            super(tournament);
+            this.minutesRemaining = minutesRemaining;
+        }
+
+        public int getMinutesRemaining() {
+            return minutesRemaining;
+        }
+    }
+
+    public static class PlayerJoined extends TournamentEvent {
+        private final ServerPlayerEntity player;
+
+        public PlayerJoined(Tournament tournament, ServerPlayerEntity player) {
+            super(tournament);
+            this.player = player;
+        }
+
+        public ServerPlayerEntity getPlayer() {
+            return player;
+        }
+    }
+
+    public static class PlayerLeft extends TournamentEvent {
+        private final ServerPlayerEntity player;
+
+        public PlayerLeft(Tournament tournament, ServerPlayerEntity player) {
+            super(tournament);
+            this.player = player;
+        }
+
+        public ServerPlayerEntity getPlayer() {
+            return player;
+        }
+    }
+
+    /**
+     * Base for events about one match of a tournament
+     */
+    public static class MatchEvent extends TournamentEvent {
+        private final TournamentMatch match;
+
+        public MatchEvent(Tournament tournament, TournamentMatch match) {
+            super(tournament);
+            this.match = match;
+        }
+
+        public TournamentMatch getMatch() {
+            return match;
+        }
+    }
+
+    public static class MatchScheduled extends MatchEvent {
+        public MatchScheduled(Tournament tournament, TournamentMatch match) {
+            super(tournament, match);
+        }
+    }
+
+    public static class MatchStarted extends MatchEvent {
+        public MatchStarted(Tournament tournament, TournamentMatch match) {
+            super(tournament, match);
+        }
+    }
+
+    public static class MatchCompleted extends MatchEvent {
+        public MatchCompleted(Tournament tournament, TournamentMatch match) {
+            super(tournament, match);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.blissy.tournaments.gui;
+
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A player's progress through the tournament creation screens: the values set so far and the
+ * one field, if any, they are about to type in chat.
+ * Sessions live in memory only, so they are never written to player.dat and end when the
+ * player logs out. A chat prompt that goes unanswered expires after a few minutes.
+ */
+@Mod.EventBusSubscriber(bus = Mod.EventBusSubscriber.Bus.FORGE, modid = "tournaments")
+public class CreationSession {
+    // How long a chat prompt waits for an answer
+    private static final long INPUT_TIMEOUT_MS = 5 * 60 * 1000L;
+
+    // Persistent data keys older versions kept the creation state in
+    private static final String[] LEGACY_KEYS = {
+            "TournamentSettings", "RecurringSettings",
+            "WaitingForTournamentName", "WaitingForMinLevel", "WaitingForMaxLevel",
+            "WaitingForMaxParticipants", "WaitingForFormat", "WaitingForEntryFee", "WaitingForStartDelay",
+            "WaitingForRecurringId", "WaitingForRecurringTemplateName", "WaitingForRecurringMinLevel",
+            "WaitingForRecurringMaxLevel", "WaitingForRecurringMaxParticipants", "WaitingForRecurringFormat",
+            "WaitingForRecurringEntryFee", "WaitingForRecurringInterval"
+    };
+
+    // Chat events may arrive off the server thread
+    private static final Map<UUID, CreationSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * A value the player can be asked to type in chat
+     */
+    public enum Input {
+        NAME("name", false, "Tournament creation cancelled"),
+        MIN_LEVEL("minLevel", false, "Min level setting cancelled"),
+        MAX_LEVEL("maxLevel", false, "Max level setting cancelled"),
+        MAX_PARTICIPANTS("maxParticipants", false, "Tournament size setting cancelled"),
+        FORMAT("format", false, "Format setting cancelled"),
+        ENTRY_FEE("entryFee", false, "Entry fee setting cancelled"),
+        START_DELAY("startDelay", false, "Start delay setting cancelled"),
+        RECURRING_ID("recurringId", true, "Recurring tournament ID setting cancelled"),
+        RECURRING_TEMPLATE_NAME("templateName", true, "Template name setting cancelled"),
+        RECURRING_MIN_LEVEL("minLevel", true, "Min level setting cancelled"),
+        RECURRING_MAX_LEVEL("maxLevel", true, "Max level setting cancelled"),
+        RECURRING_MAX_PARTICIPANTS("maxParticipants", true, "Tournament size setting cancelled"),
+        RECURRING_FORMAT("format", true, "Format setting cancelled"),
+        RECURRING_ENTRY_FEE("entryFee", true, "Entry fee setting cancelled"),
+        RECURRING_INTERVAL("recurrenceInterval", true, "Recurrence interval setting cancelled");
+
+        private final String settingKey;
+        private final boolean recurring;
+        private final String cancelMessage;
+
+        Input(String settingKey, boolean recurring, String cancelMessage) {
+            this.settingKey = settingKey;
+            this.recurring = recurring;
+            this.cancelMessage = cancelMessage;
+        }
+
+        /**
+         * @return Key of the creation setting the typed value is stored under
+         */
+        public String getSettingKey() {
+            return settingKey;
+        }
+
+        /**
+         * @return True if this belongs to the recurring tournament creation screen
+         */
+        public boolean isRecurring() {
+            return recurring;
+        }
+
+        public String getCancelMessage() {
+            return cancelMessage;
+        }
+    }
+
+    private final Map<String, String> settings = new HashMap<>();
+    private final Map<String, String> recurringSettings = new HashMap<>();
+    private Input pendingInput;
+    private long inputExpiresAt;
+
+    /**
+     * Get a player's session, starting one if needed
+     */
+    public static CreationSession get(ServerPlayerEntity player) {
+        return sessions.computeIfAbsent(player.getUUID(), id -> new CreationSession());
+    }
+
+    /**
+     * Take the value a player was asked to type, so the next chat line is treated as the answer
+     * @return The pending input, or null if the player wasn't asked for anything or took too long
+     */
+    @Nullable
+    public static Input takePendingInput(ServerPlayerEntity player) {
+        CreationSession session = sessions.get(player.getUUID());
+        if (session == null || session.pendingInput == null) {
+            return null;
+        }
+
+        Input input = session.pendingInput;
+        session.pendingInput = null;
+        return System.currentTimeMillis() <= session.inputExpiresAt ? input : null;
+    }
+
+    /**
+     * Treat the player's next chat line as the value for an input
+     */
+    public void awaitInput(Input input) {
+        pendingInput = input;
+        inputExpiresAt = System.currentTimeMillis() + INPUT_TIMEOUT_MS;
+    }
+
+    public void setSetting(String key, String value) {
+        settings.put(key, value);
+    }
+
+    @Nullable
+    public String getSetting(String key) {
+        return settings.get(key);
+    }
+
+    public void setRecurringSetting(String key, String value) {
+        recurringSettings.put(key, value);
+    }
+
+    @Nullable
+    public String getRecurringSetting(String key) {
+        return recurringSettings.get(key);
+    }
+
+    /**
+     * Look up a setting without starting a session
+     */
+    @Nullable
+    static String peekSetting(ServerPlayerEntity player, String key, boolean recurring) {
+        CreationSession session = sessions.get(player.getUUID());
+        if (session == null) {
+            return null;
+        }
+        return recurring ? session.getRecurringSetting(key) : session.getSetting(key);
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
+        // Drop creation state left in player.dat by older versions
+        CompoundNBT playerData = event.getPlayer().getPersistentData();
+        for (String key : LEGACY_KEYS) {
+            playerData.remove(key);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        sessions.remove(event.getPlayer().getUUID());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.blissy.tournaments.gui;
+
+import com.blissy.tournaments.Tournaments;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.util.text.TextFormatting;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Table of GUI click actions, keyed by the GuiAction tag of the clicked item.
+ * GUI classes register their handlers once at setup; a click is then one map lookup
+ * instead of a walk down a chain of string comparisons.
+ */
+public class GuiActions {
+    private static final Map<String, Handler> handlers = new HashMap<>();
+
+    // Players whose click is being handled, so a handler that triggers another click
+    // doesn't recurse, while other players' clicks go through
+    private static final Set<UUID> processing = new HashSet<>();
+
+    /**
+     * Handles one kind of GUI action
+     */
+    public interface Handler {
+        void handle(GuiClick click);
+    }
+
+    /**
+     * Register an action that closes the open screen before it runs
+     */
+    public static void register(String action, Handler handler) {
+        registerInPlace(action, click -> {
+            click.getPlayer().closeContainer();
+            handler.handle(click);
+        });
+    }
+
+    /**
+     * Register an action that leaves the open screen alone, to update it in place
+     * or close it itself
+     */
+    public static void registerInPlace(String action, Handler handler) {
+        handlers.put(action.intern(), handler);
+    }
+
+    /**
+     * Run the handler for a click
+     */
+    public static void dispatch(GuiClick click) {
+        ServerPlayerEntity player = click.getPlayer();
+        UUID playerId = player.getUUID();
+
+        // Prevent recursion
+        if (!processing.add(playerId)) {
+            Tournaments.LOGGER.warn("Preventing recursive GUI action processing for {}", player.getName().getString());
+            return;
+        }
+
+        try {
+            Tournaments.LOGGER.debug("Processing GUI action: {} for tournament: {}",
+                    click.getAction(), click.getTournamentName() != null ? click.getTournamentName() : "none");
+
+            Handler handler = handlers.get(click.getAction());
+            if (handler != null) {
+                handler.handle(click);
+            } else {
+                // Unknown action, just reopen main GUI
+                player.closeContainer();
+                player.sendMessage(
+                        new StringTextComponent("Unknown action: " + click.getAction())
+                                .withStyle(TextFormatting.RED),
+                        playerId);
+                TournamentMainGUI.openMainGui(player);
+            }
+        } catch (Exception e) {
+            Tournaments.LOGGER.error("Error handling GUI action {} for {}",
+                    click.getAction(), player.getName().getString(), e);
+        } finally {
+            // Always reset the processing flag to prevent deadlocks
+            processing.remove(playerId);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.blissy.tournaments.gui;
+
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.inventory.container.ClickType;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+
+import javax.annotation.Nullable;
+
+/**
+ * A click on a tournament GUI item, decoded from the item's NBT once and handed to
+ * every handler that looks at it
+ */
+public class GuiClick {
+    private static final int RIGHT_BUTTON = 1;
+
+    private final ServerPlayerEntity player;
+    private final String action;
+    private final String tournamentName;
+    private final String recurringId;
+    private final ClickType clickType;
+    private final int button;
+    private final CompoundNBT tag;
+
+    private GuiClick(ServerPlayerEntity player, String action, @Nullable String tournamentName,
+                     @Nullable String recurringId, @Nullable ClickType clickType, int button, CompoundNBT tag) {
+        this.player = player;
+        // Interned so the action table lookup usually matches on identity
+        this.action = action.intern();
+        this.tournamentName = tournamentName;
+        this.recurringId = recurringId;
+        this.clickType = clickType;
+        this.button = button;
+        this.tag = tag;
+    }
+
+    /**
+     * Decode a click on an item
+     * @param clickType How the slot was clicked, or null if unknown
+     * @param button Mouse button, 0 for left and 1 for right
+     * @return The click, or null if the item has no GuiAction
+     */
+    @Nullable
+    public static GuiClick fromItem(ServerPlayerEntity player, ItemStack stack, @Nullable ClickType clickType,
+                                    int button) {
+        CompoundNBT tag = stack.getTag();
+        if (tag == null || !tag.contains("GuiAction")) {
+            return null;
+        }
+
+        return new GuiClick(player, tag.getString("GuiAction"),
+                tag.contains("TournamentName") ? tag.getString("TournamentName") : null,
+                tag.contains("RecurringTournamentId") ? tag.getString("RecurringTournamentId") : null,
+                clickType, button, tag.copy());
+    }
+
+    /**
+     * Build a click for an action that didn't come from an item
+     */
+    public static GuiClick of(ServerPlayerEntity player, String action, @Nullable String tournamentName,
+                              @Nullable String recurringId, @Nullable ClickType clickType) {
+        return new GuiClick(player, action, tournamentName, recurringId, clickType, 0, new CompoundNBT());
+    }
+
+    public ServerPlayerEntity getPlayer() {
+        return player;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    @Nullable
+    public String getTournamentName() {
+        return tournamentName;
+    }
+
+    @Nullable
+    public String getRecurringId() {
+        return recurringId;
+    }
+
+    @Nullable
+    public ClickType getClickType() {
+        return clickType;
+    }
+
+    /**
+     * @return True for a plain right click on the item
+     */
+    public boolean isRightClick() {
+        return clickType == ClickType.PICKUP && button == RIGHT_BUTTON;
+    }
+
+    /**
+     * Get the clicked item's tag, for actions that carry more than the common fields
+     */
+    public CompoundNBT getTag() {
+        return tag;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.blissy.tournaments.gui;
+
+import com.blissy.tournaments.Tournaments;
+import com.blissy.tournaments.events.TournamentEvent;
+import com.blissy.tournaments.scheduler.ScheduledTask;
+import com.blissy.tournaments.scheduler.TournamentScheduler;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps open tournament screens up to date while players look at them.
+ * Tournament and match events mark the screens watching that tournament as dirty. Once per
+ * tick every dirty screen is rebuilt into a scratch inventory and only the slots that differ
+ * are copied over, so the container sends just those slots instead of reopening the window.
+ */
+@Mod.EventBusSubscriber(bus = Mod.EventBusSubscriber.Bus.FORGE, modid = "tournaments")
+public class LiveGuiUpdater {
+    // Open live screens and who is viewing each
+    private static final Map<ContainerFactory.ClickInterceptingContainer, ServerPlayerEntity> viewers =
+            new IdentityHashMap<>();
+
+    // Screens to rebuild on the next tick; a set, so a burst of events causes one rebuild
+    private static final Set<ContainerFactory.ClickInterceptingContainer> dirty =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private static ScheduledTask pendingFlush;
+
+    static void register(ContainerFactory.ClickInterceptingContainer container, ServerPlayerEntity player) {
+        viewers.put(container, player);
+    }
+
+    static void unregister(ContainerFactory.ClickInterceptingContainer container) {
+        viewers.remove(container);
+        dirty.remove(container);
+    }
+
+    @SubscribeEvent
+    public static void onTournamentEvent(TournamentEvent event) {
+        String tournamentName = event.getTournament() != null ? event.getTournament().getName() : null;
+
+        for (ContainerFactory.ClickInterceptingContainer container : viewers.keySet()) {
+            if (container.watches(tournamentName)) {
+                markDirty(container);
+            }
+        }
+    }
+
+    /**
+     * @return True if the player is looking at a live tournament screen
+     */
+    public static boolean isViewingLive(ServerPlayerEntity player) {
+        return player.containerMenu instanceof ContainerFactory.ClickInterceptingContainer &&
+                viewers.containsKey(player.containerMenu);
+    }
+
+    /**
+     * Rebuild the live screen a player has open on the next tick
+     * @return False if the player has no live screen open
+     */
+    public static boolean refresh(ServerPlayerEntity player) {
+        if (!isViewingLive(player)) {
+            return false;
+        }
+        markDirty((ContainerFactory.ClickInterceptingContainer) player.containerMenu);
+        return true;
+    }
+
+    /**
+     * Rebuild the live screen a player has open from a different setup callback on the next tick,
+     * e.g. to show another page of the same list
+     * @return False if the player has no live screen open
+     */
+    public static boolean refresh(ServerPlayerEntity player, ContainerFactory.ContainerSetupCallback setupCallback) {
+        if (!isViewingLive(player)) {
+            return false;
+        }
+        ContainerFactory.ClickInterceptingContainer container =
+                (ContainerFactory.ClickInterceptingContainer) player.containerMenu;
+        container.setSetupCallback(setupCallback);
+        markDirty(container);
+        return true;
+    }
+
+    private static void markDirty(ContainerFactory.ClickInterceptingContainer container) {
+        dirty.add(container);
+        if (pendingFlush == null || pendingFlush.isDone()) {
+            pendingFlush = TournamentScheduler.schedule("gui-refresh", 0, LiveGuiUpdater::flush);
+        }
+    }
+
+    private static void flush() {
+        pendingFlush = null;
+        List<ContainerFactory.ClickInterceptingContainer> containers = new ArrayList<>(dirty);
+        dirty.clear();
+
+        for (ContainerFactory.ClickInterceptingContainer container : containers) {
+            ServerPlayerEntity player = viewers.get(container);
+            if (player == null || player.containerMenu != container) {
+                // Closed without us hearing about it
+                viewers.remove(container);
+                continue;
+            }
+
+            try {
+                rebuild(container, player);
+            } catch (Exception e) {
+                Tournaments.LOGGER.error("Error refreshing tournament GUI for {}", player.getName().getString(), e);
+            }
+        }
+    }
+
+    /**
+     * Build the screen again and copy over only the slots that changed
+     */
+    private static void rebuild(ContainerFactory.ClickInterceptingContainer container, ServerPlayerEntity player) {
+        IInventory inventory = container.getInventory();
+        Inventory fresh = new Inventory(inventory.getContainerSize());
+        container.getSetupCallback().setupContainer(fresh, player);
+
+        boolean changed = false;
+        for (int slot = 0; slot < inventory.getContainerSize(); slot++) {
+            ItemStack stack = fresh.getItem(slot);
+            if (!ItemStack.matches(inventory.getItem(slot), stack)) {
+                inventory.setItem(slot, stack);
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            // Sends a slot packet for each slot that differs from what the client has
+            container.broadcastChanges();
+        }
+    }
+}
\ No newline at end of file
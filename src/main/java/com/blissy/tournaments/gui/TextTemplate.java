@@ -0,0 +1,81 @@
+package com.blissy.tournaments.gui;
+
+import com.google.gson.JsonPrimitive;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.nbt.StringNBT;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.util.text.TextFormatting;
+
+import java.util.regex.Pattern;
+
+/**
+ * A styled line of GUI text serialized to JSON once.
+ * Each {} in the pattern is a placeholder; filling it in splices the escaped value into
+ * the cached JSON, so item names and lore don't go through the text serializer every time
+ * a screen is opened.
+ */
+public class TextTemplate {
+    // Stands in for placeholders while serializing; the serializer escapes it to \u0000
+    private static final String MARKER = "\u0000";
+    private static final Pattern ESCAPED_MARKER = Pattern.compile(Pattern.quote("\\u0000"));
+
+    private final String[] parts;
+
+    // Cached tag for templates without placeholders
+    private final StringNBT fixed;
+
+    private TextTemplate(String pattern, TextFormatting... styles) {
+        ITextComponent component = new StringTextComponent(pattern.replace("{}", MARKER)).withStyle(styles);
+        this.parts = ESCAPED_MARKER.split(ITextComponent.Serializer.toJson(component), -1);
+        this.fixed = parts.length == 1 ? StringNBT.valueOf(parts[0]) : null;
+    }
+
+    public static TextTemplate of(String pattern, TextFormatting... styles) {
+        return new TextTemplate(pattern, styles);
+    }
+
+    /**
+     * Fill in the placeholders, in order
+     * @return The text component as JSON
+     */
+    public String toJson(Object... args) {
+        if (fixed != null) {
+            return parts[0];
+        }
+
+        StringBuilder json = new StringBuilder(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            json.append(escape(i - 1 < args.length ? args[i - 1] : ""));
+            json.append(parts[i]);
+        }
+        return json.toString();
+    }
+
+    /**
+     * Fill in the placeholders as a lore line
+     */
+    public StringNBT format(Object... args) {
+        return fixed != null ? fixed : StringNBT.valueOf(toJson(args));
+    }
+
+    /**
+     * Fill in the placeholders and append the line to some lore
+     */
+    public void addTo(ListNBT lore, Object... args) {
+        lore.add(format(args));
+    }
+
+    /**
+     * Fill in the placeholders and use the text as an item's display name
+     */
+    public void setName(ItemStack stack, Object... args) {
+        stack.getOrCreateTagElement("display").putString("Name", toJson(args));
+    }
+
+    private static String escape(Object value) {
+        String quoted = new JsonPrimitive(String.valueOf(value)).toString();
+        return quoted.substring(1, quoted.length() - 1);
+    }
+}
\ No newline at end of file
@@ -1,97 +1,194 @@
-package com.blissy.tournaments.handlers;
-
-import com.blissy.tournaments.Tournaments;
-import com.blissy.tournaments.data.RecurringTournament;
-import net.minecraft.entity.player.ServerPlayerEntity;
-import net.minecraftforge.event.TickEvent;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
-import net.minecraftforge.fml.common.Mod;
-import net.minecraftforge.fml.server.ServerLifecycleHooks;
-
-/**
- * Handler for checking and creating recurring tournaments
- */
-@Mod.EventBusSubscriber(bus = Mod.EventBusSubscriber.Bus.FORGE, modid = "tournaments")
-public class RecurringTournamentHandler {
-
-    private static final int CHECK_INTERVAL = 1200; // Check every minute (20 ticks * 60s)
-    private static int tickCounter = 0;
-
-    /**
-     * Check for recurring tournaments every minute
-     */
-    @SubscribeEvent
-    public static void onServerTick(TickEvent.ServerTickEvent event) {
-        if (event.phase != TickEvent.Phase.END) return;
-
-        tickCounter++;
-        if (tickCounter < CHECK_INTERVAL) return;
-        tickCounter = 0;
-
-        // Don't run if no players are online
-        if (ServerLifecycleHooks.getCurrentServer() == null ||
-                ServerLifecycleHooks.getCurrentServer().getPlayerList().getPlayerCount() == 0) {
-            return;
-        }
-
-        try {
-            Tournaments.LOGGER.debug("Checking recurring tournaments...");
-            RecurringTournament.checkAllRecurringTournaments();
-        } catch (Exception e) {
-            Tournaments.LOGGER.error("Error during recurring tournament check: {}", e.getMessage(), e);
-        }
-    }
-
-    /**
-     * Check if a player has permission to create recurring tournaments
-     */
-    public static boolean canCreateRecurringTournament(ServerPlayerEntity player) {
-        // Permission level 2 or higher can create recurring tournaments
-        return player != null && player.hasPermissions(2);
-    }
-
-    /**
-     * Check if a player has permission to create normal tournaments
-     * Added checks for player.getPersistentData() to avoid NullPointerExceptions
-     */
-    public static boolean canCreatePlayerTournament(ServerPlayerEntity player) {
-        // Players with "tournaments.create" permission can create tournaments
-        // This is a simpler check than the full permission system
-        if (player == null) {
-            return false;
-        }
-
-        if (player.hasPermissions(2)) {
-            return true;
-        }
-
-        if (player.getPersistentData() != null &&
-                player.getPersistentData().contains("tournaments.create")) {
-            return player.getPersistentData().getBoolean("tournaments.create");
-        }
-
-        return false;
-    }
-
-    /**
-     * Set player tournament creation permission
-     */
-    public static void setPlayerTournamentPermission(ServerPlayerEntity player, boolean canCreate) {
-        if (player != null && player.getPersistentData() != null) {
-            player.getPersistentData().putBoolean("tournaments.create", canCreate);
-
-            // Notify player of permission change
-            player.sendMessage(
-                    new net.minecraft.util.text.StringTextComponent(
-                            canCreate ? "You now have permission to create tournaments" : "Your tournament creation permission has been revoked")
-                            .withStyle(canCreate ?
-                                    net.minecraft.util.text.TextFormatting.GREEN :
-                                    net.minecraft.util.text.TextFormatting.RED),
-                    player.getUUID()
-            );
-
-            Tournaments.LOGGER.info("Tournament creation permission for {} set to {}",
-                    player.getName().getString(), canCreate);
-        }
-    }
+package com.blissy.tournaments.handlers;
+
+import com.blissy.tournaments.Tournaments;
+import com.blissy.tournaments.data.RecurringTournament;
+import com.blissy.tournaments.scheduler.TournamentScheduler;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Handler for checking and creating recurring tournaments.
+ * Templates wait in a queue ordered by their next run, so a check looks at the head only
+ * and touches just the templates that are due. A template's old entry is recognised as
+ * stale when it is rescheduled or removed, the same way as in ScheduledStartQueue.
+ */
+public class RecurringTournamentHandler {
+
+    private static final int CHECK_INTERVAL = 20; // Check every second; runs are scheduled to the minute
+
+    private static final long RETRY_DELAY_MS = 60_000L;
+
+    private static final PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+    // Current entry of each template; entries from an older one are stale
+    private static final Map<RecurringTournament, Long> generations = new IdentityHashMap<>();
+    private static long nextGeneration = 0;
+
+    /**
+     * Register the recurring tournament check with the scheduler
+     */
+    public static void registerJobs() {
+        TournamentScheduler.scheduleRepeating("recurring-tournaments", CHECK_INTERVAL,
+                RecurringTournamentHandler::checkRecurringTournaments);
+    }
+
+    /**
+     * Queue a template for its next scheduled run, replacing any earlier entry
+     */
+    public static synchronized void schedule(RecurringTournament tournament) {
+        long generation = nextGeneration++;
+        generations.put(tournament, generation);
+        queue.add(new Entry(tournament.getNextScheduled().toEpochMilli(), tournament, generation));
+    }
+
+    /**
+     * Stop running a template, e.g. when it is deleted
+     */
+    public static synchronized void cancel(RecurringTournament tournament) {
+        generations.remove(tournament);
+    }
+
+    /**
+     * Replace the queue with a freshly loaded set of templates
+     */
+    public static synchronized void scheduleAll(Collection<RecurringTournament> tournaments) {
+        queue.clear();
+        generations.clear();
+        for (RecurringTournament tournament : tournaments) {
+            schedule(tournament);
+        }
+    }
+
+    /**
+     * Check the head of the queue
+     */
+    private static void checkRecurringTournaments() {
+        // Nothing due; the usual case
+        synchronized (RecurringTournamentHandler.class) {
+            if (queue.isEmpty() || queue.peek().deadline > System.currentTimeMillis()) {
+                return;
+            }
+        }
+
+        // Don't run if no players are online; due templates wait and catch up when someone joins
+        if (ServerLifecycleHooks.getCurrentServer() == null ||
+                ServerLifecycleHooks.getCurrentServer().getPlayerList().getPlayerCount() == 0) {
+            return;
+        }
+
+        Tournaments.LOGGER.debug("Running due recurring tournaments...");
+        runDue();
+    }
+
+    /**
+     * Create instances of every template whose run is due
+     */
+    public static void runDue() {
+        long now = System.currentTimeMillis();
+        while (true) {
+            Entry entry;
+            synchronized (RecurringTournamentHandler.class) {
+                if (queue.isEmpty() || queue.peek().deadline > now) {
+                    return;
+                }
+                entry = queue.poll();
+                Long generation = generations.get(entry.tournament);
+                if (generation == null || generation != entry.generation) {
+                    continue;
+                }
+            }
+
+            RecurringTournament tournament = entry.tournament;
+            try {
+                // Requeues the template for its following run
+                tournament.checkAndCreateTournament();
+            } catch (Exception e) {
+                Tournaments.LOGGER.error("Error checking recurring tournament {}: {}",
+                        tournament.getName(), e.getMessage(), e);
+
+                // Try again later rather than dropping it from the queue
+                synchronized (RecurringTournamentHandler.class) {
+                    Long generation = generations.get(tournament);
+                    if (generation != null && generation == entry.generation) {
+                        queue.add(new Entry(now + RETRY_DELAY_MS, tournament, entry.generation));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if a player has permission to create recurring tournaments
+     */
+    public static boolean canCreateRecurringTournament(ServerPlayerEntity player) {
+        // Permission level 2 or higher can create recurring tournaments
+        return player != null && player.hasPermissions(2);
+    }
+
+    /**
+     * Check if a player has permission to create normal tournaments
+     * Added checks for player.getPersistentData() to avoid NullPointerExceptions
+     */
+    public static boolean canCreatePlayerTournament(ServerPlayerEntity player) {
+        // Players with "tournaments.create" permission can create tournaments
+        // This is a simpler check than the full permission system
+        if (player == null) {
+            return false;
+        }
+
+        if (player.hasPermissions(2)) {
+            return true;
+        }
+
+        if (player.getPersistentData() != null &&
+                player.getPersistentData().contains("tournaments.create")) {
+            return player.getPersistentData().getBoolean("tournaments.create");
+        }
+
+        return false;
+    }
+
+    /**
+     * Set player tournament creation permission
+     */
+    public static void setPlayerTournamentPermission(ServerPlayerEntity player, boolean canCreate) {
+        if (player != null && player.getPersistentData() != null) {
+            player.getPersistentData().putBoolean("tournaments.create", canCreate);
+
+            // Notify player of permission change
+            player.sendMessage(
+                    new net.minecraft.util.text.StringTextComponent(
+                            canCreate ? "You now have permission to create tournaments" : "Your tournament creation permission has been revoked")
+                            .withStyle(canCreate ?
+                                    net.minecraft.util.text.TextFormatting.GREEN :
+                                    net.minecraft.util.text.TextFormatting.RED),
+                    player.getUUID()
+            );
+
+            Tournaments.LOGGER.info("Tournament creation permission for {} set to {}",
+                    player.getName().getString(), canCreate);
+        }
+    }
+
+    private static class Entry implements Comparable<Entry> {
+        final long deadline;
+        final RecurringTournament tournament;
+        final long generation;
+
+        Entry(long deadline, RecurringTournament tournament, long generation) {
+            this.deadline = deadline;
+            this.tournament = tournament;
+            this.generation = generation;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(deadline, other.deadline);
+        }
+    }
 }
\ No newline at end of file
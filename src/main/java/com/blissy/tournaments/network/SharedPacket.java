@@ -0,0 +1,90 @@
+package com.blissy.tournaments.network;
+
+import com.blissy.tournaments.Tournaments;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.IPacket;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.PacketDirection;
+import net.minecraft.network.ProtocolType;
+import net.minecraftforge.common.util.FakePlayer;
+
+/**
+ * A clientbound packet encoded once and sent to any number of players.
+ * The packet id and body are written to a byte array up front. Each recipient's channel
+ * gets a wrapper around the same bytes, which skips the packet encoder and only goes
+ * through that connection's compression, framing and encryption.
+ */
+public class SharedPacket {
+    private final IPacket<?> packet;
+
+    // Packet id and body as sent over the wire, or null if it couldn't be encoded
+    private final byte[] encoded;
+
+    private SharedPacket(IPacket<?> packet) {
+        this.packet = packet;
+        this.encoded = encode(packet);
+    }
+
+    /**
+     * Encode a play packet for sending to many players
+     */
+    public static SharedPacket of(IPacket<?> packet) {
+        return new SharedPacket(packet);
+    }
+
+    private static byte[] encode(IPacket<?> packet) {
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        try {
+            Integer id = ProtocolType.PLAY.getPacketId(PacketDirection.CLIENTBOUND, packet);
+            if (id == null) {
+                return null;
+            }
+            buffer.writeVarInt(id);
+            packet.write(buffer);
+
+            byte[] bytes = new byte[buffer.readableBytes()];
+            buffer.readBytes(bytes);
+            return bytes;
+        } catch (Exception e) {
+            Tournaments.LOGGER.warn("Could not pre-encode {}, it will be encoded per player",
+                    packet.getClass().getSimpleName(), e);
+            return null;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Send the packet to one player
+     */
+    public void sendTo(ServerPlayerEntity player) {
+        if (player == null || player.connection == null || player instanceof FakePlayer) {
+            return;
+        }
+
+        NetworkManager connection = player.connection.getConnection();
+        if (encoded == null || connection.isMemoryConnection()) {
+            // Singleplayer connections hand packet objects over without encoding them
+            player.connection.send(packet);
+            return;
+        }
+
+        if (connection.isConnected()) {
+            // Queued on the channel's event loop behind packets sent the normal way
+            ByteBuf bytes = Unpooled.wrappedBuffer(encoded);
+            connection.channel().writeAndFlush(bytes);
+        }
+    }
+
+    /**
+     * Send the packet to every player in an audience
+     */
+    public void sendTo(Iterable<ServerPlayerEntity> audience) {
+        for (ServerPlayerEntity player : audience) {
+            sendTo(player);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,222 @@
+package com.blissy.tournaments.scheduler;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * A calendar schedule in server local time. Accepts a short form of days and times,
+ * e.g. "Fri 20:00", "Mon-Fri 18:30", "Sat,Sun 14:00,20:00" or "daily 21:00", or the
+ * five fields of a cron expression: minute, hour, day of month, month, day of week.
+ */
+public final class CronSchedule {
+    private static final String[] DAY_NAMES = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    // How far ahead to look for the next run before deciding there is none
+    private static final int MAX_DAYS_AHEAD = 5 * 366;
+
+    private final String expression;
+    private final BitSet minutesOfDay = new BitSet(24 * 60);
+    private final BitSet daysOfMonth = new BitSet(32);  // 1-31
+    private final BitSet months = new BitSet(13);       // 1-12
+    private final BitSet daysOfWeek = new BitSet(8);    // 1-7, Monday first
+    private boolean anyDayOfMonth = true;
+    private boolean anyDayOfWeek = true;
+
+    private CronSchedule(String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * @throws IllegalArgumentException If the expression can't be parsed or never fires
+     */
+    public static CronSchedule parse(String expression) {
+        String trimmed = expression.trim();
+        String[] fields = trimmed.split("\\s+");
+        CronSchedule schedule = new CronSchedule(trimmed);
+        if (fields.length == 5) {
+            schedule.parseCron(fields);
+        } else if (fields.length == 1 || fields.length == 2) {
+            schedule.parseShort(fields);
+        } else {
+            throw new IllegalArgumentException("Expected e.g. \"Fri 20:00\" or five cron fields");
+        }
+
+        if (schedule.next(Instant.now(), ZoneId.systemDefault()) == null) {
+            throw new IllegalArgumentException("Schedule never fires");
+        }
+        return schedule;
+    }
+
+    /**
+     * @return The schedule, or null if the expression isn't a valid schedule
+     */
+    public static CronSchedule tryParse(String expression) {
+        if (expression == null) {
+            return null;
+        }
+        try {
+            return parse(expression);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return The first run strictly after a time, or null if there is none within five years
+     */
+    public Instant next(Instant after, ZoneId zone) {
+        ZonedDateTime start = after.atZone(zone).truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        LocalDate date = start.toLocalDate();
+        int minute = start.getHour() * 60 + start.getMinute();
+
+        for (int day = 0; day < MAX_DAYS_AHEAD; day++) {
+            if (matchesDay(date)) {
+                for (int m = minutesOfDay.nextSetBit(minute); m >= 0; m = minutesOfDay.nextSetBit(m + 1)) {
+                    // Times skipped or repeated by a daylight saving change resolve to a real instant
+                    Instant candidate = date.atTime(m / 60, m % 60).atZone(zone).toInstant();
+                    if (candidate.isAfter(after)) {
+                        return candidate;
+                    }
+                }
+            }
+            date = date.plusDays(1);
+            minute = 0;
+        }
+        return null;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private boolean matchesDay(LocalDate date) {
+        if (!months.get(date.getMonthValue())) {
+            return false;
+        }
+
+        boolean dayOfMonth = daysOfMonth.get(date.getDayOfMonth());
+        boolean dayOfWeek = daysOfWeek.get(date.getDayOfWeek().getValue());
+
+        // As in cron, when both day fields are restricted either one matching is enough
+        if (!anyDayOfMonth && !anyDayOfWeek) {
+            return dayOfMonth || dayOfWeek;
+        }
+        return dayOfMonth && dayOfWeek;
+    }
+
+    private void parseCron(String[] fields) {
+        BitSet minutes = parseField(fields[0], 0, 59, false);
+        BitSet hours = parseField(fields[1], 0, 23, false);
+        for (int h = hours.nextSetBit(0); h >= 0; h = hours.nextSetBit(h + 1)) {
+            for (int m = minutes.nextSetBit(0); m >= 0; m = minutes.nextSetBit(m + 1)) {
+                minutesOfDay.set(h * 60 + m);
+            }
+        }
+
+        daysOfMonth.or(parseField(fields[2], 1, 31, false));
+        anyDayOfMonth = fields[2].equals("*");
+        months.or(parseField(fields[3], 1, 12, false));
+        daysOfWeek.or(parseField(fields[4], 0, 7, true));
+        anyDayOfWeek = fields[4].equals("*");
+    }
+
+    private void parseShort(String[] fields) {
+        daysOfMonth.set(1, 32);
+        months.set(1, 13);
+
+        String times = fields[fields.length - 1];
+        String days = fields.length == 2 ? fields[0] : "*";
+        if (days.equalsIgnoreCase("daily")) {
+            days = "*";
+        }
+        daysOfWeek.or(parseField(days, 0, 7, true));
+        anyDayOfWeek = days.equals("*");
+
+        for (String time : times.split(",")) {
+            String[] parts = time.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Bad time: " + time);
+            }
+            int hour = parseNumber(parts[0], 0, 23);
+            int minute = parseNumber(parts[1], 0, 59);
+            minutesOfDay.set(hour * 60 + minute);
+        }
+    }
+
+    /**
+     * Parse one cron field: *, a value, a range, a list of those, each with an optional /step
+     * @param dayOfWeek True to accept day names and fold 0 (Sunday in cron) onto 7
+     */
+    private static BitSet parseField(String field, int min, int max, boolean dayOfWeek) {
+        BitSet values = new BitSet(max + 1);
+        for (String part : field.split(",")) {
+            int step = 1;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = parseNumber(part.substring(slash + 1), 1, max);
+                part = part.substring(0, slash);
+            }
+
+            int from;
+            int to;
+            if (part.equals("*")) {
+                from = dayOfWeek ? 1 : min;
+                to = max;
+            } else {
+                int dash = part.indexOf('-');
+                if (dash > 0) {
+                    from = parseValue(part.substring(0, dash), min, max, dayOfWeek);
+                    to = parseValue(part.substring(dash + 1), min, max, dayOfWeek);
+                } else {
+                    from = parseValue(part, min, max, dayOfWeek);
+                    to = slash >= 0 ? max : from;
+                }
+            }
+            if (from > to) {
+                throw new IllegalArgumentException("Bad range: " + part);
+            }
+
+            for (int value = from; value <= to; value += step) {
+                values.set(dayOfWeek && value == 0 ? 7 : value);
+            }
+        }
+        return values;
+    }
+
+    private static int parseValue(String value, int min, int max, boolean dayOfWeek) {
+        if (dayOfWeek && value.length() >= 3 && Character.isLetter(value.charAt(0))) {
+            String prefix = value.substring(0, 3).toUpperCase(Locale.ROOT);
+            for (int i = 0; i < DAY_NAMES.length; i++) {
+                if (DAY_NAMES[i].equals(prefix)) {
+                    return DayOfWeek.of(i + 1).getValue();
+                }
+            }
+            throw new IllegalArgumentException("Unknown day: " + value);
+        }
+        return parseNumber(value, min, max);
+    }
+
+    private static int parseNumber(String value, int min, int max) {
+        int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: " + value);
+        }
+        if (number < min || number > max) {
+            throw new IllegalArgumentException(value + " is outside " + min + "-" + max);
+        }
+        return number;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.blissy.tournaments.scheduler;
+
+/**
+ * Timing counters for every task run under one name
+ */
+public class JobStats {
+    private final String name;
+    private long runs;
+    private long totalNanos;
+    private long maxNanos;
+    private long lastNanos;
+    private long skipped;
+    private long failures;
+
+    JobStats(String name) {
+        this.name = name;
+    }
+
+    void recordRun(long nanos, boolean failed) {
+        runs++;
+        totalNanos += nanos;
+        lastNanos = nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+        if (failed) {
+            failures++;
+        }
+    }
+
+    void recordSkip() {
+        skipped++;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRuns() {
+        return runs;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getLastNanos() {
+        return lastNanos;
+    }
+
+    public double getAverageMillis() {
+        return runs == 0 ? 0 : totalNanos / (double) runs / 1_000_000.0;
+    }
+
+    /**
+     * @return Times a periodic run was dropped because the previous one hadn't run yet
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d runs, avg %.2fms, max %.2fms, %d skipped, %d failed",
+                name, runs, getAverageMillis(), maxNanos / 1_000_000.0, skipped, failures);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.blissy.tournaments.scheduler;
+
+/**
+ * Handle for a task in the {@link TournamentScheduler}
+ */
+public class ScheduledTask {
+    final String name;
+    final Runnable action;
+    final int period;
+
+    // Server tick this task next fires on
+    long deadline;
+
+    // True while waiting in the run queue, so a slow periodic job isn't queued twice
+    boolean queued;
+
+    private boolean cancelled;
+    private boolean finished;
+
+    ScheduledTask(String name, Runnable action, int period, long deadline) {
+        this.name = name;
+        this.action = action;
+        this.period = period;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Stop the task from running again. Safe to call more than once.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return True once the task will never run again
+     */
+    public boolean isDone() {
+        return cancelled || finished;
+    }
+
+    void markFinished() {
+        finished = true;
+    }
+
+    public boolean isRepeating() {
+        return period > 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The server tick this task will next run on
+     */
+    public long getDeadline() {
+        return deadline;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.blissy.tournaments.scheduler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel keyed by server tick.
+ * Level 0 has one slot per tick for the next 64 ticks, level 1 one slot per 64 ticks,
+ * and so on. Tasks further out than the last level wait in an overflow list.
+ * When a higher-level slot comes up its tasks are moved down to finer levels, so adding
+ * a task and advancing a tick are both O(1) no matter how many tasks are waiting.
+ */
+class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 4;
+
+    private final List<List<ScheduledTask>> buckets = new ArrayList<>();
+    private final List<ScheduledTask> overflow = new ArrayList<>();
+    private long tick;
+
+    TimingWheel() {
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    long getTick() {
+        return tick;
+    }
+
+    /**
+     * Drop every task and restart the wheel at a tick
+     */
+    void reset(long startTick) {
+        for (List<ScheduledTask> bucket : buckets) {
+            bucket.clear();
+        }
+        overflow.clear();
+        tick = startTick;
+    }
+
+    /**
+     * Add a task at its deadline
+     * @param due Receives the task instead if its deadline has already been reached
+     */
+    void add(ScheduledTask task, List<ScheduledTask> due) {
+        long delta = task.deadline - tick;
+        if (delta <= 0) {
+            due.add(task);
+            return;
+        }
+
+        int level = 0;
+        while (level < LEVELS && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+
+        if (level == LEVELS) {
+            overflow.add(task);
+        } else {
+            bucket(level, task.deadline).add(task);
+        }
+    }
+
+    /**
+     * Move one tick forward
+     * @param due Receives every task whose deadline is the new tick
+     */
+    void advance(List<ScheduledTask> due) {
+        tick++;
+
+        // Coarsest level first so tasks cascaded down can be cascaded again this tick
+        if ((tick & ((1L << (SLOT_BITS * (LEVELS - 1))) - 1)) == 0) {
+            Iterator<ScheduledTask> iterator = overflow.iterator();
+            while (iterator.hasNext()) {
+                ScheduledTask task = iterator.next();
+                if (task.isCancelled() || task.deadline - tick < 1L << (SLOT_BITS * LEVELS)) {
+                    iterator.remove();
+                    if (!task.isCancelled()) {
+                        add(task, due);
+                    }
+                }
+            }
+        }
+
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                List<ScheduledTask> bucket = bucket(level, tick);
+                List<ScheduledTask> tasks = new ArrayList<>(bucket);
+                bucket.clear();
+                for (ScheduledTask task : tasks) {
+                    if (!task.isCancelled()) {
+                        add(task, due);
+                    }
+                }
+            }
+        }
+
+        List<ScheduledTask> bucket = bucket(0, tick);
+        for (ScheduledTask task : bucket) {
+            if (!task.isCancelled()) {
+                due.add(task);
+            }
+        }
+        bucket.clear();
+    }
+
+    private List<ScheduledTask> bucket(int level, long deadline) {
+        int slot = (int) ((deadline >> (SLOT_BITS * level)) & (SLOTS - 1));
+        return buckets.get(level * SLOTS + slot);
+    }
+}
\ No newline at end of file
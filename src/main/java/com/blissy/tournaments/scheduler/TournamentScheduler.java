@@ -0,0 +1,297 @@
+package com.blissy.tournaments.scheduler;
+
+import com.blissy.tournaments.Tournaments;
+import com.blissy.tournaments.config.TournamentsConfig;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single server tick driver for all timed tournament work.
+ * Tasks are keyed by server tick in a {@link TimingWheel}. Periodic jobs are given
+ * phase offsets so jobs with related intervals don't land on the same tick, and each
+ * tick only runs tasks until its time budget is spent; the rest carry over to the next tick.
+ * End-of-tick jobs run every tick after the queued tasks, to flush work those tasks left behind.
+ * Must only be used from the server thread.
+ */
+@Mod.EventBusSubscriber(bus = Mod.EventBusSubscriber.Bus.FORGE, modid = "tournaments")
+public class TournamentScheduler {
+    private static final TimingWheel wheel = new TimingWheel();
+
+    // Tasks that are due but haven't run yet, oldest first
+    private static final Deque<ScheduledTask> runQueue = new ArrayDeque<>();
+
+    // Periodic jobs, used to pick phase offsets for new ones
+    private static final List<ScheduledTask> periodicJobs = new ArrayList<>();
+
+    // Jobs run at the end of every tick, in registration order
+    private static final List<ScheduledTask> endOfTickJobs = new ArrayList<>();
+
+    private static final Map<String, JobStats> stats = new LinkedHashMap<>();
+
+    // Ticks that ended with work still queued
+    private static long overBudgetTicks = 0;
+
+    // Time the end-of-tick jobs took last tick, held back from the budget for queued tasks
+    private static long endOfTickNanos = 0;
+
+    /**
+     * Reset the scheduler to the server's tick count. Call before registering jobs.
+     */
+    public static void start(MinecraftServer server) {
+        clear();
+        wheel.reset(server.getTickCount());
+    }
+
+    /**
+     * Cancel everything, e.g. when the server stops
+     */
+    public static void stop() {
+        clear();
+    }
+
+    private static void clear() {
+        for (ScheduledTask task : periodicJobs) {
+            task.cancel();
+        }
+        for (ScheduledTask task : runQueue) {
+            task.cancel();
+        }
+        for (ScheduledTask task : endOfTickJobs) {
+            task.cancel();
+        }
+        periodicJobs.clear();
+        runQueue.clear();
+        endOfTickJobs.clear();
+        stats.clear();
+        overBudgetTicks = 0;
+        endOfTickNanos = 0;
+        wheel.reset(wheel.getTick());
+    }
+
+    /**
+     * Run a task once after a delay
+     * @param name Name the task's timings are recorded under
+     * @param delayTicks Ticks from now; 0 runs it on the next tick
+     */
+    public static ScheduledTask schedule(String name, int delayTicks, Runnable action) {
+        ScheduledTask task = new ScheduledTask(name, action, 0, wheel.getTick() + Math.max(1, delayTicks));
+        add(task);
+        return task;
+    }
+
+    /**
+     * Run a task every {@code periodTicks} ticks, starting within one period.
+     * The first run is placed on the tick offset that collides with the fewest existing jobs.
+     */
+    public static ScheduledTask scheduleRepeating(String name, int periodTicks, Runnable action) {
+        int period = Math.max(1, periodTicks);
+        int phase = choosePhase(period);
+
+        long next = wheel.getTick() + 1;
+        next += Math.floorMod(phase - next, (long) period);
+
+        ScheduledTask task = new ScheduledTask(name, action, period, next);
+        periodicJobs.add(task);
+        add(task);
+
+        Tournaments.LOGGER.debug("Scheduled job {} every {} ticks at phase {}", name, period, phase);
+        return task;
+    }
+
+    /**
+     * Run a task every {@code periodTicks} ticks, first after {@code delayTicks}.
+     * Unlike {@link #scheduleRepeating(String, int, Runnable)} the start tick is fixed.
+     */
+    public static ScheduledTask scheduleRepeating(String name, int delayTicks, int periodTicks, Runnable action) {
+        ScheduledTask task = new ScheduledTask(name, action, Math.max(1, periodTicks),
+                wheel.getTick() + Math.max(1, delayTicks));
+        add(task);
+        return task;
+    }
+
+    /**
+     * Run a task at the end of every tick, after all the tasks due that tick.
+     * It always runs, even on a tick that is over budget.
+     */
+    public static ScheduledTask scheduleEndOfTick(String name, Runnable action) {
+        ScheduledTask task = new ScheduledTask(name, action, 1, wheel.getTick() + 1);
+        endOfTickJobs.add(task);
+        return task;
+    }
+
+    /**
+     * Pick the phase (tick mod period) shared by the fewest existing jobs.
+     * Two jobs with periods p and q and phases a and b fire together on some tick
+     * exactly when a and b are equal modulo gcd(p, q).
+     */
+    private static int choosePhase(int period) {
+        periodicJobs.removeIf(ScheduledTask::isCancelled);
+        if (period == 1) {
+            return 0;
+        }
+
+        int bestPhase = 0;
+        int bestCollisions = Integer.MAX_VALUE;
+        for (int phase = 0; phase < period && bestCollisions > 0; phase++) {
+            int collisions = 0;
+            for (ScheduledTask job : periodicJobs) {
+                if (job.period == 1) continue;
+                int gcd = gcd(period, job.period);
+                if (Math.floorMod(job.deadline, (long) gcd) == phase % gcd) {
+                    collisions++;
+                }
+            }
+            if (collisions < bestCollisions) {
+                bestCollisions = collisions;
+                bestPhase = phase;
+            }
+        }
+        return bestPhase;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private static void add(ScheduledTask task) {
+        List<ScheduledTask> due = new ArrayList<>();
+        wheel.add(task, due);
+        enqueue(due);
+    }
+
+    /**
+     * Queue due tasks to run, rescheduling periodic ones for their next tick
+     */
+    private static void enqueue(List<ScheduledTask> due) {
+        List<ScheduledTask> dueAgain = new ArrayList<>();
+        for (ScheduledTask task : due) {
+            if (task.isCancelled()) continue;
+
+            if (task.isRepeating()) {
+                task.deadline += task.period;
+                wheel.add(task, dueAgain);
+            }
+
+            if (task.queued) {
+                // The last run is still waiting for budget; don't pile up another
+                getStats(task.name).recordSkip();
+                continue;
+            }
+            task.queued = true;
+            runQueue.add(task);
+        }
+
+        if (!dueAgain.isEmpty()) {
+            enqueue(dueAgain);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) return;
+
+        List<ScheduledTask> due = new ArrayList<>();
+        while (wheel.getTick() < server.getTickCount()) {
+            wheel.advance(due);
+        }
+        enqueue(due);
+
+        runQueued();
+        runEndOfTick();
+    }
+
+    /**
+     * Run queued tasks until the tick budget is used up. At least one task always runs.
+     */
+    private static void runQueued() {
+        long budget = TournamentsConfig.COMMON.schedulerTickBudgetMs.get() * 1_000_000L - endOfTickNanos;
+        long tickStart = System.nanoTime();
+        boolean ranAny = false;
+
+        while (!runQueue.isEmpty()) {
+            if (ranAny && System.nanoTime() - tickStart >= budget) {
+                overBudgetTicks++;
+                Tournaments.LOGGER.debug("Tournament scheduler over budget, {} tasks carried to next tick",
+                        runQueue.size());
+                return;
+            }
+
+            ScheduledTask task = runQueue.poll();
+            task.queued = false;
+            if (task.isCancelled()) continue;
+
+            run(task);
+            if (!task.isRepeating()) {
+                task.markFinished();
+            }
+            ranAny = true;
+        }
+    }
+
+    private static void runEndOfTick() {
+        endOfTickJobs.removeIf(ScheduledTask::isCancelled);
+
+        long start = System.nanoTime();
+        for (ScheduledTask task : new ArrayList<>(endOfTickJobs)) {
+            if (!task.isCancelled()) {
+                run(task);
+            }
+        }
+        endOfTickNanos = System.nanoTime() - start;
+    }
+
+    private static void run(ScheduledTask task) {
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            task.action.run();
+        } catch (Exception e) {
+            failed = true;
+            Tournaments.LOGGER.error("Error in scheduled tournament task {}", task.name, e);
+        }
+        getStats(task.name).recordRun(System.nanoTime() - start, failed);
+    }
+
+    private static JobStats getStats(String name) {
+        return stats.computeIfAbsent(name, JobStats::new);
+    }
+
+    public static long getCurrentTick() {
+        return wheel.getTick();
+    }
+
+    /**
+     * @return Number of due tasks waiting for tick budget
+     */
+    public static int getBacklog() {
+        return runQueue.size();
+    }
+
+    public static long getOverBudgetTicks() {
+        return overBudgetTicks;
+    }
+
+    public static Collection<JobStats> getJobStats() {
+        return Collections.unmodifiableCollection(stats.values());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.blissy.tournaments.scheduler;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delayed and repeating tasks measured in server ticks.
+ * Tasks can belong to an owner, usually a tournament or a match, so everything
+ * still pending for it can be cancelled when it ends.
+ */
+public class TournamentTasks {
+    // Pending tasks by owner; owners are compared by identity
+    private static final Map<Object, List<ScheduledTask>> tasksByOwner = new IdentityHashMap<>();
+
+    /**
+     * Run a task once after a number of ticks
+     */
+    public static ScheduledTask runLater(int ticks, Runnable task) {
+        return runLater(null, ticks, task);
+    }
+
+    /**
+     * Run a task once after a number of ticks, unless its owner is cancelled first
+     * @param owner Tournament, match or other object the task belongs to, or null
+     */
+    public static ScheduledTask runLater(Object owner, int ticks, Runnable task) {
+        return track(owner, TournamentScheduler.schedule(taskName(owner, "delayed"), ticks, task));
+    }
+
+    /**
+     * Run a task every {@code periodTicks} ticks until it is cancelled
+     * @param owner Tournament, match or other object the task belongs to, or null
+     * @param delayTicks Ticks before the first run
+     */
+    public static ScheduledTask runRepeating(Object owner, int delayTicks, int periodTicks, Runnable task) {
+        return track(owner, TournamentScheduler.scheduleRepeating(
+                taskName(owner, "repeating"), delayTicks, periodTicks, task));
+    }
+
+    /**
+     * Cancel every pending task of an owner
+     */
+    public static void cancelAll(Object owner) {
+        List<ScheduledTask> tasks = tasksByOwner.remove(owner);
+        if (tasks != null) {
+            tasks.forEach(ScheduledTask::cancel);
+        }
+    }
+
+    /**
+     * Cancel every owned task, e.g. when the server stops
+     */
+    public static void cancelAll() {
+        for (List<ScheduledTask> tasks : tasksByOwner.values()) {
+            tasks.forEach(ScheduledTask::cancel);
+        }
+        tasksByOwner.clear();
+    }
+
+    private static ScheduledTask track(Object owner, ScheduledTask task) {
+        if (owner != null) {
+            List<ScheduledTask> tasks = tasksByOwner.computeIfAbsent(owner, key -> new ArrayList<>());
+            // Forget tasks that already ran so long-lived owners don't keep them around
+            tasks.removeIf(ScheduledTask::isDone);
+            tasks.add(task);
+        }
+        return task;
+    }
+
+    private static String taskName(Object owner, String kind) {
+        return owner == null ? kind + "-task" : kind + "-" + owner.getClass().getSimpleName();
+    }
+}
\ No newline at end of file
@@ -1,132 +1,229 @@
-package com.blissy.tournaments.util;
-
-import net.minecraft.entity.player.ServerPlayerEntity;
-import net.minecraft.network.play.server.STitlePacket;
-import net.minecraft.util.text.ITextComponent;
-import net.minecraft.util.text.StringTextComponent;
-import net.minecraft.util.text.Style;
-import net.minecraft.util.text.TextFormatting;
-import net.minecraft.util.text.event.HoverEvent;
-
-/**
- * Enhanced utility for tournament notifications
- * Displays all tournament information on-screen instead of in chat
- */
-public class BroadcastUtil {
-
-    /**
-     * Send a compact title message (centered screen text with improved styling)
-     * Uses smaller display timing for less intrusive appearance
-     */
-    public static void sendTitle(ServerPlayerEntity player, String message, TextFormatting color, int fadeIn, int stay, int fadeOut) {
-        if (player == null) return;
-
-        // Create styled text with shadow effect to improve readability
-        Style style = Style.EMPTY
-                .withColor(color)
-                .withBold(false); // Keep text compact by avoiding bold
-
-        ITextComponent text = new StringTextComponent(message).setStyle(style);
-        player.connection.send(new STitlePacket(STitlePacket.Type.TITLE, text, fadeIn, stay, fadeOut));
-    }
-
-    /**
-     * Send a compact subtitle message (smaller text below title)
-     */
-    public static void sendSubtitle(ServerPlayerEntity player, String message, TextFormatting color, int fadeIn, int stay, int fadeOut) {
-        if (player == null) return;
-
-        // Create styled text with slightly different formatting than title
-        Style style = Style.EMPTY
-                .withColor(color)
-                .withItalic(true); // Italic for subtitles helps distinguish from title
-
-        ITextComponent text = new StringTextComponent(message).setStyle(style);
-        player.connection.send(new STitlePacket(STitlePacket.Type.SUBTITLE, text, fadeIn, stay, fadeOut));
-    }
-
-    /**
-     * Send an actionbar message (text above hotbar)
-     * This is the smallest on-screen text option in vanilla Minecraft
-     */
-    public static void sendActionBar(ServerPlayerEntity player, String message, TextFormatting color) {
-        if (player == null) return;
-
-        // Create styled text with improved readability
-        Style style = Style.EMPTY.withColor(color);
-        ITextComponent text = new StringTextComponent(message).setStyle(style);
-
-        // Use shorter display duration for less intrusive notifications
-        player.connection.send(new STitlePacket(STitlePacket.Type.ACTIONBAR, text, 5, 60, 10));
-    }
-
-    /**
-     * Send a notification actionbar message (for important updates)
-     * Uses brighter colors and longer duration
-     */
-    public static void sendNotificationBar(ServerPlayerEntity player, String message) {
-        if (player == null) return;
-
-        // Create bright gold text with emphasis
-        Style style = Style.EMPTY
-                .withColor(TextFormatting.GOLD)
-                .withBold(true);
-
-        ITextComponent text = new StringTextComponent("⚡ " + message + " ⚡").setStyle(style);
-        player.connection.send(new STitlePacket(STitlePacket.Type.ACTIONBAR, text, 10, 80, 20));
-    }
-
-    /**
-     * Send a mini title - smaller and less intrusive than a full title
-     * Good for status updates
-     */
-    public static void sendMiniTitle(ServerPlayerEntity player, String message, TextFormatting color) {
-        if (player == null) return;
-
-        // Short duration, minimal title
-        sendTitle(player, message, color, 5, 30, 5);
-    }
-
-    /**
-     * Clear all titles from player's screen
-     */
-    public static void clearTitles(ServerPlayerEntity player) {
-        if (player == null) return;
-
-        player.connection.send(new STitlePacket(STitlePacket.Type.CLEAR, null));
-    }
-
-    /**
-     * Run countdown sequence for player
-     * Uses compact styling for less screen space
-     */
-    public static void runCountdown(ServerPlayerEntity player, String message, int seconds, Runnable onComplete) {
-        if (player == null) return;
-
-        // Clear any existing titles
-        clearTitles(player);
-
-        // Start with the message
-        sendMiniTitle(player, message, TextFormatting.GOLD);
-
-        // Set up the countdown with timed tasks
-        for (int i = seconds; i > 0; i--) {
-            final int count = i;
-            player.getServer().tell(new net.minecraft.util.concurrent.TickDelayedTask(
-                    (seconds - i) * 20, // 20 ticks = 1 second
-                    () -> {
-                        // Show countdown number with decreasing duration as it gets closer to zero
-                        int stay = Math.max(5, count * 4);
-                        sendTitle(player, String.valueOf(count), TextFormatting.RED, 0, stay, 5);
-
-                        if (count == 1 && onComplete != null) {
-                            // Execute completion task after 1 second
-                            player.getServer().tell(new net.minecraft.util.concurrent.TickDelayedTask(
-                                    20, onComplete
-                            ));
-                        }
-                    }
-            ));
-        }
-    }
+package com.blissy.tournaments.util;
+
+import com.blissy.tournaments.network.SharedPacket;
+import com.blissy.tournaments.util.NotificationQueue.Priority;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.play.server.SChatPacket;
+import net.minecraft.network.play.server.STitlePacket;
+import net.minecraft.util.Util;
+import net.minecraft.util.text.ChatType;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextFormatting;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Enhanced utility for tournament notifications
+ * Displays all tournament information on-screen instead of in chat.
+ * The broadcast methods build and encode a packet once for a whole audience, e.g. a
+ * tournament's participants or every player on the server.
+ * Titles and actionbar messages go through {@link NotificationQueue}, which paces them per
+ * player; chat messages are sent straight away.
+ */
+public class BroadcastUtil {
+
+    /**
+     * Send a compact title message (centered screen text with improved styling)
+     * Uses smaller display timing for less intrusive appearance
+     */
+    public static void sendTitle(ServerPlayerEntity player, String message, TextFormatting color, int fadeIn, int stay, int fadeOut) {
+        sendTitle(player, message, color, fadeIn, stay, fadeOut, Priority.NORMAL);
+    }
+
+    /**
+     * Send a title message
+     * @param priority HIGH for titles that must not wait behind others, e.g. countdowns
+     */
+    public static void sendTitle(ServerPlayerEntity player, String message, TextFormatting color, int fadeIn, int stay, int fadeOut,
+                                 Priority priority) {
+        if (player == null) return;
+
+        NotificationQueue.postTitle(player.getUUID(),
+                SharedPacket.of(titlePacket(message, color, fadeIn, stay, fadeOut)), priority);
+    }
+
+    /**
+     * Send a compact subtitle message (smaller text below title)
+     */
+    public static void sendSubtitle(ServerPlayerEntity player, String message, TextFormatting color, int fadeIn, int stay, int fadeOut) {
+        if (player == null) return;
+
+        NotificationQueue.postSubtitle(player.getUUID(), SharedPacket.of(subtitlePacket(message, color, fadeIn, stay, fadeOut)));
+    }
+
+    /**
+     * Send an actionbar message (text above hotbar)
+     * This is the smallest on-screen text option in vanilla Minecraft
+     */
+    public static void sendActionBar(ServerPlayerEntity player, String message, TextFormatting color) {
+        sendActionBar(player, message, color, Priority.NORMAL);
+    }
+
+    /**
+     * Send an actionbar message
+     * @param priority HIGH for messages that go ahead of any still waiting
+     */
+    public static void sendActionBar(ServerPlayerEntity player, String message, TextFormatting color, Priority priority) {
+        if (player == null) return;
+
+        NotificationQueue.postActionBar(player.getUUID(), message, SharedPacket.of(actionBarPacket(message, color)), priority);
+    }
+
+    /**
+     * Send a notification actionbar message (for important updates)
+     * Uses brighter colors and longer duration
+     */
+    public static void sendNotificationBar(ServerPlayerEntity player, String message) {
+        if (player == null) return;
+
+        NotificationQueue.postActionBar(player.getUUID(), message, SharedPacket.of(notificationBarPacket(message)),
+                Priority.HIGH);
+    }
+
+    /**
+     * Show a title to every player in an audience
+     */
+    public static void broadcastTitle(Collection<ServerPlayerEntity> audience, String message, TextFormatting color,
+                                      int fadeIn, int stay, int fadeOut) {
+        broadcastTitle(audience, message, color, fadeIn, stay, fadeOut, Priority.NORMAL);
+    }
+
+    /**
+     * Show a title to every player in an audience
+     * @param priority HIGH for titles that must not wait behind others, e.g. countdowns
+     */
+    public static void broadcastTitle(Collection<ServerPlayerEntity> audience, String message, TextFormatting color,
+                                      int fadeIn, int stay, int fadeOut, Priority priority) {
+        if (audience.isEmpty()) return;
+        SharedPacket packet = SharedPacket.of(titlePacket(message, color, fadeIn, stay, fadeOut));
+        for (ServerPlayerEntity player : audience) {
+            NotificationQueue.postTitle(player.getUUID(), packet, priority);
+        }
+    }
+
+    /**
+     * Show a subtitle to every player in an audience
+     */
+    public static void broadcastSubtitle(Collection<ServerPlayerEntity> audience, String message, TextFormatting color,
+                                         int fadeIn, int stay, int fadeOut) {
+        if (audience.isEmpty()) return;
+        SharedPacket packet = SharedPacket.of(subtitlePacket(message, color, fadeIn, stay, fadeOut));
+        for (ServerPlayerEntity player : audience) {
+            NotificationQueue.postSubtitle(player.getUUID(), packet);
+        }
+    }
+
+    /**
+     * Show an actionbar message to every player in an audience
+     */
+    public static void broadcastActionBar(Collection<ServerPlayerEntity> audience, String message, TextFormatting color) {
+        if (audience.isEmpty()) return;
+        SharedPacket packet = SharedPacket.of(actionBarPacket(message, color));
+        for (ServerPlayerEntity player : audience) {
+            NotificationQueue.postActionBar(player.getUUID(), message, packet, Priority.NORMAL);
+        }
+    }
+
+    /**
+     * Show a notification actionbar message to every player in an audience
+     */
+    public static void broadcastNotificationBar(Collection<ServerPlayerEntity> audience, String message) {
+        if (audience.isEmpty()) return;
+        SharedPacket packet = SharedPacket.of(notificationBarPacket(message));
+        for (ServerPlayerEntity player : audience) {
+            NotificationQueue.postActionBar(player.getUUID(), message, packet, Priority.HIGH);
+        }
+    }
+
+    /**
+     * Send a system chat message to every player in an audience
+     */
+    public static void broadcastChat(Collection<ServerPlayerEntity> audience, ITextComponent message) {
+        if (audience.isEmpty()) return;
+        SharedPacket.of(new SChatPacket(message, ChatType.SYSTEM, Util.NIL_UUID)).sendTo(audience);
+    }
+
+    private static STitlePacket titlePacket(String message, TextFormatting color, int fadeIn, int stay, int fadeOut) {
+        // Create styled text with shadow effect to improve readability
+        Style style = Style.EMPTY
+                .withColor(color)
+                .withBold(false); // Keep text compact by avoiding bold
+
+        ITextComponent text = new StringTextComponent(message).setStyle(style);
+        return new STitlePacket(STitlePacket.Type.TITLE, text, fadeIn, stay, fadeOut);
+    }
+
+    private static STitlePacket subtitlePacket(String message, TextFormatting color, int fadeIn, int stay, int fadeOut) {
+        // Create styled text with slightly different formatting than title
+        Style style = Style.EMPTY
+                .withColor(color)
+                .withItalic(true); // Italic for subtitles helps distinguish from title
+
+        ITextComponent text = new StringTextComponent(message).setStyle(style);
+        return new STitlePacket(STitlePacket.Type.SUBTITLE, text, fadeIn, stay, fadeOut);
+    }
+
+    private static STitlePacket actionBarPacket(String message, TextFormatting color) {
+        // Create styled text with improved readability
+        Style style = Style.EMPTY.withColor(color);
+        ITextComponent text = new StringTextComponent(message).setStyle(style);
+
+        // Use shorter display duration for less intrusive notifications
+        return new STitlePacket(STitlePacket.Type.ACTIONBAR, text, 5, 60, 10);
+    }
+
+    private static STitlePacket notificationBarPacket(String message) {
+        // Create bright gold text with emphasis
+        Style style = Style.EMPTY
+                .withColor(TextFormatting.GOLD)
+                .withBold(true);
+
+        ITextComponent text = new StringTextComponent("⚡ " + message + " ⚡").setStyle(style);
+        return new STitlePacket(STitlePacket.Type.ACTIONBAR, text, 10, 80, 20);
+    }
+
+    /**
+     * Send a mini title - smaller and less intrusive than a full title
+     * Good for status updates
+     */
+    public static void sendMiniTitle(ServerPlayerEntity player, String message, TextFormatting color) {
+        if (player == null) return;
+
+        // Short duration, minimal title
+        sendTitle(player, message, color, 5, 30, 5);
+    }
+
+    /**
+     * Clear all titles from player's screen
+     */
+    public static void clearTitles(ServerPlayerEntity player) {
+        if (player == null) return;
+
+        // Titles still waiting would otherwise show up after the clear
+        NotificationQueue.clearTitles(player.getUUID());
+        player.connection.send(new STitlePacket(STitlePacket.Type.CLEAR, null));
+    }
+
+    /**
+     * Run countdown sequence for player
+     * Uses compact styling for less screen space
+     */
+    public static void runCountdown(ServerPlayerEntity player, String message, int seconds, Runnable onComplete) {
+        runCountdown(null, player, message, seconds, onComplete);
+    }
+
+    /**
+     * Run countdown sequence for one player; use {@link GroupCountdown} to count down for several
+     * @param owner Tournament or match the countdown belongs to; cancelling its tasks stops the countdown
+     * @return Handle to cancel the countdown, or null if there is no player
+     */
+    public static GroupCountdown runCountdown(Object owner, ServerPlayerEntity player, String message, int seconds, Runnable onComplete) {
+        if (player == null) return null;
+
+        return GroupCountdown.start(owner, Collections.singleton(player.getUUID()), message, seconds,
+                onComplete == null ? null : players -> onComplete.run());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.blissy.tournaments.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * File writes shared by everything the mod saves in the background
+ */
+public final class DataFiles {
+    private DataFiles() {
+    }
+
+    /**
+     * Create a single background thread for a store's file I/O, so its writes never interleave
+     */
+    public static ExecutorService newWriter(String threadName) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Replace a file's contents. The data goes to a temp file that is synced and then moved
+     * over the file, so a crash leaves either the old contents or the new ones.
+     */
+    public static void replace(File file, byte[] data) throws IOException {
+        ensureParent(file);
+        File tempFile = new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".tmp");
+        try (FileOutputStream stream = new FileOutputStream(tempFile)) {
+            stream.write(data);
+            stream.getFD().sync();
+        }
+
+        try {
+            Files.move(tempFile.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Append to a file and sync it. The data is written in one go so a crash can only tear
+     * the end of it.
+     */
+    public static void append(File file, byte[] data) throws IOException {
+        ensureParent(file);
+        try (FileOutputStream stream = new FileOutputStream(file, true)) {
+            stream.write(data);
+            stream.getFD().sync();
+        }
+    }
+
+    /**
+     * Empty a file, creating it if needed
+     */
+    public static void truncate(File file) throws IOException {
+        ensureParent(file);
+        new FileOutputStream(file).close();
+    }
+
+    private static void ensureParent(File file) {
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.exists()) {
+            dir.mkdirs();
+        }
+    }
+}
\ No newline at end of file
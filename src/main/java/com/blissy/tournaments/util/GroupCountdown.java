@@ -0,0 +1,106 @@
+package com.blissy.tournaments.util;
+
+import com.blissy.tournaments.scheduler.ScheduledTask;
+import com.blissy.tournaments.scheduler.TournamentTasks;
+import com.blissy.tournaments.util.NotificationQueue.Priority;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.text.TextFormatting;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * A countdown shown to a group of players at once.
+ * One repeating task drives the whole group: each second's number is built once and sent to
+ * everyone still online, and the completion callback runs once with those players.
+ * Players who log out are skipped; they aren't dropped from the audience, so they see the
+ * remaining numbers if they come back before it ends.
+ */
+public class GroupCountdown {
+    private final Set<UUID> audience;
+    private final String message;
+    private final Consumer<List<ServerPlayerEntity>> onComplete;
+    private int remaining;
+    private ScheduledTask task;
+
+    private GroupCountdown(Collection<UUID> audience, String message, int seconds,
+                           Consumer<List<ServerPlayerEntity>> onComplete) {
+        this.audience = new LinkedHashSet<>(audience);
+        this.message = message;
+        this.remaining = seconds;
+        this.onComplete = onComplete;
+    }
+
+    /**
+     * Start a countdown for a group of players
+     * @param owner Tournament or match the countdown belongs to; cancelling its tasks stops the countdown
+     * @param audience Players to show the countdown to
+     * @param message Title shown before the numbers
+     * @param onComplete Called a second after the last number with the players still online, or null
+     */
+    public static GroupCountdown start(Object owner, Collection<UUID> audience, String message, int seconds,
+                                       Consumer<List<ServerPlayerEntity>> onComplete) {
+        GroupCountdown countdown = new GroupCountdown(audience, message, seconds, onComplete);
+        countdown.begin(owner);
+        return countdown;
+    }
+
+    private void begin(Object owner) {
+        List<ServerPlayerEntity> players = getOnlinePlayers();
+
+        // Clear any existing titles and start with the message
+        for (ServerPlayerEntity player : players) {
+            BroadcastUtil.clearTitles(player);
+        }
+        BroadcastUtil.broadcastTitle(players, message, TextFormatting.GOLD, 5, 30, 5, Priority.NORMAL);
+
+        // One number per second (20 ticks), then the completion a second after the last one.
+        // The first number waits a second too, or it would replace the message right away.
+        task = TournamentTasks.runRepeating(owner, 20, 20, this::tick);
+    }
+
+    private void tick() {
+        List<ServerPlayerEntity> players = getOnlinePlayers();
+        if (remaining > 0) {
+            // Show countdown number with decreasing duration as it gets closer to zero
+            int stay = Math.max(5, remaining * 4);
+            BroadcastUtil.broadcastTitle(players, String.valueOf(remaining), TextFormatting.RED, 0, stay, 5, Priority.HIGH);
+            remaining--;
+            return;
+        }
+
+        task.cancel();
+        if (onComplete != null) {
+            onComplete.accept(players);
+        }
+    }
+
+    /**
+     * Stop the countdown without running its completion
+     */
+    public void cancel() {
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    public boolean isDone() {
+        return task == null || task.isDone();
+    }
+
+    private List<ServerPlayerEntity> getOnlinePlayers() {
+        List<ServerPlayerEntity> players = new ArrayList<>(audience.size());
+        for (UUID playerId : audience) {
+            ServerPlayerEntity player = PlayerPresence.get(playerId);
+            if (player != null) {
+                players.add(player);
+            }
+        }
+        return players;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.blissy.tournaments.util;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * A {@link SnapshotJournal} of JSON objects: one object per journal line, and a snapshot
+ * that is a JSON array with one record per line, readable by Gson as a list.
+ */
+public class JsonLineJournal<K> extends SnapshotJournal<K, JsonObject> {
+
+    public JsonLineJournal(String description, File snapshotFile, File journalFile, int compactEvery) {
+        super(description, snapshotFile, journalFile, compactEvery);
+    }
+
+    @Override
+    protected void writeEntry(DataOutputStream out, JsonObject entry) throws IOException {
+        out.write(entry.toString().getBytes(StandardCharsets.UTF_8));
+        out.write('\n');
+    }
+
+    @Override
+    protected JsonObject readEntry(DataInputStream in) throws IOException {
+        while (true) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != '\n') {
+                if (b < 0) {
+                    if (line.size() == 0) {
+                        throw new EOFException();
+                    }
+                    break;
+                }
+                line.write(b);
+            }
+
+            String text = new String(line.toByteArray(), StandardCharsets.UTF_8).trim();
+            if (text.isEmpty()) {
+                continue;
+            }
+            try {
+                return new JsonParser().parse(text).getAsJsonObject();
+            } catch (JsonParseException | IllegalStateException e) {
+                throw new IOException("Unreadable journal line", e);
+            }
+        }
+    }
+
+    @Override
+    protected void writeSnapshot(OutputStream out, Collection<JsonObject> records) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write("[\n");
+        boolean first = true;
+        for (JsonObject record : records) {
+            if (!first) {
+                writer.write(",\n");
+            }
+            writer.write(record.toString());
+            first = false;
+        }
+        writer.write("\n]\n");
+        writer.flush();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,280 @@
+package com.blissy.tournaments.util;
+
+import com.blissy.tournaments.Tournaments;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.server.MinecraftServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory copy of data/tournaments_locations.dat.
+ * Lookups read an immutable snapshot and never touch the disk. Changes replace the
+ * snapshot and are written on a background thread via a temp file and rename.
+ * Edits made to the file by hand are picked up by a file watcher.
+ */
+public class LocationStore {
+    private static final String LOCATION_FILE = "tournaments_locations.dat";
+
+    // Current locations by id; replaced as a whole, never modified
+    private static volatile Map<String, Location> snapshot = Collections.emptyMap();
+
+    // Single thread for all file I/O so writes and reloads never interleave
+    private static ExecutorService ioExecutor;
+    private static Thread watcherThread;
+    private static WatchService watchService;
+    private static File locationFile;
+
+    // Set while a write is queued so bursts of changes are saved once
+    private static final AtomicBoolean writeQueued = new AtomicBoolean();
+
+    // Held while a change or a reload replaces the snapshot, so a reload can't drop a change
+    private static final Object snapshotLock = new Object();
+
+    // Modification time of the file as we last read or wrote it (I/O thread only)
+    private static long knownModified;
+
+    /**
+     * Load the locations file and start watching it for outside edits
+     */
+    public static synchronized void load(MinecraftServer server) {
+        shutdown();
+
+        File dataDir = new File(server.getServerDirectory(), "data");
+        if (!dataDir.exists()) {
+            dataDir.mkdirs();
+        }
+        locationFile = new File(dataDir, LOCATION_FILE);
+
+        ioExecutor = DataFiles.newWriter("Tournaments location writer");
+
+        readFile();
+        startWatcher(dataDir.toPath());
+    }
+
+    /**
+     * Write any pending change and stop the background threads
+     */
+    public static synchronized void shutdown() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                Tournaments.LOGGER.debug("Error closing location file watcher", e);
+            }
+            watchService = null;
+            watcherThread = null;
+        }
+
+        if (ioExecutor != null) {
+            ioExecutor.shutdown();
+            try {
+                if (!ioExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    Tournaments.LOGGER.warn("Timed out waiting for tournament locations to be saved");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ioExecutor = null;
+        }
+    }
+
+    /**
+     * Get a stored location
+     * @param id Location id, e.g. tournament_entry
+     * @return The location or null if it has not been set
+     */
+    public static Location get(String id) {
+        return snapshot.get(id);
+    }
+
+    /**
+     * Check if a location has been stored
+     */
+    public static boolean contains(String id) {
+        return snapshot.containsKey(id);
+    }
+
+    /**
+     * Store a location. Visible to lookups immediately and saved in the background.
+     */
+    public static synchronized void put(String id, Location location) {
+        synchronized (snapshotLock) {
+            Map<String, Location> updated = new HashMap<>(snapshot);
+            updated.put(id, location);
+            snapshot = Collections.unmodifiableMap(updated);
+            scheduleWrite();
+        }
+
+        Tournaments.LOGGER.info("Saved tournament location: {} at ({}, {}, {}) in {}",
+                id, location.x, location.y, location.z, location.dimension);
+    }
+
+    private static void scheduleWrite() {
+        if (ioExecutor == null || !writeQueued.compareAndSet(false, true)) {
+            return;
+        }
+        ioExecutor.execute(() -> {
+            Map<String, Location> locations;
+            synchronized (snapshotLock) {
+                writeQueued.set(false);
+                locations = snapshot;
+            }
+            writeFile(locations);
+        });
+    }
+
+    /**
+     * Write a snapshot over the real file via a temp file
+     */
+    private static void writeFile(Map<String, Location> locations) {
+        CompoundNBT root = new CompoundNBT();
+        for (Map.Entry<String, Location> entry : locations.entrySet()) {
+            Location location = entry.getValue();
+            CompoundNBT locationData = new CompoundNBT();
+            locationData.putDouble("x", location.x);
+            locationData.putDouble("y", location.y);
+            locationData.putDouble("z", location.z);
+            locationData.putString("dimension", location.dimension);
+            root.put(entry.getKey(), locationData);
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            CompressedStreamTools.writeCompressed(root, bytes);
+            DataFiles.replace(locationFile, bytes.toByteArray());
+            knownModified = locationFile.lastModified();
+        } catch (Exception e) {
+            Tournaments.LOGGER.error("Failed to save locations file", e);
+        }
+    }
+
+    /**
+     * Replace the snapshot with the file contents
+     */
+    private static void readFile() {
+        Map<String, Location> loaded = readLocations();
+        if (loaded != null) {
+            snapshot = loaded;
+        }
+    }
+
+    /**
+     * Read the file
+     * @return The locations in it, or null if it couldn't be read
+     */
+    private static Map<String, Location> readLocations() {
+        if (!locationFile.exists()) {
+            return Collections.emptyMap();
+        }
+
+        try (FileInputStream stream = new FileInputStream(locationFile)) {
+            CompoundNBT root = CompressedStreamTools.readCompressed(stream);
+            Map<String, Location> loaded = new HashMap<>();
+            for (String id : root.getAllKeys()) {
+                CompoundNBT locationData = root.getCompound(id);
+                loaded.put(id, new Location(
+                        locationData.getDouble("x"),
+                        locationData.getDouble("y"),
+                        locationData.getDouble("z"),
+                        locationData.getString("dimension")));
+            }
+            knownModified = locationFile.lastModified();
+            Tournaments.LOGGER.info("Loaded {} tournament locations", loaded.size());
+            return Collections.unmodifiableMap(loaded);
+        } catch (Exception e) {
+            Tournaments.LOGGER.error("Failed to read locations file", e);
+            return null;
+        }
+    }
+
+    /**
+     * Reload if the file was changed by something other than our own writes
+     */
+    private static void reloadIfChanged() {
+        if (locationFile.lastModified() == knownModified) {
+            return;
+        }
+
+        Tournaments.LOGGER.info("Locations file changed on disk, reloading");
+        Map<String, Location> loaded = readLocations();
+        if (loaded == null) {
+            return;
+        }
+
+        synchronized (snapshotLock) {
+            // A change not written yet would be lost; the queued write replaces the edited file instead
+            if (writeQueued.get()) {
+                Tournaments.LOGGER.warn("Ignoring outside edit to locations file, a newer change is being saved");
+                return;
+            }
+            snapshot = loaded;
+        }
+    }
+
+    private static void startWatcher(Path dataDir) {
+        try {
+            WatchService service = dataDir.getFileSystem().newWatchService();
+            dataDir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watchService = service;
+        } catch (IOException e) {
+            Tournaments.LOGGER.warn("Could not watch locations file for changes", e);
+            return;
+        }
+
+        WatchService service = watchService;
+        ExecutorService executor = ioExecutor;
+        watcherThread = new Thread(() -> {
+            try {
+                while (true) {
+                    WatchKey key = service.take();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (LOCATION_FILE.equals(String.valueOf(event.context()))) {
+                            executor.execute(LocationStore::reloadIfChanged);
+                        }
+                    }
+                    key.reset();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException | RejectedExecutionException e) {
+                // Store shut down
+            } catch (Exception e) {
+                Tournaments.LOGGER.error("Location file watcher stopped", e);
+            }
+        }, "Tournaments location watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    /**
+     * A saved position in a dimension
+     */
+    public static class Location {
+        public final double x;
+        public final double y;
+        public final double z;
+        public final String dimension;
+
+        public Location(double x, double y, double z, String dimension) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.dimension = dimension;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,286 @@
+package com.blissy.tournaments.util;
+
+import com.blissy.tournaments.config.TournamentsConfig;
+import com.blissy.tournaments.network.SharedPacket;
+import com.blissy.tournaments.scheduler.TournamentScheduler;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.play.server.STitlePacket;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Outgoing titles and action bar messages, queued per player and sent at the end of the tick.
+ * A title replaces any title of the same or lower priority still waiting, since only the
+ * latest one would be seen anyway. Action bar messages wait their turn instead, so a run of
+ * them is spread over several ticks and each stays readable. Both channels are paced by the
+ * intervals in the config; important messages go first. Queues are flushed by an end-of-tick
+ * scheduler job, after the tasks that queue messages have run.
+ */
+@Mod.EventBusSubscriber(bus = Mod.EventBusSubscriber.Bus.FORGE, modid = "tournaments")
+public class NotificationQueue {
+    private static final Map<UUID, PlayerQueue> queues = new HashMap<>();
+
+    // Sent ahead of a title without a subtitle so the previous title's subtitle doesn't linger
+    private static SharedPacket emptySubtitle;
+
+    /**
+     * Start flushing the queues. Call after the scheduler has started.
+     */
+    public static void registerJobs() {
+        TournamentScheduler.scheduleEndOfTick("notification-flush", NotificationQueue::flush);
+    }
+
+    /**
+     * How urgent a message is
+     */
+    public enum Priority {
+        NORMAL,
+        // Jumps the queue and isn't held back by normal messages sent just before it
+        HIGH
+    }
+
+    /**
+     * Queue a title for a player
+     */
+    public static void postTitle(UUID playerId, SharedPacket title, Priority priority) {
+        if (!onServerThread(() -> postTitle(playerId, title, priority))) return;
+
+        Deque<Notification> titles = getQueue(playerId).titles;
+
+        // Only the newest title would be seen; drop the ones it would cover up
+        titles.removeIf(pending -> pending.priority.compareTo(priority) <= 0);
+        titles.addLast(new Notification(title, priority, currentTick(), null));
+    }
+
+    /**
+     * Queue a subtitle for a player. It goes with the title queued just before it in the
+     * same tick, or is sent on its own if there is none.
+     */
+    public static void postSubtitle(UUID playerId, SharedPacket subtitle) {
+        if (!onServerThread(() -> postSubtitle(playerId, subtitle))) return;
+
+        Deque<Notification> titles = getQueue(playerId).titles;
+        Notification last = titles.peekLast();
+        if (last != null && last.packet != null && last.subtitle == null && last.tick == currentTick()) {
+            last.subtitle = subtitle;
+            return;
+        }
+
+        titles.removeIf(pending -> pending.priority == Priority.NORMAL);
+        Notification update = new Notification(null, Priority.NORMAL, currentTick(), null);
+        update.subtitle = subtitle;
+        titles.addLast(update);
+    }
+
+    /**
+     * Queue an action bar message for a player
+     * @param key Text of the message; a message identical to one still waiting is dropped
+     */
+    public static void postActionBar(UUID playerId, String key, SharedPacket message, Priority priority) {
+        if (!onServerThread(() -> postActionBar(playerId, key, message, priority))) return;
+
+        Deque<Notification> actionBars = getQueue(playerId).actionBars;
+        for (Notification pending : actionBars) {
+            if (pending.key.equals(key)) {
+                return;
+            }
+        }
+
+        Notification notification = new Notification(message, priority, currentTick(), key);
+        if (priority == Priority.HIGH) {
+            insertAfterHigh(actionBars, notification);
+        } else {
+            actionBars.addLast(notification);
+        }
+
+        // Over the backlog the oldest normal message goes first
+        int backlog = TournamentsConfig.COMMON.actionBarBacklog.get();
+        while (actionBars.size() > backlog) {
+            if (!removeOldestNormal(actionBars)) {
+                actionBars.pollFirst();
+            }
+        }
+    }
+
+    /**
+     * Drop the titles still waiting for a player, e.g. before clearing their screen
+     */
+    public static void clearTitles(UUID playerId) {
+        if (!onServerThread(() -> clearTitles(playerId))) return;
+
+        PlayerQueue queue = queues.get(playerId);
+        if (queue != null) {
+            queue.titles.clear();
+        }
+    }
+
+    private static boolean removeOldestNormal(Deque<Notification> deque) {
+        Iterator<Notification> iterator = deque.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().priority == Priority.NORMAL) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void insertAfterHigh(Deque<Notification> deque, Notification notification) {
+        Deque<Notification> rest = new ArrayDeque<>();
+        while (!deque.isEmpty() && deque.peekLast().priority != Priority.HIGH) {
+            rest.addFirst(deque.pollLast());
+        }
+        deque.addLast(notification);
+        deque.addAll(rest);
+    }
+
+    private static PlayerQueue getQueue(UUID playerId) {
+        return queues.computeIfAbsent(playerId, id -> new PlayerQueue());
+    }
+
+    /**
+     * Hand work from other threads to the server thread
+     * @return True if the caller is already on the server thread
+     */
+    private static boolean onServerThread(Runnable retry) {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server != null && !server.isSameThread()) {
+            server.execute(retry);
+            return false;
+        }
+        return true;
+    }
+
+    private static long currentTick() {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        return server != null ? server.getTickCount() : 0;
+    }
+
+    /**
+     * Send what is due on each channel of every queue
+     */
+    private static void flush() {
+        if (queues.isEmpty()) return;
+
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) return;
+
+        long tick = server.getTickCount();
+        int titleInterval = TournamentsConfig.COMMON.titleIntervalTicks.get();
+        int actionBarInterval = TournamentsConfig.COMMON.actionBarIntervalTicks.get();
+
+        Iterator<Map.Entry<UUID, PlayerQueue>> iterator = queues.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, PlayerQueue> entry = iterator.next();
+            PlayerQueue queue = entry.getValue();
+            ServerPlayerEntity player = server.getPlayerList().getPlayer(entry.getKey());
+            if (player == null) {
+                iterator.remove();
+                continue;
+            }
+
+            Notification title = queue.takeTitle(tick, titleInterval);
+            if (title != null) {
+                if (title.subtitle != null) {
+                    title.subtitle.sendTo(player);
+                } else {
+                    getEmptySubtitle().sendTo(player);
+                }
+                if (title.packet != null) {
+                    title.packet.sendTo(player);
+                }
+            }
+
+            Notification actionBar = queue.takeActionBar(tick, actionBarInterval);
+            if (actionBar != null) {
+                actionBar.packet.sendTo(player);
+            }
+
+            if (queue.titles.isEmpty() && queue.actionBars.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        queues.remove(event.getPlayer().getUUID());
+    }
+
+    private static SharedPacket getEmptySubtitle() {
+        if (emptySubtitle == null) {
+            emptySubtitle = SharedPacket.of(new STitlePacket(STitlePacket.Type.SUBTITLE, new StringTextComponent("")));
+        }
+        return emptySubtitle;
+    }
+
+    /**
+     * Messages waiting for one player and when each channel may send again
+     */
+    private static class PlayerQueue {
+        // Highest priority first, oldest first within a priority
+        final Deque<Notification> titles = new ArrayDeque<>();
+        final Deque<Notification> actionBars = new ArrayDeque<>();
+
+        long nextTitleTick;
+        long nextActionBarTick;
+        Priority lastTitlePriority = Priority.NORMAL;
+        Priority lastActionBarPriority = Priority.NORMAL;
+
+        Notification takeTitle(long tick, int interval) {
+            Notification next = titles.peekFirst();
+            if (next == null || !isDue(next, tick, nextTitleTick, lastTitlePriority)) {
+                return null;
+            }
+            titles.pollFirst();
+            nextTitleTick = tick + interval;
+            lastTitlePriority = next.priority;
+            return next;
+        }
+
+        Notification takeActionBar(long tick, int interval) {
+            Notification next = actionBars.peekFirst();
+            if (next == null || !isDue(next, tick, nextActionBarTick, lastActionBarPriority)) {
+                return null;
+            }
+            actionBars.pollFirst();
+            nextActionBarTick = tick + interval;
+            lastActionBarPriority = next.priority;
+            return next;
+        }
+
+        private static boolean isDue(Notification next, long tick, long nextTick, Priority lastPriority) {
+            // An important message doesn't wait for the interval of a less important one
+            return tick >= nextTick || next.priority.compareTo(lastPriority) > 0;
+        }
+    }
+
+    /**
+     * One queued message. On the title channel, packet is null for a subtitle-only update.
+     */
+    private static class Notification {
+        final SharedPacket packet;
+        final Priority priority;
+        final long tick;
+        final String key;
+        SharedPacket subtitle;
+
+        Notification(SharedPacket packet, Priority priority, long tick, String key) {
+            this.packet = packet;
+            this.priority = priority;
+            this.tick = tick;
+            this.key = key;
+        }
+    }
+}
\ No newline at end of file
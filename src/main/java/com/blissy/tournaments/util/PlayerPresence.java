@@ -0,0 +1,105 @@
+package com.blissy.tournaments.util;
+
+import com.blissy.tournaments.TournamentManager;
+import com.blissy.tournaments.data.Tournament;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStartingEvent;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The entity currently representing each online player.
+ * Kept up to date from login, logout, respawn and dimension change events, so looking a
+ * player up is a single map read instead of a search of the server's player list.
+ * Respawning replaces a player's entity; the old one is dropped here at the same moment, and
+ * tournaments the player is in are told so their online participant lists stay current too.
+ */
+@Mod.EventBusSubscriber(bus = Mod.EventBusSubscriber.Bus.FORGE, modid = "tournaments")
+public class PlayerPresence {
+    // Read from network threads as well as the server thread
+    private static final Map<UUID, ServerPlayerEntity> online = new ConcurrentHashMap<>();
+
+    /**
+     * Get an online player
+     * @return The player's current entity, or null if they are offline
+     */
+    @Nullable
+    public static ServerPlayerEntity get(UUID playerId) {
+        if (playerId == null) {
+            return null;
+        }
+
+        ServerPlayerEntity player = online.get(playerId);
+        return player != null && !player.hasDisconnected() ? player : null;
+    }
+
+    public static boolean isOnline(UUID playerId) {
+        return get(playerId) != null;
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
+        update(event.getPlayer());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        UUID playerId = event.getPlayer().getUUID();
+        online.remove(playerId);
+        notifyTournaments(playerId, null);
+    }
+
+    @SubscribeEvent
+    public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        update(event.getPlayer());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        update(event.getPlayer());
+    }
+
+    @SubscribeEvent
+    public static void onServerStarting(FMLServerStartingEvent event) {
+        online.clear();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(FMLServerStoppedEvent event) {
+        online.clear();
+    }
+
+    private static void update(PlayerEntity entity) {
+        if (!(entity instanceof ServerPlayerEntity)) {
+            return;
+        }
+
+        ServerPlayerEntity player = (ServerPlayerEntity) entity;
+        if (online.put(player.getUUID(), player) != player) {
+            notifyTournaments(player.getUUID(), player);
+        }
+    }
+
+    private static void notifyTournaments(UUID playerId, @Nullable ServerPlayerEntity player) {
+        TournamentManager manager = TournamentManager.getInstance();
+        Tournament tournament = manager.getPlayerTournament(playerId);
+        if (tournament != null) {
+            tournament.updateOnlineParticipant(playerId, player);
+        }
+
+        // Hosts take part in their tournaments without joining them
+        for (Tournament hosted : manager.getTournamentsHostedBy(playerId)) {
+            if (hosted != tournament) {
+                hosted.updateOnlineParticipant(playerId, player);
+            }
+        }
+    }
+}
\ No newline at end of file
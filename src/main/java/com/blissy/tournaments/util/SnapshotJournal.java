@@ -0,0 +1,278 @@
+package com.blissy.tournaments.util;
+
+import com.blissy.tournaments.Tournaments;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * A snapshot file plus an append-only journal of the changes made since it was written,
+ * both written on a background thread. Subclasses only decide how records are encoded.
+ * Each journal entry is the full state of one record after a change (or a marker), so
+ * replaying the journal over the snapshot always gives the latest state, and an entry torn
+ * by a crash is recognised and dropped.
+ * Every so many entries the journal is folded into a new snapshot.
+ * @param <K> Key records are kept under
+ * @param <R> Record; once queued it belongs to the writer thread and must not be changed
+ */
+public abstract class SnapshotJournal<K, R> {
+    private final String description;
+    private final File snapshotFile;
+    private final File journalFile;
+    private final int compactEvery;
+
+    // Latest record of every key, in insertion order; only touched on the writer thread
+    private final Map<K, R> latest = new LinkedHashMap<>();
+    private int entriesSinceCompaction;
+
+    // Set when replay stopped at an entry it couldn't read
+    private boolean unreadableEntry;
+
+    private ExecutorService writer;
+
+    /**
+     * @param description What is stored, for thread names and log messages, e.g. "ELO"
+     * @param compactEvery Journal entries after which a new snapshot is written
+     */
+    protected SnapshotJournal(String description, File snapshotFile, File journalFile, int compactEvery) {
+        this.description = description;
+        this.snapshotFile = snapshotFile;
+        this.journalFile = journalFile;
+        this.compactEvery = compactEvery;
+    }
+
+    /**
+     * Write one journal entry
+     */
+    protected abstract void writeEntry(DataOutputStream out, R entry) throws IOException;
+
+    /**
+     * Read one journal entry
+     * @throws EOFException At the end of the journal
+     * @throws IOException If the entry is torn or corrupt
+     */
+    protected abstract R readEntry(DataInputStream in) throws IOException;
+
+    /**
+     * Write a snapshot holding the latest records
+     */
+    protected abstract void writeSnapshot(OutputStream out, Collection<R> records) throws IOException;
+
+    /**
+     * Read the journal, stopping at the first entry that can't be read.
+     * If it stops early, the next {@link #open} compacts, so new entries aren't appended
+     * after the unreadable one where replay would never reach them.
+     * @param apply Called with each entry in order
+     * @return Number of entries replayed
+     */
+    public int replay(Consumer<R> apply) {
+        unreadableEntry = false;
+        if (!journalFile.exists()) {
+            return 0;
+        }
+
+        int entries = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile)))) {
+            while (true) {
+                R entry;
+                try {
+                    entry = readEntry(in);
+                } catch (EOFException e) {
+                    break;
+                } catch (IOException e) {
+                    // A crash mid-append leaves a torn last entry; everything before it is intact
+                    Tournaments.LOGGER.warn("Ignoring unreadable {} journal entry {}", description, entries + 1);
+                    unreadableEntry = true;
+                    break;
+                }
+
+                apply.accept(entry);
+                entries++;
+            }
+        } catch (IOException e) {
+            Tournaments.LOGGER.error("Failed to read {} journal", description, e);
+        }
+        return entries;
+    }
+
+    /**
+     * Start the background writer
+     * @param records Current records, used for the next snapshot
+     * @param compactNow True to fold a replayed journal into the snapshot right away.
+     *                   Always done if the last replay hit an unreadable entry.
+     */
+    public void open(Map<K, R> records, boolean compactNow) {
+        close();
+
+        Map<K, R> initial = new LinkedHashMap<>(records);
+        boolean compact = compactNow || unreadableEntry;
+        unreadableEntry = false;
+        writer = DataFiles.newWriter("Tournaments " + description + " writer");
+        writer.execute(() -> {
+            latest.clear();
+            latest.putAll(initial);
+            entriesSinceCompaction = 0;
+            if (compact) {
+                compact();
+            }
+        });
+    }
+
+    /**
+     * Queue the current state of a record to be appended
+     */
+    public void append(K key, R record) {
+        execute(() -> store(key, record));
+    }
+
+    /**
+     * Queue the current state of several records to be appended in one write
+     */
+    public void appendAll(Map<K, R> records) {
+        Map<K, R> batch = new LinkedHashMap<>(records);
+        execute(() -> {
+            latest.putAll(batch);
+            writeToJournal(batch.values());
+        });
+    }
+
+    /**
+     * Queue the removal of a record
+     * @param marker Journal entry that tells replay the record is gone
+     */
+    public void appendRemoval(K key, R marker) {
+        execute(() -> {
+            latest.remove(key);
+            writeToJournal(Collections.singletonList(marker));
+        });
+    }
+
+    /**
+     * Write everything queued so far into a new snapshot and wait for it
+     */
+    public void flush() {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.submit(this::compact).get(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            Tournaments.LOGGER.error("Failed to flush {} data", description, e);
+        }
+    }
+
+    /**
+     * Flush and stop the background writer
+     */
+    public void close() {
+        if (writer == null) {
+            return;
+        }
+
+        flush();
+        writer.shutdown();
+        writer = null;
+    }
+
+    /**
+     * Run a task on the writer thread, after everything queued before it
+     */
+    protected void execute(Runnable task) {
+        if (writer != null) {
+            writer.execute(task);
+        }
+    }
+
+    protected File getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * @return The latest records; only to be used on the writer thread
+     */
+    protected Map<K, R> latest() {
+        return latest;
+    }
+
+    /**
+     * Record and journal the new state of a record. Writer thread only.
+     */
+    protected void store(K key, R record) {
+        // Re-added at the end if it was removed, so the snapshot keeps insertion order
+        latest.put(key, record);
+        writeToJournal(Collections.singletonList(record));
+    }
+
+    /**
+     * Append entries to the journal, compacting once enough have built up. The records they
+     * change must already be in {@link #latest()}. Writer thread only.
+     */
+    protected void writeToJournal(Collection<R> entries) {
+        try {
+            DataFiles.append(journalFile, encode(entries));
+        } catch (IOException e) {
+            Tournaments.LOGGER.error("Failed to append to {} journal", description, e);
+            return;
+        }
+
+        entriesSinceCompaction += entries.size();
+        if (entriesSinceCompaction >= compactEvery) {
+            compact();
+        }
+    }
+
+    /**
+     * Append an entry to some other file in the journal's format. Writer thread only.
+     */
+    protected void appendTo(File file, R entry) throws IOException {
+        DataFiles.append(file, encode(Collections.singletonList(entry)));
+    }
+
+    private byte[] encode(Collection<R> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (R entry : entries) {
+            writeEntry(out, entry);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Replace the snapshot with the latest records, then empty the journal.
+     * If we crash in between, replaying the old journal over the new snapshot is harmless.
+     * Writer thread only.
+     */
+    protected void compact() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            writeSnapshot(bytes, latest.values());
+            DataFiles.replace(snapshotFile, bytes.toByteArray());
+
+            // The snapshot holds everything in the journal now
+            DataFiles.truncate(journalFile);
+            entriesSinceCompaction = 0;
+        } catch (IOException e) {
+            Tournaments.LOGGER.error("Failed to compact {} data", description, e);
+        }
+    }
+}
\ No newline at end of file